@@ -0,0 +1,77 @@
+package scotch.compiler;
+
+import static scotch.compiler.Compiler.compiler;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scotch.runtime.AccessorSupport;
+import scotch.runtime.Callable;
+
+/**
+ * Measures record field reads through {@link AccessorSupport}, used when a data value's constructor isn't known, and
+ * through a compiled loop whose accessors invoke the generated getter directly. The compiled loop's score includes the
+ * arithmetic and recursion around each read. Each invocation reads the field {@value #READS} times, so a default run
+ * covers well over 100M reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorBenchmark {
+
+    private static final int READS = 1000;
+
+    private static final String[] program = {
+        "module scotch.bench",
+        "",
+        "data Point { x :: Int, y :: Int }",
+        "",
+        "getX :: Point -> Int",
+        "getX Point { x } = x",
+        "",
+        "sumX :: Point -> Int -> Int -> Int",
+        "sumX p acc n = if n == 0 then acc else sumX p (acc + getX p) (n - 1)",
+        "",
+        "point = Point { x = 1, y = 2 }",
+        "run = sumX point 0 " + READS,
+    };
+
+    private Method   run;
+    private Callable point;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), AccessorBenchmark.class.getClassLoader());
+        resolver.defineAll(compiler(resolver, URI.create("bench://accessor"), program).generateBytecode());
+        Class<?> module = resolver.loadClass("scotch.bench.$$Module");
+        run = module.getMethod("run");
+        point = (Callable) module.getMethod("point").invoke(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public Object accessorSupport() {
+        Object result = null;
+        for (int i = 0; i < READS; i++) {
+            result = AccessorSupport.access(point, "getX").call();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public Object generatedAccessor() throws ReflectiveOperationException {
+        return ((Callable<?>) run.invoke(null)).call();
+    }
+}
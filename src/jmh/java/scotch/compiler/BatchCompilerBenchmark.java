@@ -0,0 +1,64 @@
+package scotch.compiler;
+
+import static scotch.compiler.BatchCompiler.batchCompiler;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.output.GeneratedClass;
+
+/**
+ * Compiles a {@link SyntheticModules#generateProject(int, int) synthetic project} with the {@link BatchCompiler} on
+ * a pool of one thread, giving the time of compiling the modules one after another, and on a pool of one thread per
+ * processor ({@code threads=0}). Every invocation compiles into a fresh resolver, as the classes of each module can be
+ * defined only once.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g", "-Xss16m" })
+@State(Scope.Benchmark)
+public class BatchCompilerBenchmark {
+
+    @Param({ "500" })
+    private int                modules;
+    @Param({ "20" })
+    private int                definitions;
+    @Param({ "1", "0" })
+    private int                threads;
+    private Map<URI, String[]> sources;
+    private ForkJoinPool       pool;
+
+    @Setup
+    public void setUp() {
+        sources = SyntheticModules.generateProject(modules, definitions);
+        pool = new ForkJoinPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<GeneratedClass> compileProject() {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), BatchCompilerBenchmark.class.getClassLoader());
+        return batchCompiler(resolver, sources).withPool(pool).generateBytecode();
+    }
+}
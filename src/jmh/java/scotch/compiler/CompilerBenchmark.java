@@ -0,0 +1,184 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.analyzer.DependencyAccumulator;
+import scotch.compiler.analyzer.NameAccumulator;
+import scotch.compiler.analyzer.OperatorAccumulator;
+import scotch.compiler.analyzer.PatternAnalyzer;
+import scotch.compiler.analyzer.PrecedenceParser;
+import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
+import scotch.compiler.analyzer.TypeChecker;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateGraph;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.parser.InputParser;
+import scotch.compiler.scanner.Scanner;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.target.BytecodeGenerator;
+
+/**
+ * Measures each stage of the {@link Compiler} on its own, over {@link SyntheticModules} of increasing size. The input
+ * of every stage is prepared once per trial by running the stages before it, except for name accumulation, which
+ * defines names in the scopes of its input and so is given a freshly parsed graph every invocation. Run a single
+ * size with {@code gradle jmh -Pjmh.include=CompilerBenchmark -Pjmh.params=definitions=1000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g", "-Xss16m" })
+@State(Scope.Benchmark)
+public class CompilerBenchmark {
+
+    private static final URI source = URI.create("bench://synthetic");
+
+    @Param({ "1000", "10000", "100000" })
+    private int                 definitions;
+    private String[]            lines;
+    private ClassLoaderResolver resolver;
+    private DefinitionGraph     parsed;
+    private DefinitionGraph     operators;
+    private DefinitionGraph     names;
+    private DefinitionGraph     qualified;
+    private DefinitionGraph     patterns;
+    private DefinitionGraph     dependencies;
+    private DefinitionGraph     types;
+    private DefinitionGraph     strictness;
+    private IntermediateGraph   intermediate;
+
+    @Setup
+    public void setUp() {
+        lines = SyntheticModules.generate(definitions);
+        resolver = new ClassLoaderResolver(Optional.empty(), CompilerBenchmark.class.getClassLoader());
+        parsed = parseInput();
+        operators = accumulateOperators(parsed);
+        names = accumulateNames(parsePrecedence(operators));
+        qualified = qualifyNames(names);
+        patterns = reducePatterns(qualified);
+        dependencies = accumulateDependencies(patterns);
+        types = checkTypes(dependencies);
+        if (types.hasErrors()) {
+            throw new IllegalStateException("Synthetic modules failed to compile");
+        }
+        strictness = analyzeStrictness(types);
+        intermediate = generateIntermediateCode(strictness);
+    }
+
+    @Benchmark
+    public DefinitionGraph parseInput() {
+        return new InputParser(resolver, Scanner.forString(source, lines)).parse();
+    }
+
+    @Benchmark
+    public DefinitionGraph accumulateOperators() {
+        return accumulateOperators(parsed);
+    }
+
+    @Benchmark
+    public DefinitionGraph parsePrecedence() {
+        return parsePrecedence(operators);
+    }
+
+    @Benchmark
+    public DefinitionGraph accumulateNames(UnnamedGraph unnamed) {
+        return accumulateNames(unnamed.graph);
+    }
+
+    @Benchmark
+    public DefinitionGraph qualifyNames() {
+        return qualifyNames(names);
+    }
+
+    @Benchmark
+    public DefinitionGraph reducePatterns() {
+        return reducePatterns(qualified);
+    }
+
+    @Benchmark
+    public DefinitionGraph accumulateDependencies() {
+        return accumulateDependencies(patterns);
+    }
+
+    @Benchmark
+    public DefinitionGraph checkTypes() {
+        return checkTypes(dependencies);
+    }
+
+    @Benchmark
+    public DefinitionGraph analyzeStrictness() {
+        return analyzeStrictness(types);
+    }
+
+    @Benchmark
+    public IntermediateGraph generateIntermediateCode() {
+        return generateIntermediateCode(strictness);
+    }
+
+    @Benchmark
+    public List<GeneratedClass> generateBytecode() {
+        return new BytecodeGenerator(intermediate).generateBytecode();
+    }
+
+    private DefinitionGraph accumulateDependencies(DefinitionGraph graph) {
+        return new DependencyAccumulator(graph).accumulateDependencies();
+    }
+
+    private DefinitionGraph accumulateNames(DefinitionGraph graph) {
+        return new NameAccumulator(graph).accumulateNames();
+    }
+
+    private DefinitionGraph accumulateOperators(DefinitionGraph graph) {
+        return new OperatorAccumulator(graph).accumulateOperators();
+    }
+
+    private DefinitionGraph analyzeStrictness(DefinitionGraph graph) {
+        return new StrictnessAnalyzer(graph).analyzeStrictness();
+    }
+
+    private DefinitionGraph checkTypes(DefinitionGraph graph) {
+        return new TypeChecker(graph).checkTypes();
+    }
+
+    private IntermediateGraph generateIntermediateCode(DefinitionGraph graph) {
+        return new IntermediateGenerator(graph).generateIntermediateCode();
+    }
+
+    private DefinitionGraph parsePrecedence(DefinitionGraph graph) {
+        return new PrecedenceParser(graph).parsePrecedence();
+    }
+
+    private DefinitionGraph qualifyNames(DefinitionGraph graph) {
+        return new ScopedNameQualifier(graph).qualifyNames();
+    }
+
+    private DefinitionGraph reducePatterns(DefinitionGraph graph) {
+        return new PatternAnalyzer(graph).reducePatterns();
+    }
+
+    @State(Scope.Thread)
+    public static class UnnamedGraph {
+
+        private DefinitionGraph graph;
+
+        @Setup(Level.Invocation)
+        public void setUp(CompilerBenchmark benchmark) {
+            graph = benchmark.parsePrecedence(benchmark.accumulateOperators(benchmark.parseInput()));
+        }
+    }
+}
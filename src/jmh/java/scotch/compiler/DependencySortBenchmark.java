@@ -0,0 +1,60 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.analyzer.DependencyAccumulator;
+import scotch.compiler.analyzer.NameAccumulator;
+import scotch.compiler.analyzer.OperatorAccumulator;
+import scotch.compiler.analyzer.PatternAnalyzer;
+import scotch.compiler.analyzer.PrecedenceParser;
+import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.parser.InputParser;
+import scotch.compiler.scanner.Scanner;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+/**
+ * Sorts the values of {@link SyntheticModules} of increasing size by their dependencies, which should take time linear
+ * in the number of definitions. The graph is prepared once per trial by running the stages of the {@link Compiler}
+ * up to and including dependency accumulation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g", "-Xss16m" })
+@State(Scope.Benchmark)
+public class DependencySortBenchmark {
+
+    private static final URI source = URI.create("bench://synthetic");
+
+    @Param({ "1000", "10000", "50000", "200000" })
+    private int             definitions;
+    private DefinitionGraph graph;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), DependencySortBenchmark.class.getClassLoader());
+        DefinitionGraph parsed = new InputParser(resolver, Scanner.forString(source, SyntheticModules.generate(definitions))).parse();
+        DefinitionGraph operators = new OperatorAccumulator(parsed).accumulateOperators();
+        DefinitionGraph names = new NameAccumulator(new PrecedenceParser(operators).parsePrecedence()).accumulateNames();
+        DefinitionGraph patterns = new PatternAnalyzer(new ScopedNameQualifier(names).qualifyNames()).reducePatterns();
+        graph = new DependencyAccumulator(patterns).accumulateDependencies();
+    }
+
+    @Benchmark
+    public DefinitionGraph sort() {
+        return graph.sort();
+    }
+}
@@ -0,0 +1,86 @@
+package scotch.compiler;
+
+import static scotch.compiler.Compiler.compiler;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scotch.runtime.Callable;
+
+/**
+ * Compares saturated calls to functions of known arity, which invoke the function's direct method, against the same
+ * calls made through a function argument, which apply the curried form one argument at a time. Run with
+ * {@code gradle jmh -Pjmh.include=DirectCallBenchmark -Pjmh.profilers=gc} to compare allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectCallBenchmark {
+
+    private static final String[] program = {
+        "module scotch.bench",
+        "",
+        "add3 :: Int -> Int -> Int -> Int",
+        "add3 a b c = a + b + c",
+        "",
+        "add5 :: Int -> Int -> Int -> Int -> Int -> Int",
+        "add5 a b c d e = a + b + c + d + e",
+        "",
+        "call3 :: (Int -> Int -> Int -> Int) -> Int",
+        "call3 f = f 1 2 3",
+        "",
+        "call5 :: (Int -> Int -> Int -> Int -> Int -> Int) -> Int",
+        "call5 f = f 1 2 3 4 5",
+        "",
+        "direct3 = add3 1 2 3",
+        "direct5 = add5 1 2 3 4 5",
+        "curried3 = call3 add3",
+        "curried5 = call5 add5",
+    };
+
+    private Method direct3;
+    private Method direct5;
+    private Method curried3;
+    private Method curried5;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), DirectCallBenchmark.class.getClassLoader());
+        resolver.defineAll(compiler(resolver, URI.create("bench://direct-call"), program).generateBytecode());
+        Class<?> module = resolver.loadClass("scotch.bench.$$Module");
+        direct3 = module.getMethod("direct3");
+        direct5 = module.getMethod("direct5");
+        curried3 = module.getMethod("curried3");
+        curried5 = module.getMethod("curried5");
+    }
+
+    @Benchmark
+    public Object curried3() throws ReflectiveOperationException {
+        return ((Callable<?>) curried3.invoke(null)).call();
+    }
+
+    @Benchmark
+    public Object curried5() throws ReflectiveOperationException {
+        return ((Callable<?>) curried5.invoke(null)).call();
+    }
+
+    @Benchmark
+    public Object direct3() throws ReflectiveOperationException {
+        return ((Callable<?>) direct3.invoke(null)).call();
+    }
+
+    @Benchmark
+    public Object direct5() throws ReflectiveOperationException {
+        return ((Callable<?>) direct5.invoke(null)).call();
+    }
+}
@@ -0,0 +1,65 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.analyzer.TypeChecker;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+/**
+ * Infers the type of an expression which nests applications of the identity function {@code depth} deep. Each
+ * application binds the variables of its lambda to those of the next, so the target of the outermost variable is found
+ * at the end of a chain as long as the expression is deep.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = { "-Xss64m" })
+@State(Scope.Benchmark)
+public class InferenceBenchmark {
+
+    private static final URI source = URI.create("bench://inference");
+
+    @Param({ "100", "500", "2000" })
+    private int                 depth;
+    private ClassLoaderResolver resolver;
+    private String[]            lines;
+    private DefinitionGraph     graph;
+
+    @Setup
+    public void setUp() {
+        resolver = new ClassLoaderResolver(Optional.empty(), InferenceBenchmark.class.getClassLoader());
+        StringBuilder builder = new StringBuilder("nested = ");
+        for (int i = 0; i < depth; i++) {
+            builder.append("(\\x -> x) (");
+        }
+        builder.append("1");
+        for (int i = 0; i < depth; i++) {
+            builder.append(")");
+        }
+        lines = new String[] { "module scotch.bench", "", builder.toString() };
+    }
+
+    @Setup(Level.Invocation)
+    public void accumulateDependencies() {
+        graph = Compiler.compiler(resolver, source, lines).accumulateDependencies();
+    }
+
+    @Benchmark
+    public DefinitionGraph checkTypes() {
+        return new TypeChecker(graph).checkTypes();
+    }
+}
@@ -0,0 +1,110 @@
+package scotch.compiler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves modules with a fresh {@link ClassLoaderResolver} over a class path of large jars, each of which has a
+ * package for every module besides its bulk of unrelated classes. With {@code cold=true} the jars are touched before
+ * every invocation, so that their {@link JarIndex indexes} are read again; otherwise the indexes of the previous
+ * invocation are reused.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JarIndexBenchmark {
+
+    @Param({ "4" })
+    private int        jars;
+    @Param({ "50" })
+    private int        megabytes;
+    @Param({ "20" })
+    private int        modules;
+    @Param({ "false", "true" })
+    private boolean    cold;
+    private List<Path> jarFiles;
+    private URL[]      urls;
+    private long       touches;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(0);
+        byte[] bytes = new byte[10 * 1024];
+        jarFiles = new ArrayList<>();
+        for (int i = 0; i < jars; i++) {
+            Path jar = Files.createTempFile("scotch-bench", ".jar");
+            try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+                for (int m = 0; m < modules; m++) {
+                    output.putNextEntry(new ZipEntry("scotch/bench/m" + m + "/"));
+                    output.closeEntry();
+                }
+                for (int c = 0; c < megabytes * 100; c++) {
+                    output.putNextEntry(new ZipEntry("bench/filler/p" + (c / 100) + "/C" + c + ".class"));
+                    random.nextBytes(bytes);
+                    output.write(bytes);
+                    output.closeEntry();
+                }
+            }
+            jarFiles.add(jar);
+        }
+        urls = new URL[jarFiles.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = jarFiles.get(i).toUri().toURL();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void touchJars() throws IOException {
+        if (cold) {
+            touches++;
+            for (Path jar : jarFiles) {
+                Files.setLastModifiedTime(jar, FileTime.fromMillis(touches * 1000));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path jar : jarFiles) {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Benchmark
+    public int resolveModules() throws IOException {
+        try (ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), urls, getClass().getClassLoader())) {
+            int instances = 0;
+            for (int m = 0; m < modules; m++) {
+                instances += resolver.getTypeInstancesByModule("scotch.bench.m" + m).size();
+            }
+            return instances;
+        }
+    }
+}
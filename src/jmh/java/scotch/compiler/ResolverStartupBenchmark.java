@@ -0,0 +1,111 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.Symbol.moduleName;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.data.num.Num;
+
+/**
+ * Resolves every module of {@code scotch.data.*} with a fresh {@link ClassLoaderResolver}, from a copy of their classes
+ * alone ({@code cached=false}), which loads and scans every class, and from a copy with their
+ * {@link ModuleInterface interfaces} ({@code cached=true}). The copies are hidden from the resolver's parent, so that
+ * every invocation loads the classes it scans anew.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolverStartupBenchmark {
+
+    private static final String PACKAGE_PATH = "scotch/data";
+
+    @Param({ "false", "true" })
+    private boolean      cached;
+    private Path         classesDir;
+    private List<String> modules;
+    private ClassLoader  parent;
+
+    @Setup
+    public void setUp() throws IOException, URISyntaxException, ClassNotFoundException {
+        Path source = Paths.get(Num.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        classesDir = Files.createTempDirectory("scotch-interfaces");
+        try (Stream<Path> files = Files.walk(source.resolve(PACKAGE_PATH))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.toString().endsWith(".class")) {
+                    Path target = classesDir.resolve(source.relativize(file).toString());
+                    Files.createDirectories(target.getParent());
+                    Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        if (cached) {
+            new InterfaceGenerator(classesDir, classesDir).generateInterfaces();
+        }
+        try (Stream<Path> directories = Files.walk(classesDir.resolve(PACKAGE_PATH))) {
+            modules = directories
+                .filter(Files::isDirectory)
+                .map(directory -> classesDir.relativize(directory).toString().replace(directory.getFileSystem().getSeparator(), "."))
+                .map(packageName -> moduleName(packageName))
+                .collect(toList());
+        }
+        parent = new HidingClassLoader(getClass().getClassLoader());
+    }
+
+    @Benchmark
+    public int resolveModules() throws IOException {
+        try (ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), new URL[] { classesDir.toUri().toURL() }, parent)) {
+            int instances = 0;
+            for (String module : modules) {
+                instances += resolver.getTypeInstancesByModule(module).size();
+            }
+            return instances;
+        }
+    }
+
+    private static final class HidingClassLoader extends ClassLoader {
+
+        public HidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return name.startsWith(PACKAGE_PATH) ? Collections.emptyEnumeration() : super.getResources(name);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(PACKAGE_PATH.replace('/', '.') + ".")) {
+                throw new ClassNotFoundException(name);
+            } else {
+                return super.loadClass(name, resolve);
+            }
+        }
+    }
+}
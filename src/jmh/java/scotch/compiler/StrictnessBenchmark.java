@@ -0,0 +1,65 @@
+package scotch.compiler;
+
+import static scotch.compiler.Compiler.compiler;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.Callable;
+
+/**
+ * Runs the same program compiled with and without the {@link scotch.compiler.analyzer.StrictnessAnalyzer}. Run with
+ * {@code gradle jmh -Pjmh.include=StrictnessBenchmark -Pjmh.profilers=gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrictnessBenchmark {
+
+    private static final String[] program = {
+        "module scotch.bench",
+        "",
+        "sumTo :: Int -> Int -> Int",
+        "sumTo acc n = if n == 0 then acc else sumTo (acc + n) (n - 1)",
+        "",
+        "run = sumTo 0 1000",
+    };
+
+    @Param({ "true", "false" })
+    private boolean strictness;
+    private Method  run;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), StrictnessBenchmark.class.getClassLoader());
+        Compiler compiler = compiler(resolver, URI.create("bench://strictness"), program);
+        List<GeneratedClass> generatedClasses;
+        if (strictness) {
+            generatedClasses = compiler.generateBytecode();
+        } else {
+            generatedClasses = new BytecodeGenerator(new IntermediateGenerator(compiler.checkTypes()).generateIntermediateCode()).generateBytecode();
+        }
+        resolver.defineAll(generatedClasses);
+        run = resolver.loadClass("scotch.bench.$$Module").getMethod("run");
+    }
+
+    @Benchmark
+    public Object sumTo() throws ReflectiveOperationException {
+        return ((Callable<?>) run.invoke(null)).call();
+    }
+}
@@ -0,0 +1,94 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates Scotch source with any number of definitions for benchmarking the compiler. Definitions are split across
+ * modules of {@value #MODULE_SIZE} so that no generated module class outgrows the limits of a class file, and cycle
+ * through functions with signatures, conditionals, pattern matches, list literals and type class members, each
+ * referring to the definition before it.
+ */
+public final class SyntheticModules {
+
+    public static final int MODULE_SIZE = 1000;
+
+    /**
+     * Generates the source lines.
+     *
+     * @param definitions The number of definitions to generate.
+     * @return The lines.
+     */
+    public static String[] generate(int definitions) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < definitions; i++) {
+            if (i % MODULE_SIZE == 0) {
+                lines.add("module scotch.bench.m" + i / MODULE_SIZE);
+                lines.add("");
+            }
+            definition(lines, "f", i);
+        }
+        return lines.toArray(new String[lines.size()]);
+    }
+
+    /**
+     * Generates a project of modules, each in its own source. Every module but the first imports the module at half
+     * its index, so that the imports form a balanced tree of modules that may be compiled side by side, and its first
+     * definition refers to the first definition of the module it imports.
+     *
+     * @param modules     The number of modules to generate.
+     * @param definitions The number of definitions in each module.
+     * @return The source lines of each module, by source.
+     */
+    public static Map<URI, String[]> generateProject(int modules, int definitions) {
+        Map<URI, String[]> sources = new LinkedHashMap<>();
+        for (int m = 0; m < modules; m++) {
+            List<String> lines = new ArrayList<>();
+            lines.add("module scotch.bench.p" + m);
+            if (m > 0) {
+                lines.add("import scotch.bench.p" + (m - 1) / 2);
+            }
+            lines.add("");
+            for (int i = 0; i < definitions; i++) {
+                if (i == 0 && m > 0) {
+                    lines.add("p" + m + "f0 :: Int -> Int -> Int");
+                    lines.add("p" + m + "f0 a b = p" + (m - 1) / 2 + "f0 a b + 1");
+                    lines.add("");
+                } else {
+                    definition(lines, "p" + m + "f", i);
+                }
+            }
+            sources.put(URI.create("bench://project/p" + m), lines.toArray(new String[lines.size()]));
+        }
+        return sources;
+    }
+
+    private static void definition(List<String> lines, String prefix, int i) {
+        switch (i % 4) {
+            case 0:
+                lines.add(prefix + i + " :: Int -> Int -> Int");
+                lines.add(prefix + i + " a b = a * b + " + i);
+                break;
+            case 1:
+                lines.add(prefix + i + " :: Int -> Int");
+                lines.add(prefix + i + " x = if x > " + i + " then " + prefix + (i - 1) + " x " + i + " else x - 1");
+                break;
+            case 2:
+                lines.add(prefix + i + " :: [Int] -> Int");
+                lines.add(prefix + i + " [] = " + i);
+                lines.add(prefix + i + " (x:_) = " + prefix + (i - 1) + " x");
+                break;
+            default:
+                lines.add(prefix + i + " = " + prefix + (i - 1) + " [" + i + ", " + i + " + 1] == " + i);
+                break;
+        }
+        lines.add("");
+    }
+
+    private SyntheticModules() {
+        // intentionally empty
+    }
+}
@@ -0,0 +1,78 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.analyzer.TypeChecker;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+/**
+ * Checks the types of the inputs of the type checker's integration tests, each repeated {@code copies} times under
+ * its own names. Run with {@code gradle jmh -Pjmh.include=TypeCheckAllocationBenchmark -Pjmh.profilers=gc} to see how
+ * much is allocated while inferring types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+@State(Scope.Benchmark)
+public class TypeCheckAllocationBenchmark {
+
+    private static final URI source = URI.create("bench://allocation");
+
+    @Param({ "100" })
+    private int                 copies;
+    private ClassLoaderResolver resolver;
+    private String[]            lines;
+    private DefinitionGraph     graph;
+
+    @Setup
+    public void setUp() {
+        resolver = new ClassLoaderResolver(Optional.empty(), TypeCheckAllocationBenchmark.class.getClassLoader());
+        List<String> program = new ArrayList<>();
+        program.add("module scotch.bench");
+        program.add("import scotch.data.num");
+        program.add("");
+        for (int i = 0; i < copies; i++) {
+            program.add("tuple" + i + " = (1, 2, " + i + ")");
+            program.add("list" + i + " = [1, 2, " + i + "]");
+            program.add("just" + i + " = do");
+            program.add("    x <- Just 3");
+            program.add("    y <- Just " + i);
+            program.add("    return $ x + y");
+            program.add("nothing" + i + " = do");
+            program.add("    x <- Just 3");
+            program.add("    y <- Nothing");
+            program.add("    return $ x + y");
+            program.add("second" + i + " (_, b) = b");
+            program.add("third" + i + " (_, (_, c)) = c");
+            program.add("");
+        }
+        lines = program.toArray(new String[program.size()]);
+    }
+
+    @Setup(Level.Invocation)
+    public void accumulateDependencies() {
+        graph = Compiler.compiler(resolver, source, lines).accumulateDependencies();
+    }
+
+    @Benchmark
+    public DefinitionGraph checkTypes() {
+        return new TypeChecker(graph).checkTypes();
+    }
+}
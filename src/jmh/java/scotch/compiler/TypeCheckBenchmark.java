@@ -0,0 +1,76 @@
+package scotch.compiler;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.analyzer.TypeChecker;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+/**
+ * Checks the types of {@link SyntheticModules} sequentially ({@code threads=0}) and in parallel with pools of
+ * increasing size. Type checking updates the scopes of the graph, so every invocation checks a freshly accumulated
+ * graph. Compare the scores on a machine with at least as many cores as the largest pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = { "-Xmx4g", "-Xss16m" })
+@State(Scope.Benchmark)
+public class TypeCheckBenchmark {
+
+    private static final URI source = URI.create("bench://synthetic");
+
+    @Param({ "10000" })
+    private int                 definitions;
+    @Param({ "0", "1", "2", "4", "8" })
+    private int                 threads;
+    private ClassLoaderResolver resolver;
+    private String[]            lines;
+    private ForkJoinPool        pool;
+    private DefinitionGraph     graph;
+
+    @Setup
+    public void setUp() {
+        resolver = new ClassLoaderResolver(Optional.empty(), TypeCheckBenchmark.class.getClassLoader());
+        lines = SyntheticModules.generate(definitions);
+        if (threads > 0) {
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void accumulateDependencies() {
+        graph = Compiler.compiler(resolver, source, lines).accumulateDependencies();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public DefinitionGraph checkTypes() {
+        if (pool == null) {
+            return new TypeChecker(graph).checkTypes();
+        } else {
+            return new TypeChecker(graph).checkTypes(pool);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.symbol.Symbol;
+import scotch.symbol.type.Type;
+
+/**
+ * Looks up the {@code Eq} instances of the standard library types through a {@link ClassLoaderResolver} which has
+ * already found them, the way the type checker does for every use of a type class member. With
+ * {@code concrete=false} the element of the list type is a type variable, so that its lookup is answered from the
+ * index of instances rather than from the instances remembered for concrete types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeInstanceLookupBenchmark {
+
+    private static final Symbol eq = symbol("scotch.data.eq.Eq");
+
+    @Param({ "false", "true" })
+    private boolean             concrete;
+    private ClassLoaderResolver resolver;
+    private List<List<Type>>    types;
+
+    @Setup
+    public void setUp() {
+        resolver = new ClassLoaderResolver(Optional.empty(), TypeInstanceLookupBenchmark.class.getClassLoader());
+        Type element = concrete ? sum("scotch.data.int.Int") : var("a", asList("scotch.data.eq.Eq"));
+        types = asList(
+            asList(sum("scotch.data.int.Int")),
+            asList(sum("scotch.data.double.Double")),
+            asList(sum("scotch.data.bool.Bool")),
+            asList(sum("scotch.data.string.String")),
+            asList(sum("scotch.data.list.[]", asList(element)))
+        );
+        lookUpInstances();
+    }
+
+    @Benchmark
+    public int lookUpInstances() {
+        int instances = 0;
+        for (List<Type> parameters : types) {
+            instances += resolver.getTypeInstances(eq, parameters).size();
+        }
+        return instances;
+    }
+}
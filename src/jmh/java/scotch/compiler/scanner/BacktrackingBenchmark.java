@@ -0,0 +1,65 @@
+package scotch.compiler.scanner;
+
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans inputs that stack up the scanner's state or make it save and restore it: comments nested to the given depth
+ * followed by decimal literals, and lines of operators between decimal literals, some of which are followed by
+ * identifiers and so are backed out of.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BacktrackingBenchmark {
+
+    private static final URI source = URI.create("bench://backtracking");
+
+    @Param({ "10", "1000" })
+    private int    depth;
+    private String comments;
+    private String operators;
+
+    @Setup
+    public void setUp() {
+        comments = StringUtils.repeat("/* nested ", depth) + "1.5 * 2.25" + StringUtils.repeat(" */", depth)
+            + "\n" + StringUtils.repeat("x = 1.5 + 2.25\n", depth);
+        operators = StringUtils.repeat("x = 1.5 +. 2.25 *> 3.0 <$> 4.5x >>= 5.25 - 6.1abc / 7.0\n", depth);
+    }
+
+    @Benchmark
+    public int scanNestedComments() {
+        return scan(comments);
+    }
+
+    @Benchmark
+    public int scanOperators() {
+        return scan(operators);
+    }
+
+    private int scan(String text) {
+        Scanner scanner = Scanner.forString(source, text);
+        int tokens = 0;
+        while (scanner.nextToken().getKind() != EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,72 @@
+package scotch.compiler.scanner;
+
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans a line of source holding a few string literals and identifiers of the given length, with and without escapes,
+ * measuring how scanning time grows with the length of a token. Divide the number of characters by the time per
+ * operation for throughput.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongTokenBenchmark {
+
+    private static final URI source = URI.create("bench://long-tokens");
+
+    @Param({ "100", "10000", "100000" })
+    private int    length;
+    private String identifiers;
+    private String strings;
+    private String escapedStrings;
+
+    @Setup
+    public void setUp() {
+        String word = StringUtils.repeat("w", length);
+        identifiers = StringUtils.repeat(word + "1 " + word + "2 ", 4);
+        strings = StringUtils.repeat("\"" + word + "\" ", 8);
+        escapedStrings = StringUtils.repeat("\"" + StringUtils.repeat("\\t", length / 2) + "\" ", 8);
+    }
+
+    @Benchmark
+    public int scanIdentifiers() {
+        return scan(identifiers);
+    }
+
+    @Benchmark
+    public int scanStrings() {
+        return scan(strings);
+    }
+
+    @Benchmark
+    public int scanEscapedStrings() {
+        return scan(escapedStrings);
+    }
+
+    private int scan(String text) {
+        Scanner scanner = Scanner.forString(source, text);
+        int tokens = 0;
+        while (scanner.nextToken().getKind() != EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,71 @@
+package scotch.compiler.scanner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.SyntheticModules;
+
+/**
+ * Scans every token of a generated source file of {@code megabytes} MB through {@link Scanner#forFile(Path)}, so the
+ * file size divided by the score gives the scanning rate. Run with {@code -prof gc} to see the bytes allocated per
+ * scan ({@code gc.alloc.rate.norm}) stay about the same for either size, as the file is never copied onto the heap.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx1g" })
+@State(Scope.Benchmark)
+public class ScannerBenchmark {
+
+    @Param({ "20", "200" })
+    private int  megabytes;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("scanner-benchmark", ".scotch");
+        String[] lines = SyntheticModules.generate(SyntheticModules.MODULE_SIZE);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+            while (Files.size(file) < megabytes * 1024L * 1024L) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+                writer.flush();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int scanFile() {
+        Scanner scanner = Scanner.forFile(file);
+        int tokens = 0;
+        while (scanner.nextToken().getKind() != EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,60 @@
+package scotch.compiler.scanner;
+
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.SyntheticModules;
+
+/**
+ * Scans generated modules through the layout scanner, as the parser sees them, starting over at the end of the
+ * module. Each operation is a single token, so that with {@code -prof gc} the reported {@code gc.alloc.rate.norm} is
+ * the bytes allocated per token scanned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenBenchmark {
+
+    private static final URI source = URI.create("bench://tokens");
+    private static final int TOKENS = 1024;
+
+    @Param({ "10000" })
+    private int      definitions;
+    private String[] lines;
+    private Scanner  scanner;
+
+    @Setup
+    public void setUp() {
+        lines = SyntheticModules.generate(definitions);
+        scanner = Scanner.forString(source, lines);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public Token scanTokens() {
+        Token token = null;
+        for (int i = 0; i < TOKENS; i++) {
+            token = scanner.nextToken();
+            if (token.getKind() == EOF) {
+                scanner = Scanner.forString(source, lines);
+            }
+        }
+        return token;
+    }
+}
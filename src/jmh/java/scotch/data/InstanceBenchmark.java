@@ -0,0 +1,141 @@
+package scotch.data;
+
+import static java.lang.invoke.MethodType.methodType;
+import static scotch.compiler.Compiler.compiler;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.runtime.Callable;
+
+/**
+ * Measures the {@code Eq}, {@code Ord} and {@code Num} instances for {@code Int} and {@code Double}, used both from
+ * monomorphic functions and through functions constrained on the type class, which are given the instance as a
+ * dictionary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstanceBenchmark {
+
+    private static final String[] program = {
+        "module scotch.bench",
+        "import scotch.data.eq",
+        "import scotch.data.num",
+        "import scotch.data.ord",
+        "",
+        "eqAny :: (Eq a) => a -> a -> Bool",
+        "eqAny a b = a == b",
+        "",
+        "maxAny :: (Ord a) => a -> a -> a",
+        "maxAny a b = max a b",
+        "",
+        "addAny :: (Num a) => a -> a -> a",
+        "addAny a b = a * b + a",
+        "",
+        "eqInt :: Int -> Int -> Bool",
+        "eqInt a b = a == b",
+        "",
+        "eqIntDictionary :: Int -> Int -> Bool",
+        "eqIntDictionary a b = eqAny a b",
+        "",
+        "maxInt :: Int -> Int -> Int",
+        "maxInt a b = max a b",
+        "",
+        "maxIntDictionary :: Int -> Int -> Int",
+        "maxIntDictionary a b = maxAny a b",
+        "",
+        "addInt :: Int -> Int -> Int",
+        "addInt a b = a * b + a",
+        "",
+        "addIntDictionary :: Int -> Int -> Int",
+        "addIntDictionary a b = addAny a b",
+        "",
+        "addDouble :: Double -> Double -> Double",
+        "addDouble a b = a * b + a",
+        "",
+        "addDoubleDictionary :: Double -> Double -> Double",
+        "addDoubleDictionary a b = addAny a b",
+    };
+
+    private MethodHandle eqInt;
+    private MethodHandle eqIntDictionary;
+    private MethodHandle maxInt;
+    private MethodHandle maxIntDictionary;
+    private MethodHandle addInt;
+    private MethodHandle addIntDictionary;
+    private MethodHandle addDouble;
+    private MethodHandle addDoubleDictionary;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), InstanceBenchmark.class.getClassLoader());
+        resolver.defineAll(compiler(resolver, URI.create("bench://instance"), program).generateBytecode());
+        Class<?> module = resolver.loadClass("scotch.bench.$$Module");
+        eqInt = function(module, "eqInt");
+        eqIntDictionary = function(module, "eqIntDictionary");
+        maxInt = function(module, "maxInt");
+        maxIntDictionary = function(module, "maxIntDictionary");
+        addInt = function(module, "addInt");
+        addIntDictionary = function(module, "addIntDictionary");
+        addDouble = function(module, "addDouble");
+        addDoubleDictionary = function(module, "addDoubleDictionary");
+    }
+
+    @Benchmark
+    public Object eqInt() throws Throwable {
+        return ((Callable<?>) eqInt.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object eqIntDictionary() throws Throwable {
+        return ((Callable<?>) eqIntDictionary.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object maxInt() throws Throwable {
+        return ((Callable<?>) maxInt.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object maxIntDictionary() throws Throwable {
+        return ((Callable<?>) maxIntDictionary.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object addInt() throws Throwable {
+        return ((Callable<?>) addInt.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object addIntDictionary() throws Throwable {
+        return ((Callable<?>) addIntDictionary.invoke(box(3), box(4))).call();
+    }
+
+    @Benchmark
+    public Object addDouble() throws Throwable {
+        return ((Callable<?>) addDouble.invoke(box(3.0), box(4.0))).call();
+    }
+
+    @Benchmark
+    public Object addDoubleDictionary() throws Throwable {
+        return ((Callable<?>) addDoubleDictionary.invoke(box(3.0), box(4.0))).call();
+    }
+
+    private MethodHandle function(Class<?> module, String name) throws ReflectiveOperationException {
+        return MethodHandles.publicLookup().findStatic(module, name + "$direct", methodType(Callable.class, Callable.class, Callable.class));
+    }
+}
@@ -0,0 +1,107 @@
+package scotch.data;
+
+import static java.lang.invoke.MethodType.methodType;
+import static scotch.compiler.Compiler.compiler;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.data.list.ConsList;
+import scotch.runtime.Callable;
+
+/**
+ * Measures compiled Scotch code walking, building and comparing {@link ConsList}s. Lists given to the compiled
+ * functions are built once per trial, so walking and comparing them measures traversal of evaluated cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    private static final String[] program = {
+        "module scotch.bench",
+        "",
+        "build :: Int -> [Int] -> [Int]",
+        "build n acc = if n == 0 then acc else build (n - 1) (n : acc)",
+        "",
+        "size :: Int -> [a] -> Int",
+        "size acc [] = acc",
+        "size acc (_:xs) = size (acc + 1) xs",
+        "",
+        "total :: Int -> [Int] -> Int",
+        "total acc [] = acc",
+        "total acc (x:xs) = total (acc + x) xs",
+        "",
+        "same :: [Int] -> [Int] -> Bool",
+        "same a b = a == b",
+    };
+
+    @Param({ "1000" })
+    private int                   length;
+    private Callable<ConsList<?>> numbers;
+    private Callable<ConsList<?>> sameNumbers;
+    private MethodHandle          build;
+    private MethodHandle          size;
+    private MethodHandle          total;
+    private MethodHandle          same;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), ListBenchmark.class.getClassLoader());
+        resolver.defineAll(compiler(resolver, URI.create("bench://list"), program).generateBytecode());
+        Class<?> module = resolver.loadClass("scotch.bench.$$Module");
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        build = lookup.findStatic(module, "build$direct", methodType(Callable.class, Callable.class, Callable.class));
+        size = lookup.findStatic(module, "size$direct", methodType(Callable.class, Callable.class, Callable.class));
+        total = lookup.findStatic(module, "total$direct", methodType(Callable.class, Callable.class, Callable.class));
+        same = lookup.findStatic(module, "same$direct", methodType(Callable.class, Callable.class, Callable.class));
+        numbers = box(numbers());
+        sameNumbers = box(numbers());
+    }
+
+    @Benchmark
+    public Object build() throws Throwable {
+        return size((Callable<?>) build.invoke(box(length), ConsList.empty()));
+    }
+
+    @Benchmark
+    public Object size() throws Throwable {
+        return size(numbers);
+    }
+
+    @Benchmark
+    public Object total() throws Throwable {
+        return ((Callable<?>) total.invoke(box(0), numbers)).call();
+    }
+
+    @Benchmark
+    public Object same() throws Throwable {
+        return ((Callable<?>) same.invoke(numbers, sameNumbers)).call();
+    }
+
+    private ConsList<?> numbers() {
+        Integer[] values = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        return ConsList.eagerCons(values);
+    }
+
+    private Object size(Callable<?> list) throws Throwable {
+        return ((Callable<?>) size.invoke(box(0), list)).call();
+    }
+}
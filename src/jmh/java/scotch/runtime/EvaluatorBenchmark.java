@@ -0,0 +1,60 @@
+package scotch.runtime;
+
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.intCallable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Forces chains of dependent thunks, each adding one to the thunk before it, as a lazy left fold would build. Every
+ * invocation forces a fresh chain, which overflows the stack unless the {@link Evaluator} unwinds it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class EvaluatorBenchmark {
+
+    @Param({ "10000000" })
+    private int               depth;
+    private Callable<Integer> chain;
+    private Callable<Integer> intChain;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        chain = box(0);
+        intChain = box(0);
+        for (int i = 0; i < depth; i++) {
+            Callable<Integer> previous = chain;
+            Callable<Integer> previousInt = intChain;
+            chain = callable(() -> previous.call() + 1);
+            intChain = intCallable(() -> unboxInt(previousInt) + 1);
+        }
+    }
+
+    @Benchmark
+    public Integer forceChain() {
+        return chain.call();
+    }
+
+    @Benchmark
+    public int forceIntChain() {
+        return unboxInt(intChain);
+    }
+}
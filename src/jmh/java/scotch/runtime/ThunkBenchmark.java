@@ -0,0 +1,109 @@
+package scotch.runtime;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the monitor-based {@link Thunk} against {@link LockFreeThunk}, both when forcing a fresh thunk (the
+ * evaluation path) and when re-forcing an evaluated thunk (the fast path taken by every later read).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThunkBenchmark {
+
+    private Callable<Integer> monitorThunk;
+    private Callable<Integer> suppliedThunk;
+    private Callable<Integer> lockFreeThunk;
+    private Integer           value;
+
+    @Setup
+    public void setUp() {
+        value = 42;
+        monitorThunk = monitorThunk(value);
+        suppliedThunk = suppliedThunk(value);
+        lockFreeThunk = lockFreeThunk(value);
+        monitorThunk.call();
+        suppliedThunk.call();
+        lockFreeThunk.call();
+    }
+
+    @Benchmark
+    public Integer forceFresh_monitorThunk() {
+        return monitorThunk(value).call();
+    }
+
+    @Benchmark
+    public Integer forceFresh_suppliedThunk() {
+        return suppliedThunk(value).call();
+    }
+
+    @Benchmark
+    public Integer forceFresh_lockFreeThunk() {
+        return lockFreeThunk(value).call();
+    }
+
+    @Benchmark
+    public Integer forceFresh_runtimeSupportCallable() {
+        Integer result = value;
+        return RuntimeSupport.callable(() -> result).call();
+    }
+
+    @Benchmark
+    public Integer forceEvaluated_monitorThunk() {
+        return monitorThunk.call();
+    }
+
+    @Benchmark
+    public Integer forceEvaluated_suppliedThunk() {
+        return suppliedThunk.call();
+    }
+
+    @Benchmark
+    public Integer forceEvaluated_lockFreeThunk() {
+        return lockFreeThunk.call();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer forceEvaluatedShared_monitorThunk() {
+        return monitorThunk.call();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer forceEvaluatedShared_lockFreeThunk() {
+        return lockFreeThunk.call();
+    }
+
+    private static Callable<Integer> lockFreeThunk(Integer value) {
+        return new LockFreeThunk<Integer>() {
+            @Override
+            protected Integer evaluate() {
+                return value;
+            }
+        };
+    }
+
+    private static Callable<Integer> monitorThunk(Integer value) {
+        return new Thunk<Integer>() {
+            @Override
+            protected Integer evaluate() {
+                return value;
+            }
+        };
+    }
+
+    private static Callable<Integer> suppliedThunk(Integer value) {
+        return new SuppliedThunk<>(() -> value);
+    }
+}
@@ -0,0 +1,317 @@
+package scotch.compiler;
+
+import static java.lang.String.join;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.syntax.definition.DefinitionGraph.cyclicDependency;
+import static scotch.symbol.Symbol.symbol;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import com.google.common.hash.Hashing;
+import scotch.compiler.error.CompileException;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.parser.InputParser;
+import scotch.compiler.scanner.Scanner;
+import scotch.compiler.syntax.definition.Definition;
+import scotch.compiler.syntax.definition.DefinitionEntry;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.syntax.definition.DependencyCycle;
+import scotch.compiler.syntax.definition.Import;
+import scotch.compiler.syntax.definition.ImportBlock;
+import scotch.compiler.syntax.definition.ModuleDefinition;
+import scotch.compiler.text.SourceLocation;
+import scotch.symbol.Symbol;
+
+/**
+ * Compiles a set of sources together. The sources are scanned and parsed in parallel, then each source is compiled
+ * once every other source defining a module it imports has been compiled, so that sources which don't depend on each
+ * other are compiled at the same time. The classes of each source are defined in the resolver as soon as they are
+ * generated, where the sources importing it will find them. Modules imported from outside the set are resolved from
+ * the resolver's class path as usual.
+ *
+ * <p>Given a directory of {@link Fingerprint fingerprints}, compilation is incremental: a source is neither parsed nor
+ * compiled if neither its text nor the interfaces of the sources it imports, directly or through other sources, have
+ * changed since it was last compiled, and its classes are taken from its fingerprint instead. Modules imported from the
+ * class path aren't fingerprinted, so the directory should be cleared when the class path changes.</p>
+ */
+public class BatchCompiler {
+
+    public static BatchCompiler batchCompiler(ClassLoaderResolver resolver, Collection<Path> files) {
+        return new BatchCompiler(resolver, files.stream()
+            .map(file -> new Source(file.toUri(), () -> Scanner.forFile(file), () -> readAllBytes(file)))
+            .collect(toList()), ForkJoinPool.commonPool(), Optional.empty());
+    }
+
+    public static BatchCompiler batchCompiler(ClassLoaderResolver resolver, Map<URI, String[]> sources) {
+        return new BatchCompiler(resolver, sources.entrySet().stream()
+            .map(entry -> new Source(
+                entry.getKey(),
+                () -> Scanner.forString(entry.getKey(), entry.getValue()),
+                () -> (join(lineSeparator(), entry.getValue()) + lineSeparator()).getBytes(UTF_8)
+            ))
+            .collect(toList()), ForkJoinPool.commonPool(), Optional.empty());
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            throw unwrap(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(exception);
+        }
+    }
+
+    private static byte[] readAllBytes(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else {
+            return new CompletionException(cause);
+        }
+    }
+
+    private final ClassLoaderResolver resolver;
+    private final List<Source>        sources;
+    private final ForkJoinPool        pool;
+    private final Optional<Path>      fingerprints;
+
+    private BatchCompiler(ClassLoaderResolver resolver, List<Source> sources, ForkJoinPool pool, Optional<Path> fingerprints) {
+        this.resolver = resolver;
+        this.sources = sources;
+        this.pool = pool;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Compiles every source that is out of date and defines the classes of every source in the resolver.
+     *
+     * @return The classes of every source, in the order the sources were given.
+     */
+    public List<GeneratedClass> generateBytecode() {
+        List<Unit> units = parseInput();
+        linkDependencies(units);
+        Map<Unit, CompletableFuture<List<GeneratedClass>>> compilations = new HashMap<>();
+        units.forEach(unit -> compile(unit, compilations));
+        List<GeneratedClass> generatedClasses = new ArrayList<>();
+        units.forEach(unit -> generatedClasses.addAll(getResult(compilations.get(unit))));
+        return generatedClasses;
+    }
+
+    /**
+     * Makes compilation incremental, keeping a fingerprint of each source in a directory.
+     *
+     * @param fingerprints The directory.
+     * @return The compiler.
+     */
+    public BatchCompiler withFingerprints(Path fingerprints) {
+        return new BatchCompiler(resolver, sources, pool, Optional.of(fingerprints));
+    }
+
+    public BatchCompiler withPool(ForkJoinPool pool) {
+        return new BatchCompiler(resolver, sources, pool, fingerprints);
+    }
+
+    private void checkCycles(Unit unit, Set<Unit> visited, LinkedHashSet<Unit> path) {
+        if (path.contains(unit)) {
+            DependencyCycle.Builder builder = DependencyCycle.builder();
+            List<Unit> cycle = new ArrayList<>(path);
+            cycle.subList(cycle.indexOf(unit), cycle.size())
+                .forEach(member -> builder.addNode(member.getSymbol(), member.sourceLocation, member.getDependencySymbols()));
+            throw new CompileException(asList(cyclicDependency(builder.build())));
+        } else if (visited.add(unit)) {
+            path.add(unit);
+            unit.dependencies.forEach(dependency -> checkCycles(dependency, visited, path));
+            path.remove(unit);
+        }
+    }
+
+    private CompletableFuture<List<GeneratedClass>> compile(Unit unit, Map<Unit, CompletableFuture<List<GeneratedClass>>> compilations) {
+        CompletableFuture<List<GeneratedClass>> compilation = compilations.get(unit);
+        if (compilation == null) {
+            CompletableFuture<?>[] dependencies = unit.dependencies.stream()
+                .map(dependency -> compile(dependency, compilations))
+                .toArray(CompletableFuture<?>[]::new);
+            compilation = CompletableFuture.allOf(dependencies).thenApplyAsync(done -> unit.compile(resolver), pool);
+            compilations.put(unit, compilation);
+        }
+        return compilation;
+    }
+
+    private void linkDependencies(List<Unit> units) {
+        Map<String, Unit> modules = new HashMap<>();
+        units.forEach(unit -> unit.modules.forEach(module -> modules.put(module, unit)));
+        units.forEach(unit -> unit.imports.stream()
+            .map(modules::get)
+            .filter(dependency -> dependency != null && dependency != unit)
+            .forEach(unit.dependencies::add));
+        Set<Unit> visited = new HashSet<>();
+        units.forEach(unit -> checkCycles(unit, visited, new LinkedHashSet<>()));
+    }
+
+    private List<Unit> parseInput() {
+        return pool.invokeAll(sources.stream()
+            .map(source -> (Callable<Unit>) () -> new Unit(source, fingerprints.map(directory -> directory.resolve(
+                Hashing.sha1().hashString(source.uri.toString(), UTF_8) + ".fingerprint"
+            ))).parseIfChanged(resolver))
+            .collect(toList())).stream()
+            .map(BatchCompiler::getResult)
+            .collect(toList());
+    }
+
+    private static final class Source {
+
+        private final URI               uri;
+        private final Supplier<Scanner> scanner;
+        private final Supplier<byte[]>  text;
+
+        public Source(URI uri, Supplier<Scanner> scanner, Supplier<byte[]> text) {
+            this.uri = uri;
+            this.scanner = scanner;
+            this.text = text;
+        }
+    }
+
+    /**
+     * A source being compiled. A source is parsed as soon as it is read, unless it has a fingerprint for the same text,
+     * in which case the modules it defines and imports are taken from the fingerprint and it is parsed only if the
+     * interfaces it imports turn out to have changed.
+     */
+    private static final class Unit {
+
+        private final Source                    source;
+        private final Optional<Path>            fingerprintFile;
+        private final Optional<String>          sourceHash;
+        private final Optional<Fingerprint>     fingerprint;
+        private final List<String>              modules;
+        private final Set<String>               imports;
+        private final Set<Unit>                 dependencies;
+        private       Optional<DefinitionGraph> parsedInput;
+        private       SourceLocation            sourceLocation;
+        private       String                    interfaceHash;
+
+        public Unit(Source source, Optional<Path> fingerprintFile) {
+            this.source = source;
+            this.fingerprintFile = fingerprintFile;
+            this.sourceHash = fingerprintFile.map(file -> Fingerprint.hashSource(source.text.get()));
+            this.fingerprint = fingerprintFile.flatMap(Fingerprint::read).filter(f -> f.isSourceUnchanged(sourceHash.get()));
+            this.modules = new ArrayList<>();
+            this.imports = new LinkedHashSet<>();
+            this.dependencies = new LinkedHashSet<>();
+            this.parsedInput = Optional.empty();
+            this.sourceLocation = SourceLocation.NULL_SOURCE;
+            if (fingerprint.isPresent()) {
+                modules.addAll(fingerprint.get().getModules());
+                imports.addAll(fingerprint.get().getImports());
+            }
+        }
+
+        public List<GeneratedClass> compile(ClassLoaderResolver resolver) {
+            if (fingerprintFile.isPresent()) {
+                String dependencyHash = Fingerprint.hashDependencies(getTransitiveDependencies().stream()
+                    .map(dependency -> dependency.interfaceHash)
+                    .collect(toList()));
+                if (fingerprint.isPresent() && fingerprint.get().isUpToDate(sourceHash.get(), dependencyHash)) {
+                    List<GeneratedClass> generatedClasses = fingerprint.get().getGeneratedClasses();
+                    resolver.defineAll(generatedClasses);
+                    interfaceHash = fingerprint.get().getInterfaceHash();
+                    return generatedClasses;
+                } else {
+                    List<GeneratedClass> generatedClasses = compiler(parse(resolver)).generateBytecode();
+                    interfaceHash = Fingerprint.hashInterface(modules, resolver.defineAll(generatedClasses));
+                    new Fingerprint(sourceHash.get(), dependencyHash, interfaceHash, modules, new ArrayList<>(imports), generatedClasses)
+                        .write(fingerprintFile.get());
+                    return generatedClasses;
+                }
+            } else {
+                List<GeneratedClass> generatedClasses = compiler(parse(resolver)).generateBytecode();
+                resolver.defineAll(generatedClasses);
+                return generatedClasses;
+            }
+        }
+
+        public List<Symbol> getDependencySymbols() {
+            return dependencies.stream().map(Unit::getSymbol).collect(toList());
+        }
+
+        public Symbol getSymbol() {
+            return symbol(modules.get(0));
+        }
+
+        public Set<Unit> getTransitiveDependencies() {
+            Set<Unit> transitiveDependencies = new LinkedHashSet<>();
+            collectDependencies(transitiveDependencies);
+            return transitiveDependencies;
+        }
+
+        public Unit parseIfChanged(ClassLoaderResolver resolver) {
+            if (!fingerprint.isPresent()) {
+                parse(resolver);
+            }
+            return this;
+        }
+
+        private void collectDependencies(Set<Unit> transitiveDependencies) {
+            dependencies.stream()
+                .filter(transitiveDependencies::add)
+                .forEach(dependency -> dependency.collectDependencies(transitiveDependencies));
+        }
+
+        private void collect(Definition definition) {
+            if (definition instanceof ModuleDefinition) {
+                if (modules.isEmpty()) {
+                    sourceLocation = definition.getSourceLocation();
+                }
+                modules.add(((ModuleDefinition) definition).getSymbol());
+            } else if (definition instanceof ImportBlock) {
+                ((ImportBlock) definition).getImports().stream()
+                    .map(Import::getModuleName)
+                    .forEach(imports::add);
+            }
+        }
+
+        private DefinitionGraph parse(ClassLoaderResolver resolver) {
+            if (!parsedInput.isPresent()) {
+                DefinitionGraph graph = new InputParser(resolver, source.scanner.get()).parse();
+                if (!fingerprint.isPresent()) {
+                    graph.stream().map(DefinitionEntry::getDefinition).forEach(this::collect);
+                }
+                parsedInput = Optional.of(graph);
+            }
+            return parsedInput.get();
+        }
+    }
+}
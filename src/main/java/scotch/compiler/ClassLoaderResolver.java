@@ -1,8 +1,9 @@
 package scotch.compiler;
 
 import static java.lang.management.ManagementFactory.getRuntimeMXBean;
-import static java.util.regex.Pattern.compile;
+import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
 import static scotch.symbol.Symbol.getPackageName;
 import static scotch.symbol.Symbol.getPackagePath;
 import static scotch.symbol.Symbol.toJavaName;
@@ -10,22 +11,32 @@ import static scotch.symbol.Symbol.toJavaName;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
 import scotch.compiler.ModuleScanner.ScanResult;
 import scotch.compiler.output.GeneratedClass;
 import scotch.symbol.Symbol;
@@ -40,6 +51,20 @@ import scotch.symbol.exception.SymbolResolutionError;
 import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
 
+/**
+ * Resolves symbols from compiled modules on its class path and from classes defined into it. Defining classes and
+ * resolving symbols are synchronized, so that modules compiled in parallel may share a resolver.
+ *
+ * <p>A module on the class path with a {@link ModuleInterface} beside its classes is resolved from the interface
+ * alone, without loading its classes. An interface in a directory is ignored once any class beside it is newer, and
+ * an interface in a jar is ignored unless the names and checksums of the classes beside it are those it was written
+ * from.</p>
+ *
+ * <p>Type instances are indexed by their type class and the symbols of their parameters, so that looking up the
+ * instance for some types only considers the instances with the same symbols. Instances found for types without
+ * variables are remembered, whatever source locations they carry, until a search finds new instances or a class is
+ * defined.</p>
+ */
 public class ClassLoaderResolver extends URLClassLoader implements SymbolResolver {
 
     public static ClassLoaderResolver resolver(Optional<File> optionalOutputPath) {
@@ -51,6 +76,8 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private final Set<String>                                                                  searchedClasses;
     private final Set<URL>                                                                     searchedUrls;
     private final Map<Symbol, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>> typeInstances;
+    private final Map<Symbol, Map<List<Symbol>, Set<List<TypeParameterDescriptor>>>>           typeInstanceIndex;
+    private final Map<Symbol, Map<List<Type>, Set<TypeInstanceDescriptor>>>                    typeInstanceCache;
     private final Map<Symbol, Set<TypeInstanceDescriptor>>                                     typeInstancesByClass;
     private final Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>              typeInstancesByArguments;
     private final Map<String, Set<TypeInstanceDescriptor>>                                     typeInstancesByModule;
@@ -68,6 +95,8 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         this.searchedClasses = new HashSet<>();
         this.searchedUrls = new HashSet<>();
         this.typeInstances = new HashMap<>();
+        this.typeInstanceIndex = new HashMap<>();
+        this.typeInstanceCache = new HashMap<>();
         this.typeInstancesByClass = new HashMap<>();
         this.typeInstancesByArguments = new HashMap<>();
         this.typeInstancesByModule = new HashMap<>();
@@ -75,7 +104,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         this.reExports = new ReExportMap();
     }
 
-    public Class<?> define(GeneratedClass generatedClass) {
+    public synchronized Class<?> define(GeneratedClass generatedClass) {
         writeClass(generatedClass);
         return define_(generatedClass);
     }
@@ -87,13 +116,14 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private Class<?> define_(GeneratedClass generatedClass) {
         byte[] bytes = generatedClass.getBytes();
         Class<?> clazz = defineClass(generatedClass.getClassName(), bytes, 0, bytes.length);
+        typeInstanceCache.clear();
         definedClasses
             .computeIfAbsent(clazz.getName().replace(Pattern.quote("." + clazz.getSimpleName()) + "$", ""), k -> new HashSet<>())
             .add(clazz);
         return clazz;
     }
 
-    public List<Class<?>> defineAll(List<GeneratedClass> generatedClasses) {
+    public synchronized List<Class<?>> defineAll(List<GeneratedClass> generatedClasses) {
         generatedClasses.forEach(this::writeClass);
         return generatedClasses.stream()
             .map(this::define_)
@@ -101,7 +131,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     }
 
     @Override
-    public Optional<SymbolEntry> getEntry(Symbol symbol) {
+    public synchronized Optional<SymbolEntry> getEntry(Symbol symbol) {
         search(symbol);
         if (namedSymbols.containsKey(symbol)) {
             return Optional.ofNullable(namedSymbols.get(symbol));
@@ -121,19 +151,27 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     }
 
     @Override
-    public Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
-        search(symbol);
-        search(types);
-        return Optional.ofNullable(typeInstances.get(symbol))
-            .flatMap(instances -> instances.keySet().stream()
-                .filter(parameters -> parametersMatch(parameters, types))
-                .map(instances::get)
-                .findFirst())
-            .orElse(ImmutableSet.of());
+    public synchronized Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
+        if (types.stream().allMatch(this::isConcrete)) {
+            List<Type> key = types.stream().map(this::withoutSourceLocation).collect(toList());
+            Set<TypeInstanceDescriptor> instances = typeInstanceCache.getOrDefault(symbol, ImmutableMap.of()).get(key);
+            if (instances == null) {
+                // searching may find new instances and clear the cache, so the result is only cached afterward
+                instances = findTypeInstances(symbol, types);
+                typeInstanceCache.computeIfAbsent(symbol, k -> new HashMap<>()).put(ImmutableList.copyOf(key), instances);
+            }
+            return instances;
+        } else {
+            return findTypeInstances(symbol, types);
+        }
+    }
+
+    synchronized int getCachedTypeInstanceCount(Symbol symbol) {
+        return typeInstanceCache.getOrDefault(symbol, ImmutableMap.of()).size();
     }
 
     @Override
-    public Set<TypeInstanceDescriptor> getTypeInstancesByModule(String moduleName) {
+    public synchronized Set<TypeInstanceDescriptor> getTypeInstancesByModule(String moduleName) {
         search(moduleName);
         return typeInstancesByModule.getOrDefault(moduleName, ImmutableSet.of());
     }
@@ -148,6 +186,47 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         return files == null ? new File[0] : files;
     }
 
+    private Set<TypeInstanceDescriptor> findTypeInstances(Symbol symbol, List<Type> types) {
+        search(symbol);
+        search(types);
+        return Optional.ofNullable(typeInstances.get(symbol))
+            .flatMap(instances -> heads(types)
+                .flatMap(heads -> Optional.ofNullable(typeInstanceIndex.get(symbol).get(heads)))
+                .flatMap(candidates -> candidates.stream()
+                    .filter(parameters -> parametersMatch(parameters, types))
+                    .map(instances::get)
+                    .findFirst()))
+            .orElse(ImmutableSet.of());
+    }
+
+    private Optional<List<Symbol>> heads(List<Type> types) {
+        List<Symbol> heads = new ArrayList<>();
+        for (Type type : types) {
+            if (type instanceof SumType) {
+                heads.add(((SumType) type).getSymbol());
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(heads);
+    }
+
+    private boolean isConcrete(Type type) {
+        return type instanceof SumType && ((SumType) type).getParameters().stream().allMatch(this::isConcrete);
+    }
+
+    private boolean isJar(URL resource) {
+        return resource.getFile().contains("!");
+    }
+
+    private JarIndex jarIndex(URL resource) throws IOException {
+        try {
+            return JarIndex.forJar(Paths.get(((JarURLConnection) resource.openConnection()).getJarFileURL().toURI()));
+        } catch (URISyntaxException | UncheckedIOException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+    }
+
     private boolean parametersMatch(List<TypeParameterDescriptor> parameters, List<Type> types) {
         if (parameters.size() == types.size()) {
             for (int i = 0; i < parameters.size(); i++) {
@@ -163,17 +242,48 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private void processScan(String moduleName, ScanResult scan) {
         reExports.addReExports(moduleName, scan.getReExports());
         scan.getEntries().forEach(entry -> namedSymbols.put(entry.getSymbol(), entry));
+        if (!scan.getInstances().isEmpty()) {
+            typeInstanceCache.clear();
+        }
         scan.getInstances().forEach(typeInstance -> {
             typeInstances
                 .computeIfAbsent(typeInstance.getTypeClass(), k -> new HashMap<>())
                 .computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>())
                 .add(typeInstance);
+            typeInstanceIndex
+                .computeIfAbsent(typeInstance.getTypeClass(), k -> new HashMap<>())
+                .computeIfAbsent(typeInstance.getParameters().stream().map(TypeParameterDescriptor::getSymbol).collect(toList()), k -> new LinkedHashSet<>())
+                .add(typeInstance.getParameters());
             typeInstancesByClass.computeIfAbsent(typeInstance.getTypeClass(), k -> new HashSet<>()).add(typeInstance);
             typeInstancesByArguments.computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>()).add(typeInstance);
             typeInstancesByModule.computeIfAbsent(typeInstance.getModuleName(), k -> new HashSet<>()).add(typeInstance);
         });
     }
 
+    private Optional<ScanResult> readInterface(URL resource, String packagePath) throws IOException {
+        if (isJar(resource)) {
+            JarIndex index = jarIndex(resource);
+            if (!index.hasFile(packagePath, ModuleInterface.FILE_NAME)) {
+                return Optional.empty();
+            }
+            try (InputStream stream = new URL(resource.toString().replaceAll("/$", "") + "/" + ModuleInterface.FILE_NAME).openStream()) {
+                return ModuleInterface.read(
+                    ByteBuffer.wrap(ByteStreams.toByteArray(stream)),
+                    ModuleInterface.hashClasses(index.getClassChecksums(packagePath))
+                );
+            }
+        } else {
+            File directory = new File(resource.getFile());
+            File file = new File(directory, ModuleInterface.FILE_NAME);
+            if (!file.isFile() || stream(classFiles(directory)).anyMatch(classFile -> classFile.lastModified() > file.lastModified())) {
+                return Optional.empty();
+            }
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                return ModuleInterface.read(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+    }
+
     private Optional<Class<?>> resolveClass(String className) {
         try {
             return Optional.of(loadClass(className));
@@ -182,27 +292,9 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         }
     }
 
-    private List<Class<?>> resolveClasses(URL resource, String packagePath) {
+    private List<Class<?>> resolveClasses(JarIndex index, String packagePath) {
         List<Class<?>> classes = new ArrayList<>();
-        try (ZipInputStream zipStream = new ZipInputStream(resource.openStream())) {
-            ZipEntry entry;
-            while (null != (entry = zipStream.getNextEntry())) {
-                try {
-                    if (!entry.isDirectory()) {
-                        String name = entry.getName();
-                        Pattern pattern = compile("(" + packagePath + "/[^\\./]+)\\.class");
-                        Matcher matcher = pattern.matcher(name);
-                        if (matcher.find()) {
-                            resolveClass(matcher.group(1).replace('/', '.')).ifPresent(classes::add);
-                        }
-                    }
-                } finally {
-                    zipStream.closeEntry();
-                }
-            }
-        } catch (IOException exception) {
-            throw new SymbolResolutionError(exception);
-        }
+        index.getClassNames(packagePath).forEach(className -> resolveClass(className).ifPresent(classes::add));
         return classes;
     }
 
@@ -243,9 +335,11 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
                 URL resource = resources.nextElement();
                 if (!searchedUrls.contains(resource)) {
                     searchedUrls.add(resource);
-                    if (resource.getFile().contains("!")) {
-                        String path = new File(resource.getFile()).getPath();
-                        classes.addAll(resolveClasses(new URL(path.substring(0, path.indexOf('!'))), getPackagePath(moduleName)));
+                    Optional<ScanResult> moduleInterface = readInterface(resource, getPackagePath(moduleName));
+                    if (moduleInterface.isPresent()) {
+                        processScan(moduleName, moduleInterface.get());
+                    } else if (isJar(resource)) {
+                        classes.addAll(resolveClasses(jarIndex(resource), getPackagePath(moduleName)));
                     } else {
                         classes.addAll(resolveClasses(new File(resource.getFile()), getPackageName(moduleName)));
                     }
@@ -262,6 +356,13 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         processScan(moduleName, new ModuleScanner(moduleName, classes).scan());
     }
 
+    private Type withoutSourceLocation(Type type) {
+        SumType sum = (SumType) type;
+        return sum.withSourceLocation(NULL_SOURCE).withParameters(sum.getParameters().stream()
+            .map(this::withoutSourceLocation)
+            .collect(toList()));
+    }
+
     private void writeClass(GeneratedClass generatedClass, byte[] bytes, File outputPath) {
         File file = new File(outputPath, generatedClass.getClassName().replace('.', '/') + ".class");
         if (!file.getParentFile().mkdirs() && !file.getParentFile().exists()) {
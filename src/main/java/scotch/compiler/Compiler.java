@@ -2,6 +2,10 @@ package scotch.compiler;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import com.google.common.base.Suppliers;
 import scotch.compiler.target.BytecodeGenerator;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateGraph;
@@ -14,24 +18,45 @@ import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PatternAnalyzer;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.syntax.definition.DefinitionGraph;
 import scotch.symbol.SymbolResolver;
 
-// TODO multiple file compilation
-// TODO incremental compilation
 public class Compiler {
 
     public static Compiler compiler(SymbolResolver symbolResolver, URI source, String... lines) {
-        return new Compiler(symbolResolver, Scanner.forString(source, lines));
+        return compiler(symbolResolver, Scanner.forString(source, lines));
     }
 
-    private final SymbolResolver symbolResolver;
-    private final Scanner        scanner;
+    public static Compiler compiler(SymbolResolver symbolResolver, Scanner scanner) {
+        return new Compiler(
+            Suppliers.memoize(() -> new InputParser(symbolResolver, scanner).parse())::get,
+            Optional.empty()
+        );
+    }
 
-    private Compiler(SymbolResolver symbolResolver, Scanner scanner) {
-        this.symbolResolver = symbolResolver;
-        this.scanner = scanner;
+    /**
+     * Creates a compiler for input that has already been parsed, such as by a {@link BatchCompiler}.
+     *
+     * @param parsedInput The parsed input.
+     * @return The compiler.
+     */
+    public static Compiler compiler(DefinitionGraph parsedInput) {
+        return new Compiler(() -> parsedInput, Optional.empty());
+    }
+
+    private final Supplier<DefinitionGraph> input;
+    private final Optional<ForkJoinPool>    pool;
+    private final Supplier<DefinitionGraph> typedInput;
+
+    private Compiler(Supplier<DefinitionGraph> input, Optional<ForkJoinPool> pool) {
+        this.input = input;
+        this.pool = pool;
+        this.typedInput = Suppliers.memoize(() -> {
+            TypeChecker typeChecker = new TypeChecker(accumulateDependencies());
+            return pool.map(typeChecker::checkTypes).orElseGet(typeChecker::checkTypes);
+        })::get;
     }
 
     public DefinitionGraph accumulateDependencies() {
@@ -46,8 +71,19 @@ public class Compiler {
         return new OperatorAccumulator(parseInput()).accumulateOperators();
     }
 
+    public DefinitionGraph analyzeStrictness() {
+        return new StrictnessAnalyzer(checkTypes()).analyzeStrictness();
+    }
+
+    /**
+     * Checks the types of the input, once. The stages up to type checking fill in the scopes of the parsed input, so
+     * later stages, such as {@link #reportStrictness()} followed by {@link #generateBytecode()}, share the typed graph
+     * instead of running them again.
+     *
+     * @return The typed graph.
+     */
     public DefinitionGraph checkTypes() {
-        return new TypeChecker(accumulateDependencies()).checkTypes();
+        return typedInput.get();
     }
 
     public List<GeneratedClass> generateBytecode() {
@@ -55,11 +91,16 @@ public class Compiler {
     }
 
     public IntermediateGraph generateIntermediateCode() {
-        return new IntermediateGenerator(checkTypes()).generateIntermediateCode();
+        return new IntermediateGenerator(analyzeStrictness()).generateIntermediateCode();
     }
 
+    /**
+     * Parses the input, once, as a scanner can't be read again.
+     *
+     * @return The parsed input.
+     */
     public DefinitionGraph parseInput() {
-        return new InputParser(symbolResolver, scanner).parse();
+        return input.get();
     }
 
     public DefinitionGraph parsePrecedence() {
@@ -73,4 +114,21 @@ public class Compiler {
     public DefinitionGraph reducePatterns() {
         return new PatternAnalyzer(qualifyNames()).reducePatterns();
     }
+
+    public String reportStrictness() {
+        StrictnessAnalyzer analyzer = new StrictnessAnalyzer(checkTypes());
+        analyzer.analyzeStrictness();
+        return analyzer.prettyPrint();
+    }
+
+    /**
+     * Checks the types of values which don't depend on each other in parallel.
+     *
+     * @param pool The pool to check types in.
+     * @return The compiler.
+     * @see TypeChecker#checkTypes(ForkJoinPool)
+     */
+    public Compiler withPool(ForkJoinPool pool) {
+        return new Compiler(input, Optional.of(pool));
+    }
 }
@@ -0,0 +1,194 @@
+package scotch.compiler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.Symbol.getPackageName;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.output.GeneratedClass.ClassType;
+import scotch.symbol.SymbolEntry;
+
+/**
+ * What a {@link BatchCompiler} remembers of compiling a source: the hash of the source, the hash of the interfaces of
+ * the sources it imports directly or transitively, the hash of its own interface, the modules it defines and imports,
+ * and the classes generated for it. A source whose text and imported interfaces both hash as they did needn't be
+ * compiled again, and its classes are taken from here instead.
+ *
+ * <p>The interface of a source is every symbol entry and type instance of the modules it defines, as read back from
+ * its classes. A change to a source which leaves its interface alone, such as to the body of a function but not its
+ * type, therefore leaves the sources importing it up to date. A re-export only records the module it comes from, so
+ * the interfaces of transitive imports are hashed as well: a change to a re-exported member recompiles the sources
+ * which see it through the re-export.</p>
+ */
+public final class Fingerprint {
+
+    private static final int VERSION = 1;
+
+    public static String hashDependencies(Collection<String> interfaceHashes) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        interfaceHashes.forEach(hash -> hasher.putString(hash, UTF_8));
+        return hasher.hash().toString();
+    }
+
+    public static String hashInterface(List<String> modules, List<Class<?>> classes) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        modules.stream().sorted().forEach(module -> {
+            ScanResult scan = new ModuleScanner(module, classesOf(module, classes)).scan();
+            scan.getEntries().stream()
+                .sorted(Comparator.comparing(entry -> entry.getSymbol().toString()))
+                .forEach(entry -> hasher.putString(describe(entry), UTF_8));
+            scan.getInstances().stream()
+                .map(Object::toString)
+                .sorted()
+                .forEach(instance -> hasher.putString(instance, UTF_8));
+            scan.getReExports().forEach((member, source) -> hasher.putString(member + "=" + source, UTF_8));
+        });
+        return hasher.hash().toString();
+    }
+
+    public static String hashSource(byte[] source) {
+        return Hashing.sha1().hashBytes(source).toString();
+    }
+
+    public static Optional<Fingerprint> read(Path file) {
+        try (InputStream stream = Files.newInputStream(file)) {
+            DataInputStream input = new DataInputStream(stream);
+            if (input.readInt() != VERSION) {
+                return Optional.empty();
+            }
+            String sourceHash = input.readUTF();
+            String dependencyHash = input.readUTF();
+            String interfaceHash = input.readUTF();
+            List<String> modules = readStrings(input);
+            List<String> imports = readStrings(input);
+            List<GeneratedClass> generatedClasses = new ArrayList<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                ClassType type = ClassType.valueOf(input.readUTF());
+                String className = input.readUTF();
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                generatedClasses.add(new GeneratedClass(type, className, bytes));
+            }
+            return Optional.of(new Fingerprint(sourceHash, dependencyHash, interfaceHash, modules, imports, generatedClasses));
+        } catch (IOException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Class<?>> classesOf(String module, List<Class<?>> classes) {
+        String packagePrefix = getPackageName(module) + ".";
+        return classes.stream()
+            .filter(clazz -> clazz.getName().startsWith(packagePrefix))
+            .filter(clazz -> clazz.getName().indexOf('.', packagePrefix.length()) == -1)
+            .collect(toList());
+    }
+
+    private static String describe(SymbolEntry entry) {
+        return entry.getSymbol()
+            + " value=" + entry.getValue()
+            + " operator=" + entry.getOperator()
+            + " type=" + entry.getType()
+            + " valueMethod=" + entry.getValueMethod()
+            + " typeClass=" + entry.getTypeClass()
+            + " memberOf=" + entry.getMemberOf()
+            + " dataType=" + entry.getDataType()
+            + " dataConstructor=" + entry.getDataConstructor();
+    }
+
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        List<String> strings = new ArrayList<>();
+        for (int i = input.readInt(); i > 0; i--) {
+            strings.add(input.readUTF());
+        }
+        return strings;
+    }
+
+    private static void writeStrings(DataOutputStream output, List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            output.writeUTF(string);
+        }
+    }
+
+    private final String               sourceHash;
+    private final String               dependencyHash;
+    private final String               interfaceHash;
+    private final List<String>         modules;
+    private final List<String>         imports;
+    private final List<GeneratedClass> generatedClasses;
+
+    public Fingerprint(String sourceHash, String dependencyHash, String interfaceHash, List<String> modules, List<String> imports, List<GeneratedClass> generatedClasses) {
+        this.sourceHash = sourceHash;
+        this.dependencyHash = dependencyHash;
+        this.interfaceHash = interfaceHash;
+        this.modules = ImmutableList.copyOf(modules);
+        this.imports = ImmutableList.copyOf(imports);
+        this.generatedClasses = ImmutableList.copyOf(generatedClasses);
+    }
+
+    public List<GeneratedClass> getGeneratedClasses() {
+        return generatedClasses;
+    }
+
+    public List<String> getImports() {
+        return imports;
+    }
+
+    public String getInterfaceHash() {
+        return interfaceHash;
+    }
+
+    public List<String> getModules() {
+        return modules;
+    }
+
+    public boolean isSourceUnchanged(String sourceHash) {
+        return this.sourceHash.equals(sourceHash);
+    }
+
+    public boolean isUpToDate(String sourceHash, String dependencyHash) {
+        return isSourceUnchanged(sourceHash) && this.dependencyHash.equals(dependencyHash);
+    }
+
+    public void write(Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream stream = Files.newOutputStream(file)) {
+                DataOutputStream output = new DataOutputStream(stream);
+                output.writeInt(VERSION);
+                output.writeUTF(sourceHash);
+                output.writeUTF(dependencyHash);
+                output.writeUTF(interfaceHash);
+                writeStrings(output, modules);
+                writeStrings(output, imports);
+                output.writeInt(generatedClasses.size());
+                for (GeneratedClass generatedClass : generatedClasses) {
+                    output.writeUTF(generatedClass.getType().name());
+                    output.writeUTF(generatedClass.getClassName());
+                    output.writeInt(generatedClass.getBytes().length);
+                    output.write(generatedClass.getBytes());
+                }
+                output.flush();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
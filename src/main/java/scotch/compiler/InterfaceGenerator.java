@@ -0,0 +1,92 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.Symbol.moduleName;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import scotch.compiler.ModuleScanner.ScanResult;
+
+/**
+ * Writes the {@link ModuleInterface interface} of every module in a directory of compiled classes into the same
+ * package of an output directory, so that resolvers loading the modules from a jar of both directories, or from the
+ * classes directory itself when the interfaces are written beside the classes, needn't scan their classes.
+ */
+public class InterfaceGenerator {
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        new InterfaceGenerator(Paths.get(args[0]), Paths.get(args[1])).generateInterfaces();
+    }
+
+    private final Path classesDir;
+    private final Path outputDir;
+
+    public InterfaceGenerator(Path classesDir, Path outputDir) {
+        this.classesDir = classesDir;
+        this.outputDir = outputDir;
+    }
+
+    public void generateInterfaces() throws IOException, ClassNotFoundException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() }, getClass().getClassLoader())) {
+            for (Path directory : packageDirectories()) {
+                generateInterface(classLoader, directory);
+            }
+        }
+    }
+
+    private void generateInterface(ClassLoader classLoader, Path directory) throws IOException, ClassNotFoundException {
+        String packageName = classesDir.relativize(directory).toString().replace(directory.getFileSystem().getSeparator(), ".");
+        List<Class<?>> classes = new ArrayList<>();
+        Map<String, Long> checksums = new HashMap<>();
+        for (Path file : classFiles(directory)) {
+            String fileName = file.getFileName().toString();
+            classes.add(classLoader.loadClass(packageName + "." + fileName.substring(0, fileName.lastIndexOf('.'))));
+            checksums.put(fileName, checksum(file));
+        }
+        ScanResult scan = new ModuleScanner(moduleName(packageName), classes).scan();
+        Path file = outputDir.resolve(classesDir.relativize(directory).toString()).resolve(ModuleInterface.FILE_NAME);
+        if (scan.getEntries().isEmpty() && scan.getInstances().isEmpty() && scan.getReExports().isEmpty()) {
+            Files.deleteIfExists(file);
+        } else {
+            ModuleInterface.write(scan, ModuleInterface.hashClasses(checksums), file);
+        }
+    }
+
+    private long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    private List<Path> classFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> isClassFile(file.getFileName().toString()))
+                .collect(toList());
+        }
+    }
+
+    private boolean isClassFile(String fileName) {
+        return fileName.endsWith(".class") && fileName.indexOf('.') == fileName.length() - ".class".length();
+    }
+
+    private List<Path> packageDirectories() throws IOException {
+        try (Stream<Path> directories = Files.walk(classesDir)) {
+            return directories
+                .filter(Files::isDirectory)
+                .filter(directory -> !directory.equals(classesDir))
+                .collect(toList());
+        }
+    }
+}
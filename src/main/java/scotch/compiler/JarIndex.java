@@ -0,0 +1,105 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.ZipFile;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The files in each package of a jar and their checksums, read once from the jar's central directory. Indexes are
+ * shared by every resolver in the JVM and are read again only when the jar changes.
+ */
+public final class JarIndex {
+
+    private static final ConcurrentMap<Path, JarIndex> indexes = new ConcurrentHashMap<>();
+
+    public static JarIndex forJar(Path jar) {
+        Path path = jar.toAbsolutePath().normalize();
+        long lastModified = lastModified(path);
+        return indexes.compute(path, (key, index) ->
+            index != null && index.lastModified == lastModified ? index : new JarIndex(path, lastModified));
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && name.indexOf('.') == name.length() - ".class".length();
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private final long                           lastModified;
+    private final Map<String, Map<String, Long>> packages;
+
+    private JarIndex(Path jar, long lastModified) {
+        this.lastModified = lastModified;
+        this.packages = new HashMap<>();
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            zipFile.stream()
+                .filter(entry -> !entry.isDirectory())
+                .forEach(entry -> {
+                    String name = entry.getName();
+                    int slash = name.lastIndexOf('/');
+                    packages
+                        .computeIfAbsent(slash == -1 ? "" : name.substring(0, slash), k -> new LinkedHashMap<>())
+                        .put(name.substring(slash + 1), entry.getCrc());
+                });
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Gets the names of the classes directly in a package.
+     *
+     * @param packagePath The package, separated with slashes.
+     * @return The fully-qualified names of the classes.
+     */
+    public List<String> getClassNames(String packagePath) {
+        String prefix = packagePath.replace('/', '.') + ".";
+        return getFiles(packagePath).stream()
+            .filter(JarIndex::isClassFile)
+            .map(name -> prefix + name.substring(0, name.length() - ".class".length()))
+            .collect(toList());
+    }
+
+    /**
+     * Gets the checksums of the classes directly in a package.
+     *
+     * @param packagePath The package, separated with slashes.
+     * @return The CRC-32 checksum of each class file, by file name.
+     */
+    public Map<String, Long> getClassChecksums(String packagePath) {
+        Map<String, Long> checksums = new LinkedHashMap<>();
+        packages.getOrDefault(packagePath, ImmutableMap.of()).forEach((name, checksum) -> {
+            if (isClassFile(name)) {
+                checksums.put(name, checksum);
+            }
+        });
+        return checksums;
+    }
+
+    public List<String> getFiles(String packagePath) {
+        return ImmutableList.copyOf(packages.getOrDefault(packagePath, ImmutableMap.of()).keySet());
+    }
+
+    public boolean hasFile(String packagePath, String fileName) {
+        return packages.getOrDefault(packagePath, ImmutableMap.of()).containsKey(fileName);
+    }
+
+}
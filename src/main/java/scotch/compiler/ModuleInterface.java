@@ -0,0 +1,528 @@
+package scotch.compiler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.symbol.Operator.operator;
+import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.Symbol.unqualified;
+import static scotch.symbol.descriptor.DataFieldDescriptor.field;
+import static scotch.symbol.descriptor.TypeClassDescriptor.typeClass;
+import static scotch.symbol.descriptor.TypeInstanceDescriptor.typeInstance;
+import static scotch.symbol.type.Types.ctor;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.instance;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.MethodSignature.MethodType;
+import scotch.symbol.Operator;
+import scotch.symbol.Symbol;
+import scotch.symbol.Symbol.QualifiedSymbol;
+import scotch.symbol.Symbol.SymbolVisitor;
+import scotch.symbol.Symbol.UnqualifiedSymbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.SymbolEntry.ImmutableEntryBuilder;
+import scotch.symbol.Value.Fixity;
+import scotch.symbol.descriptor.DataConstructorDescriptor;
+import scotch.symbol.descriptor.DataFieldDescriptor;
+import scotch.symbol.descriptor.DataTypeDescriptor;
+import scotch.symbol.descriptor.TypeClassDescriptor;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.descriptor.TypeParameterDescriptor;
+import scotch.symbol.type.ConstructorType;
+import scotch.symbol.type.FunctionType;
+import scotch.symbol.type.InstanceType;
+import scotch.symbol.type.SumType;
+import scotch.symbol.type.Type;
+import scotch.symbol.type.VariableType;
+
+/**
+ * The compiled interface of a module: the {@link ScanResult} of scanning its classes, written to a file beside them
+ * so that a {@link ClassLoaderResolver} can read the module's symbols back without loading its classes. Every string
+ * is written once to a table at the head of the file and is otherwise referred to by its index.
+ *
+ * <p>The head of the file also holds a {@link #hashClasses(Map) hash} of the names and checksums of the classes the
+ * interface was written from, so that an interface packaged in a jar can be checked against the classes beside it
+ * from the jar's central directory alone.</p>
+ */
+public final class ModuleInterface {
+
+    public static final String FILE_NAME = "$$Module.scotchi";
+
+    private static final int MAGIC   = 0x5343_4849;
+    private static final int VERSION = 2;
+
+    private static final int VALUE            = 1;
+    private static final int OPERATOR         = 1 << 1;
+    private static final int TYPE             = 1 << 2;
+    private static final int VALUE_METHOD     = 1 << 3;
+    private static final int TYPE_CLASS       = 1 << 4;
+    private static final int MEMBER_OF        = 1 << 5;
+    private static final int DATA_TYPE        = 1 << 6;
+    private static final int DATA_CONSTRUCTOR = 1 << 7;
+
+    private static final byte NULL_TYPE        = 0;
+    private static final byte SUM_TYPE         = 1;
+    private static final byte VARIABLE_TYPE    = 2;
+    private static final byte FUNCTION_TYPE    = 3;
+    private static final byte CONSTRUCTOR_TYPE = 4;
+    private static final byte INSTANCE_TYPE    = 5;
+
+    /**
+     * Hashes the classes of a module.
+     *
+     * @param checksums The CRC-32 checksum of each class file of the module, by file name.
+     * @return The hash, which doesn't depend on the order of the files.
+     */
+    public static long hashClasses(Map<String, Long> checksums) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        new TreeMap<>(checksums).forEach((fileName, checksum) -> hasher.putString(fileName, UTF_8).putLong(checksum));
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * Reads an interface, whatever classes it was written from.
+     *
+     * @param buffer The interface, from its current position.
+     * @return The scan result it was written from, or nothing if the buffer doesn't hold an interface of this version.
+     */
+    public static Optional<ScanResult> read(ByteBuffer buffer) {
+        return read(buffer, Optional.empty());
+    }
+
+    /**
+     * Reads an interface if it was written from the given classes.
+     *
+     * @param buffer      The interface, from its current position.
+     * @param classesHash The {@link #hashClasses(Map) hash} of the classes beside the interface.
+     * @return The scan result it was written from, or nothing if the buffer doesn't hold an interface of this version
+     *     written from the same classes.
+     */
+    public static Optional<ScanResult> read(ByteBuffer buffer, long classesHash) {
+        return read(buffer, Optional.of(classesHash));
+    }
+
+    /**
+     * Writes an interface.
+     *
+     * @param scan        The scan result of the module's classes.
+     * @param classesHash The {@link #hashClasses(Map) hash} of the module's classes.
+     * @param file        The file to write.
+     */
+    public static void write(ScanResult scan, long classesHash, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream stream = Files.newOutputStream(file)) {
+                stream.write(toBytes(scan, classesHash));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static byte[] toBytes(ScanResult scan, long classesHash) {
+        try {
+            Writer body = new Writer();
+            body.write(scan);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(classesHash);
+            output.writeInt(body.strings.size());
+            for (String string : body.strings.keySet()) {
+                byte[] encoded = string.getBytes(UTF_8);
+                output.writeInt(encoded.length);
+                output.write(encoded);
+            }
+            body.bytes.writeTo(output);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static Optional<ScanResult> read(ByteBuffer buffer, Optional<Long> classesHash) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Optional.empty();
+            }
+            long writtenHash = buffer.getLong();
+            if (classesHash.isPresent() && classesHash.get() != writtenHash) {
+                return Optional.empty();
+            }
+            return Optional.of(new Reader(buffer).read());
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private ModuleInterface() {
+        // intentionally empty
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+        private final String[]   strings;
+
+        public Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] encoded = new byte[buffer.getInt()];
+                buffer.get(encoded);
+                strings[i] = new String(encoded, UTF_8);
+            }
+        }
+
+        public ScanResult read() {
+            Map<String, String> reExports = new LinkedHashMap<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                reExports.put(readString(), readString());
+            }
+            Set<SymbolEntry> entries = new HashSet<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                entries.add(readEntry());
+            }
+            Set<TypeInstanceDescriptor> instances = new HashSet<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                instances.add(readInstance());
+            }
+            return new ScanResult(entries, instances, reExports);
+        }
+
+        private DataConstructorDescriptor.Builder readConstructor(DataConstructorDescriptor.Builder builder) {
+            List<DataFieldDescriptor> fields = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                fields.add(field(buffer.getInt(), readString(), readString(), readType()));
+            }
+            return builder.withFields(fields);
+        }
+
+        private SymbolEntry readEntry() {
+            ImmutableEntryBuilder builder = SymbolEntry.immutableEntry(readSymbol());
+            int flags = buffer.getInt();
+            if ((flags & VALUE) != 0) {
+                builder.withValueType(readType());
+            }
+            if ((flags & OPERATOR) != 0) {
+                builder.withOperator(operator(Fixity.valueOf(readString()), buffer.getInt()));
+            }
+            if ((flags & TYPE) != 0) {
+                builder.withType(readType());
+            }
+            if ((flags & VALUE_METHOD) != 0) {
+                builder.withValueMethod(readMethod());
+            }
+            if ((flags & TYPE_CLASS) != 0) {
+                builder.withTypeClass(typeClass(readSymbol(), readTypes(), readSymbols()));
+            }
+            if ((flags & MEMBER_OF) != 0) {
+                builder.withMemberOf(readSymbol());
+            }
+            if ((flags & DATA_TYPE) != 0) {
+                List<Type> parameters = readTypes();
+                List<DataConstructorDescriptor> constructors = new ArrayList<>();
+                for (int i = buffer.getInt(); i > 0; i--) {
+                    int ordinal = buffer.getInt();
+                    Symbol dataType = readSymbol();
+                    Symbol symbol = readSymbol();
+                    String className = readString();
+                    constructors.add(readConstructor(DataConstructorDescriptor.builder(ordinal, dataType, symbol, className)).build());
+                }
+                builder.dataType().withParameters(parameters).withConstructors(constructors);
+            }
+            if ((flags & DATA_CONSTRUCTOR) != 0) {
+                int ordinal = buffer.getInt();
+                Symbol dataType = readSymbol();
+                String className = readString();
+                readConstructor(builder.dataConstructor(ordinal, dataType, className));
+            }
+            return builder.build();
+        }
+
+        private TypeInstanceDescriptor readInstance() {
+            return typeInstance(readString(), readSymbol(), readTypes(), readMethod());
+        }
+
+        private MethodSignature readMethod() {
+            MethodType methodType = MethodType.valueOf(readString());
+            return MethodSignature.fromString(methodType, readString() + ":" + readString() + ":" + readString());
+        }
+
+        private String readString() {
+            return strings[buffer.getInt()];
+        }
+
+        private List<String> readStrings() {
+            List<String> list = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                list.add(readString());
+            }
+            return list;
+        }
+
+        private Symbol readSymbol() {
+            if (buffer.get() == 0) {
+                return unqualified(readStrings());
+            } else {
+                String moduleName = readString();
+                return qualified(moduleName, readStrings());
+            }
+        }
+
+        private List<Symbol> readSymbols() {
+            List<Symbol> symbols = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                symbols.add(readSymbol());
+            }
+            return symbols;
+        }
+
+        private Type readType() {
+            byte tag = buffer.get();
+            switch (tag) {
+                case NULL_TYPE:
+                    return Type.NULL;
+                case SUM_TYPE:
+                    Symbol symbol = readSymbol();
+                    return sum(symbol, readTypes());
+                case VARIABLE_TYPE:
+                    String name = readString();
+                    return var(name, readSymbols());
+                case FUNCTION_TYPE:
+                    Type argument = readType();
+                    return fn(argument, readType());
+                case CONSTRUCTOR_TYPE:
+                    Type head = readType();
+                    return ctor(head, readType());
+                case INSTANCE_TYPE:
+                    Symbol typeClass = readSymbol();
+                    return instance(typeClass, readType());
+                default:
+                    throw new IllegalArgumentException("Unknown type tag " + tag);
+            }
+        }
+
+        private List<Type> readTypes() {
+            List<Type> types = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                types.add(readType());
+            }
+            return types;
+        }
+    }
+
+    private static final class Writer {
+
+        private final Map<String, Integer>  strings;
+        private final ByteArrayOutputStream bytes;
+        private final DataOutputStream      output;
+
+        public Writer() {
+            this.strings = new LinkedHashMap<>();
+            this.bytes = new ByteArrayOutputStream();
+            this.output = new DataOutputStream(bytes);
+        }
+
+        public void write(ScanResult scan) throws IOException {
+            Map<String, String> reExports = scan.getReExports();
+            output.writeInt(reExports.size());
+            for (Map.Entry<String, String> reExport : reExports.entrySet()) {
+                writeString(reExport.getKey());
+                writeString(reExport.getValue());
+            }
+            output.writeInt(scan.getEntries().size());
+            for (SymbolEntry entry : scan.getEntries()) {
+                writeEntry(entry);
+            }
+            output.writeInt(scan.getInstances().size());
+            for (TypeInstanceDescriptor instance : scan.getInstances()) {
+                writeInstance(instance);
+            }
+            output.flush();
+        }
+
+        private void writeConstructor(DataConstructorDescriptor constructor) throws IOException {
+            output.writeInt(constructor.getFields().size());
+            for (DataFieldDescriptor field : constructor.getFields()) {
+                output.writeInt(field.getOrdinal());
+                writeString(field.getName());
+                writeString(field.getMethodName());
+                writeType(field.getType());
+            }
+        }
+
+        private void writeEntry(SymbolEntry entry) throws IOException {
+            writeSymbol(entry.getSymbol());
+            output.writeInt((entry.getValue().isPresent() ? VALUE : 0)
+                | (entry.getOperator().isPresent() ? OPERATOR : 0)
+                | (entry.getType().isPresent() ? TYPE : 0)
+                | (entry.getValueMethod().isPresent() ? VALUE_METHOD : 0)
+                | (entry.getTypeClass().isPresent() ? TYPE_CLASS : 0)
+                | (entry.getMemberOf().isPresent() ? MEMBER_OF : 0)
+                | (entry.getDataType().isPresent() ? DATA_TYPE : 0)
+                | (entry.getDataConstructor().isPresent() ? DATA_CONSTRUCTOR : 0));
+            if (entry.getValue().isPresent()) {
+                writeType(entry.getValue().get());
+            }
+            if (entry.getOperator().isPresent()) {
+                writeString(entry.getOperator().get().getFixity().name());
+                output.writeInt(entry.getOperator().get().getPrecedence());
+            }
+            if (entry.getType().isPresent()) {
+                writeType(entry.getType().get());
+            }
+            if (entry.getValueMethod().isPresent()) {
+                writeMethod(entry.getValueMethod().get());
+            }
+            if (entry.getTypeClass().isPresent()) {
+                TypeClassDescriptor typeClass = entry.getTypeClass().get();
+                writeSymbol(typeClass.getSymbol());
+                writeTypes(typeClass.getParameters());
+                writeSymbols(new ArrayList<>(typeClass.getMembers()));
+            }
+            if (entry.getMemberOf().isPresent()) {
+                writeSymbol(entry.getMemberOf().get());
+            }
+            if (entry.getDataType().isPresent()) {
+                DataTypeDescriptor dataType = entry.getDataType().get();
+                writeTypes(dataType.getParameters());
+                output.writeInt(dataType.getConstructors().size());
+                for (DataConstructorDescriptor constructor : dataType.getConstructors()) {
+                    output.writeInt(constructor.getOrdinal());
+                    writeSymbol(constructor.getDataType());
+                    writeSymbol(constructor.getSymbol());
+                    writeString(constructor.getClassName());
+                    writeConstructor(constructor);
+                }
+            }
+            if (entry.getDataConstructor().isPresent()) {
+                DataConstructorDescriptor constructor = entry.getDataConstructor().get();
+                output.writeInt(constructor.getOrdinal());
+                writeSymbol(constructor.getDataType());
+                writeString(constructor.getClassName());
+                writeConstructor(constructor);
+            }
+        }
+
+        private void writeInstance(TypeInstanceDescriptor instance) throws IOException {
+            AtomicInteger counter = new AtomicInteger();
+            List<Type> parameters = new ArrayList<>();
+            for (TypeParameterDescriptor parameter : instance.getParameters()) {
+                parameters.add(parameter.copy(() -> var("t" + counter.getAndIncrement())));
+            }
+            writeString(instance.getModuleName());
+            writeSymbol(instance.getTypeClass());
+            writeTypes(parameters);
+            writeMethod(instance.getInstanceGetter());
+        }
+
+        private void writeMethod(MethodSignature method) throws IOException {
+            writeString(method.getMethodType().name());
+            writeString(method.getClassName());
+            writeString(method.getMethodName());
+            writeString(method.getSignature());
+        }
+
+        private void writeString(String string) throws IOException {
+            Integer index = strings.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.put(string, index);
+            }
+            output.writeInt(index);
+        }
+
+        private void writeStrings(List<String> list) throws IOException {
+            output.writeInt(list.size());
+            for (String string : list) {
+                writeString(string);
+            }
+        }
+
+        private void writeSymbol(Symbol symbol) throws IOException {
+            Optional<String> moduleName = symbol.accept(new SymbolVisitor<Optional<String>>() {
+                @Override
+                public Optional<String> visit(QualifiedSymbol symbol) {
+                    return Optional.of(symbol.getModuleName());
+                }
+
+                @Override
+                public Optional<String> visit(UnqualifiedSymbol symbol) {
+                    return Optional.empty();
+                }
+            });
+            output.writeByte(moduleName.isPresent() ? 1 : 0);
+            if (moduleName.isPresent()) {
+                writeString(moduleName.get());
+            }
+            writeStrings(symbol.getMemberNames());
+        }
+
+        private void writeSymbols(List<Symbol> symbols) throws IOException {
+            output.writeInt(symbols.size());
+            for (Symbol symbol : symbols) {
+                writeSymbol(symbol);
+            }
+        }
+
+        private void writeType(Type type) throws IOException {
+            if (type instanceof SumType) {
+                output.writeByte(SUM_TYPE);
+                writeSymbol(((SumType) type).getSymbol());
+                writeTypes(((SumType) type).getParameters());
+            } else if (type instanceof VariableType) {
+                output.writeByte(VARIABLE_TYPE);
+                writeString(((VariableType) type).getName());
+                writeSymbols(new ArrayList<>(type.getContext()));
+            } else if (type instanceof FunctionType) {
+                output.writeByte(FUNCTION_TYPE);
+                writeType(((FunctionType) type).getArgument());
+                writeType(((FunctionType) type).getResult());
+            } else if (type instanceof ConstructorType) {
+                output.writeByte(CONSTRUCTOR_TYPE);
+                writeType(((ConstructorType) type).getHead());
+                writeType(((ConstructorType) type).getTail());
+            } else if (type instanceof InstanceType) {
+                output.writeByte(INSTANCE_TYPE);
+                writeSymbol(((InstanceType) type).getSymbol());
+                writeType(((InstanceType) type).getBinding());
+            } else if (type == Type.NULL) {
+                output.writeByte(NULL_TYPE);
+            } else {
+                throw new IllegalArgumentException("Can't write type " + type);
+            }
+        }
+
+        private void writeTypes(List<Type> types) throws IOException {
+            output.writeInt(types.size());
+            for (Type type : types) {
+                writeType(type);
+            }
+        }
+    }
+}
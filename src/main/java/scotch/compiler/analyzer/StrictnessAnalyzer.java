@@ -0,0 +1,143 @@
+package scotch.compiler.analyzer;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static scotch.compiler.syntax.definition.DefinitionEntry.entry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import scotch.compiler.syntax.definition.DefinitionEntry;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.syntax.definition.ValueDefinition;
+import scotch.compiler.syntax.reference.ValueReference;
+import scotch.compiler.syntax.value.Argument;
+import scotch.compiler.syntax.value.FunctionValue;
+import scotch.compiler.syntax.value.Value;
+
+/**
+ * Finds the parameters of each function which are certain to be evaluated whenever a saturated application of the
+ * function is evaluated, and marks the applications passing arguments to them as strict so that those arguments are
+ * evaluated eagerly rather than suspended in a thunk.
+ *
+ * <p>Self-recursive functions are analyzed to a fixed point, starting from the assumption that every parameter is
+ * strict. Functions which are still being analyzed when they are referenced by another function are treated as lazy in
+ * all of their parameters.</p>
+ */
+public class StrictnessAnalyzer {
+
+    private final DefinitionGraph                     graph;
+    private final Map<ValueReference, List<Argument>> parameters;
+    private final Map<ValueReference, List<Boolean>>  strictArguments;
+    private final Map<ValueReference, List<Boolean>>  assumptions;
+    private final Deque<ValueReference>               analyzing;
+
+    public StrictnessAnalyzer(DefinitionGraph graph) {
+        this.graph = graph;
+        this.parameters = new LinkedHashMap<>();
+        this.strictArguments = new HashMap<>();
+        this.assumptions = new HashMap<>();
+        this.analyzing = new ArrayDeque<>();
+    }
+
+    public DefinitionGraph analyzeStrictness() {
+        if (graph.hasErrors()) {
+            return graph;
+        }
+        List<DefinitionEntry> entries = graph.stream()
+            .map(entry -> entry.getDefinition().asValue()
+                .map(definition -> entry(entry.getScope(), analyzeStrictness(definition)))
+                .orElseGet(definition -> entry))
+            .collect(toList());
+        return graph.copyWith(entries).build();
+    }
+
+    /**
+     * Gets whether each parameter of a value defined in this graph is strict.
+     *
+     * @param reference The value.
+     * @return The strictness of each parameter, or empty if the value isn't defined in this graph or can't be
+     *     analyzed yet.
+     */
+    public Optional<List<Boolean>> getStrictArguments(ValueReference reference) {
+        if (strictArguments.containsKey(reference)) {
+            return Optional.of(strictArguments.get(reference));
+        } else if (reference.equals(analyzing.peek())) {
+            return Optional.of(assumptions.get(reference));
+        } else if (analyzing.contains(reference)) {
+            return Optional.empty();
+        } else {
+            return graph.getDefinition(reference).map(this::analyzeParameters);
+        }
+    }
+
+    /**
+     * Lists the parameters of each function analyzed, one function per line, with strict parameters prefixed by
+     * {@code !}, e.g. {@code scotch.test.add !#0 !#1}.
+     *
+     * @return The report.
+     */
+    public String prettyPrint() {
+        return parameters.keySet().stream()
+            .filter(reference -> !parameters.get(reference).isEmpty())
+            .map(reference -> reference.getSymbol().getCanonicalName() + " " + prettyPrint(reference))
+            .sorted()
+            .collect(joining("\n"));
+    }
+
+    private List<Boolean> analyzeParameters(ValueDefinition definition) {
+        ValueReference reference = definition.getReference();
+        List<Argument> arguments = definition.getParameters();
+        Value body = definition.getBody();
+        int count = 0;
+        while (count < arguments.size()) {
+            count += ((FunctionValue) body).getArguments().size();
+            body = ((FunctionValue) body).getBody();
+        }
+        List<Boolean> strictness = new ArrayList<>(nCopies(arguments.size(), true));
+        if (!arguments.isEmpty()) {
+            analyzing.push(reference);
+            try {
+                while (true) {
+                    assumptions.put(reference, strictness);
+                    Set<String> demandedArguments = body.getDemandedArguments(this);
+                    List<Boolean> result = arguments.stream()
+                        .map(argument -> demandedArguments.contains(argument.getName()))
+                        .collect(toList());
+                    if (result.equals(strictness)) {
+                        break;
+                    }
+                    strictness = result;
+                }
+            } finally {
+                analyzing.pop();
+                assumptions.remove(reference);
+            }
+        }
+        parameters.put(reference, arguments);
+        strictArguments.put(reference, strictness);
+        return strictness;
+    }
+
+    private ValueDefinition analyzeStrictness(ValueDefinition definition) {
+        getStrictArguments(definition.getReference());
+        return definition.withBody(definition.getBody().analyzeStrictness(this));
+    }
+
+    private String prettyPrint(ValueReference reference) {
+        List<Argument> arguments = parameters.get(reference);
+        List<Boolean> strictness = strictArguments.get(reference);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < arguments.size(); i++) {
+            names.add((strictness.get(i) ? "!" : "") + arguments.get(i).getName());
+        }
+        return String.join(" ", names);
+    }
+}
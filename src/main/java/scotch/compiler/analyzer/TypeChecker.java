@@ -4,12 +4,14 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static scotch.compiler.error.SymbolNotFoundError.symbolNotFound;
+import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.definition.DefinitionEntry.entry;
 import static scotch.compiler.syntax.reference.DefinitionReference.classRef;
 import static scotch.compiler.syntax.reference.DefinitionReference.instanceRef;
 import static scotch.compiler.syntax.value.Values.arg;
 import static scotch.compiler.syntax.value.Values.entry;
 import static scotch.compiler.syntax.value.Values.instance;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
 import static scotch.compiler.text.TextUtil.repeat;
 import static scotch.compiler.util.Pair.pair;
 
@@ -17,10 +19,13 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -48,6 +53,7 @@ import scotch.compiler.syntax.definition.ValueDefinition;
 import scotch.compiler.syntax.definition.ValueSignature;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.ValueReference;
+import scotch.compiler.syntax.scope.ForkedTypeScope;
 import scotch.compiler.syntax.scope.Scope;
 import scotch.compiler.syntax.value.Argument;
 import scotch.compiler.syntax.value.FunctionValue;
@@ -112,6 +118,34 @@ public class TypeChecker implements TypeScope {
             .build();
     }
 
+    /**
+     * Checks the types of the graph like {@link #checkTypes()}, but checks groups of values which don't depend on each
+     * other in parallel, as one task in the pool per group. Each group is checked by its own type checker against
+     * {@link ForkedTypeScope forks} of the type scopes of its values, and the forks are joined back in the order of the
+     * groups once every group of the same {@link DefinitionGraph#getValueLevels() level} has been checked. Errors are reported in the same order as when
+     * checking sequentially, but generated symbols and type variables are numbered in the order that groups happen to
+     * be checked in.
+     *
+     * @param pool The pool to check groups in.
+     * @return The checked graph.
+     */
+    public DefinitionGraph checkTypes(ForkJoinPool pool) {
+        map(graph.getSortedReferences().stream()
+            .filter(reference -> !(reference instanceof ValueReference))
+            .collect(toList()), Definition::checkTypes);
+        graph.getValueLevels().forEach(level -> {
+            List<ForkJoinTask<CheckedGroup>> checks = level.stream()
+                .map(group -> ForkJoinTask.adapt(() -> checkGroup(group)))
+                .collect(toList());
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(checks)));
+            checks.forEach(check -> joinGroup(check.join()));
+        });
+        return graph
+            .copyWith(entries.values())
+            .appendErrors(errors)
+            .build();
+    }
+
     public Optional<DataTypeDescriptor> getDataType(Type type) {
         if (type instanceof SumType) {
             return scope().getDataType(((SumType) type).getSymbol());
@@ -352,6 +386,23 @@ public class TypeChecker implements TypeScope {
         return builder.build();
     }
 
+    private CheckedGroup checkGroup(List<ValueReference> group) {
+        TypeChecker checker = new TypeChecker(graph);
+        Map<TypeScope, ForkedTypeScope> forks = new HashMap<>();
+        Map<Scope, ForkedTypeScope> scopes = new LinkedHashMap<>();
+        group.forEach(reference -> {
+            Scope scope = graph.getScope(reference);
+            ForkedTypeScope fork = forks.computeIfAbsent(scope.getTypes(), ForkedTypeScope::new);
+            scope.setTypes(fork);
+            scopes.put(scope, fork);
+        });
+        checker.map(new ArrayList<DefinitionReference>(group), Definition::checkTypes);
+        SourceLocation sourceLocation = graph.getDefinition(group.get(0))
+            .map(ValueDefinition::getSourceLocation)
+            .orElse(NULL_SOURCE);
+        return new CheckedGroup(checker, scopes, sourceLocation);
+    }
+
     private Scope closure() {
         return closures.peek();
     }
@@ -388,6 +439,16 @@ public class TypeChecker implements TypeScope {
         return !nestings.isEmpty();
     }
 
+    private void joinGroup(CheckedGroup group) {
+        group.scopes.forEach((scope, fork) -> scope.setTypes(fork.getParent()));
+        entries.putAll(group.checker.entries);
+        errors.addAll(group.checker.errors);
+        group.scopes.values().stream()
+            .distinct()
+            .flatMap(fork -> fork.join().stream())
+            .forEach(unification -> errors.add(typeError(unification, group.sourceLocation)));
+    }
+
     private void leaveNest() {
         nestings.pop();
         if (isNested()) {
@@ -452,6 +513,19 @@ public class TypeChecker implements TypeScope {
         }
     }
 
+    private static final class CheckedGroup {
+
+        private final TypeChecker                 checker;
+        private final Map<Scope, ForkedTypeScope> scopes;
+        private final SourceLocation              sourceLocation;
+
+        private CheckedGroup(TypeChecker checker, Map<Scope, ForkedTypeScope> scopes, SourceLocation sourceLocation) {
+            this.checker = checker;
+            this.scopes = scopes;
+            this.sourceLocation = sourceLocation;
+        }
+    }
+
     @EqualsAndHashCode(callSuper = false)
     @ToString
     public static class TypeInstanceNotFoundError extends SyntaxError {
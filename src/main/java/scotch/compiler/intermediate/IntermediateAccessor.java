@@ -4,6 +4,7 @@ import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
@@ -13,8 +14,12 @@ import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.target.BytecodeGenerator;
 import scotch.runtime.AccessorSupport;
 import scotch.runtime.Callable;
-import scotch.runtime.SuppliedThunk;
+import scotch.runtime.RuntimeSupport;
 
+/**
+ * Gets a field from a data value. When the constructor of the value is known, the getter generated for the field is
+ * invoked directly, otherwise the getter is looked up at runtime through {@link AccessorSupport}.
+ */
 @EqualsAndHashCode(callSuper = false)
 @ToString
 public class IntermediateAccessor extends IntermediateValue {
@@ -23,45 +28,63 @@ public class IntermediateAccessor extends IntermediateValue {
     private final IntermediateValue target;
     private final String fieldName;
     private final String methodName;
+    private final Optional<String> className;
 
-    IntermediateAccessor(List<String> captures, IntermediateValue target, String fieldName, String methodName) {
+    IntermediateAccessor(List<String> captures, IntermediateValue target, String fieldName, String methodName, Optional<String> className) {
         this.captures = ImmutableList.copyOf(captures);
         this.target = target;
         this.fieldName = fieldName;
         this.methodName = methodName;
+        this.className = className;
     }
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator generator) {
-        List<Integer> argumentOffsets = generator.getArgumentOffsets();
-        Class<?>[] argumentTypes = getArgumentTypes(argumentOffsets);
         return new CodeBlock() {{
-            newobj(p(SuppliedThunk.class));
-            dup();
-            argumentOffsets.forEach(this::aload);
+            captures.forEach(capture -> aload(generator.offsetOf(capture)));
             lambda(generator.currentClass(), new LambdaBlock(generator.reserveAccess()) {{
                 function(p(Supplier.class), "get", sig(Object.class));
                 specialize(sig(Callable.class));
-                capture(argumentTypes);
-                delegateTo(ACC_STATIC, sig(Callable.class, argumentTypes), new CodeBlock() {{
-                    List<String> arguments = generator.getArguments();
-                    generator.beginMethod(arguments);
-                    append(target.generateBytecode(generator));
-                    ldc(methodName);
-                    invokestatic(p(AccessorSupport.class), "access", sig(Callable.class, Callable.class, String.class));
+                capture(getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(Callable.class, getCaptureTypes()), new CodeBlock() {{
+                    generator.beginMethod(captures);
+                    append(generateAccess(generator));
                     areturn();
                     generator.endMethod();
                 }});
             }});
-            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+            invokestatic(p(RuntimeSupport.class), "callable", sig(Callable.class, Supplier.class));
         }};
     }
 
-    private Class<?>[] getArgumentTypes(List<Integer> offsets) {
-        Class<?>[] types = new Class<?>[offsets.size()];
-        for (int i = 0; i < offsets.size(); i++) {
-            types[i] = Callable.class;
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateAccess(generator));
+            invokestatic(p(RuntimeSupport.class), "strict", sig(Callable.class, Object.class));
+        }};
+    }
+
+    private CodeBlock generateAccess(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(target.generateBytecode(generator));
+            if (className.isPresent()) {
+                invokeinterface(p(Callable.class), "call", sig(Object.class));
+                checkcast(className.get());
+                invokevirtual(className.get(), methodName, sig(Callable.class));
+            } else {
+                ldc(methodName);
+                invokestatic(p(AccessorSupport.class), "access", sig(Callable.class, Callable.class, String.class));
+            }
+        }};
+    }
+
+    private Class<?>[] getCaptureTypes() {
+        int size = captures.size();
+        Class<?>[] callables = new Class<?>[size];
+        for (int i = 0; i < size; i++) {
+            callables[i] = Callable.class;
         }
-        return types;
+        return callables;
     }
 }
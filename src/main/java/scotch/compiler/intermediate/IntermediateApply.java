@@ -13,7 +13,7 @@ import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.target.BytecodeGenerator;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
-import scotch.runtime.SuppliedThunk;
+import scotch.runtime.RuntimeSupport;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -22,18 +22,18 @@ public class IntermediateApply extends IntermediateValue {
     private final List<String>      captures;
     private final IntermediateValue function;
     private final IntermediateValue argument;
+    private final boolean           strict;
 
-    public IntermediateApply(List<String> captures, IntermediateValue function, IntermediateValue argument) {
+    public IntermediateApply(List<String> captures, IntermediateValue function, IntermediateValue argument, boolean strict) {
         this.captures = ImmutableList.copyOf(captures);
         this.function = function;
         this.argument = argument;
+        this.strict = strict;
     }
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator generator) {
         return new CodeBlock() {{
-            newobj(p(SuppliedThunk.class));
-            dup();
             captures.forEach(capture -> aload(generator.offsetOf(capture)));
             lambda(generator.currentClass(), new LambdaBlock(generator.reserveApply()) {{
                 function(p(Supplier.class), "get", sig(Object.class));
@@ -41,16 +41,38 @@ public class IntermediateApply extends IntermediateValue {
                 capture(getCaptureTypes());
                 delegateTo(ACC_STATIC, sig(Callable.class, getCaptureTypes()), new CodeBlock() {{
                     generator.beginMethod(captures);
-                    append(function.generateBytecode(generator));
-                    invokeinterface(p(Callable.class), "call", sig(Object.class));
-                    checkcast(p(Applicable.class));
-                    append(argument.generateBytecode(generator));
-                    invokeinterface(p(Applicable.class), "apply", sig(Callable.class, Callable.class));
+                    append(generateApplication(generator));
                     areturn();
                     generator.endMethod();
                 }});
             }});
-            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+            invokestatic(p(RuntimeSupport.class), "callable", sig(Callable.class, Supplier.class));
+        }};
+    }
+
+    /**
+     * Applies the function in place rather than suspending the application in a thunk, as the enclosing application
+     * is going to evaluate it anyway.
+     */
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateApplication(generator));
+            invokestatic(p(RuntimeSupport.class), "strict", sig(Callable.class, Object.class));
+        }};
+    }
+
+    private CodeBlock generateApplication(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(function.generateBytecode(generator));
+            invokeinterface(p(Callable.class), "call", sig(Object.class));
+            checkcast(p(Applicable.class));
+            if (strict) {
+                append(argument.generateStrictBytecode(generator));
+            } else {
+                append(argument.generateBytecode(generator));
+            }
+            invokeinterface(p(Applicable.class), "apply", sig(Callable.class, Callable.class));
         }};
     }
 
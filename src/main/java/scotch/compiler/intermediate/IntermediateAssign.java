@@ -24,4 +24,14 @@ public class IntermediateAssign extends IntermediateValue {
             append(body.generateBytecode(generator));
         }};
     }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator generator, TailCall tailCall) {
+        return new CodeBlock() {{
+            append(value.generateBytecode(generator));
+            generator.storeOffset(variable);
+            astore(generator.offsetOf(variable));
+            append(body.generateTailBytecode(generator, tailCall));
+        }};
+    }
 }
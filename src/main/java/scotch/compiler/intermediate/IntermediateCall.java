@@ -0,0 +1,109 @@
+package scotch.compiler.intermediate;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.List;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import me.qmx.jitescript.LambdaBlock;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.Callable;
+import scotch.runtime.RuntimeSupport;
+import scotch.symbol.MethodSignature;
+
+/**
+ * A saturated call to a function whose arity is known, which invokes the function's direct method with all of its
+ * arguments at once instead of applying its curried form one argument at a time.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateCall extends IntermediateValue {
+
+    private final List<String>            captures;
+    private final MethodSignature         function;
+    private final List<IntermediateValue> arguments;
+    private final List<Boolean>           strictArguments;
+    private final boolean                 suspended;
+
+    IntermediateCall(List<String> captures, MethodSignature function, List<IntermediateValue> arguments, List<Boolean> strictArguments, boolean suspended) {
+        this.captures = ImmutableList.copyOf(captures);
+        this.function = function;
+        this.arguments = ImmutableList.copyOf(arguments);
+        this.strictArguments = ImmutableList.copyOf(strictArguments);
+        this.suspended = suspended;
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator generator) {
+        if (!suspended) {
+            return generateCall(generator);
+        }
+        return new CodeBlock() {{
+            captures.forEach(capture -> aload(generator.offsetOf(capture)));
+            lambda(generator.currentClass(), new LambdaBlock(generator.reserveApply()) {{
+                function(p(Supplier.class), "get", sig(Object.class));
+                specialize(sig(Callable.class));
+                capture(getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(Callable.class, getCaptureTypes()), new CodeBlock() {{
+                    generator.beginMethod(captures);
+                    append(generateCall(generator));
+                    areturn();
+                    generator.endMethod();
+                }});
+            }});
+            invokestatic(p(RuntimeSupport.class), "callable", sig(Callable.class, Supplier.class));
+        }};
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateCall(generator));
+            invokestatic(p(RuntimeSupport.class), "strict", sig(Callable.class, Object.class));
+        }};
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator generator, TailCall tailCall) {
+        if (tailCall.isCallTo(function)) {
+            return new CodeBlock() {{
+                append(generateArguments(generator));
+                append(tailCall.loop(generator));
+            }};
+        } else {
+            return generateBytecode(generator);
+        }
+    }
+
+    private CodeBlock generateArguments(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            for (int i = 0; i < arguments.size(); i++) {
+                if (strictArguments.get(i)) {
+                    append(arguments.get(i).generateStrictBytecode(generator));
+                } else {
+                    append(arguments.get(i).generateBytecode(generator));
+                }
+            }
+        }};
+    }
+
+    private CodeBlock generateCall(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateArguments(generator));
+            append(function.reference());
+        }};
+    }
+
+    private Class<?>[] getCaptureTypes() {
+        int size = captures.size();
+        Class<?>[] callables = new Class<?>[size];
+        for (int i = 0; i < size; i++) {
+            callables[i] = Callable.class;
+        }
+        return callables;
+    }
+}
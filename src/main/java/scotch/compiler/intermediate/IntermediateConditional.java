@@ -1,7 +1,6 @@
 package scotch.compiler.intermediate;
 
-import static me.qmx.jitescript.util.CodegenUtils.p;
-import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.PrimitiveType.BOOL;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -9,8 +8,6 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import org.objectweb.asm.tree.LabelNode;
 import scotch.compiler.target.BytecodeGenerator;
-import scotch.runtime.Callable;
-import scotch.runtime.RuntimeSupport;
 
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
@@ -26,8 +23,10 @@ public class IntermediateConditional extends IntermediateValue {
         return new CodeBlock() {{
             LabelNode falseBranch = new LabelNode();
             LabelNode end = new LabelNode();
-            append(condition.generateBytecode(generator));
-            invokestatic(p(RuntimeSupport.class), "unboxBool", sig(boolean.class, Callable.class));
+            append(condition.generatePrimitive(generator, BOOL).orElseGet(() -> new CodeBlock() {{
+                append(condition.generateBytecode(generator));
+                append(BOOL.unbox());
+            }}));
             iffalse(falseBranch);
             append(whenTrue.generateBytecode(generator));
             go_to(end);
@@ -36,4 +35,22 @@ public class IntermediateConditional extends IntermediateValue {
             label(end);
         }};
     }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator generator, TailCall tailCall) {
+        return new CodeBlock() {{
+            LabelNode falseBranch = new LabelNode();
+            LabelNode end = new LabelNode();
+            append(condition.generatePrimitive(generator, BOOL).orElseGet(() -> new CodeBlock() {{
+                append(condition.generateBytecode(generator));
+                append(BOOL.unbox());
+            }}));
+            iffalse(falseBranch);
+            append(whenTrue.generateTailBytecode(generator, tailCall));
+            go_to(end);
+            label(falseBranch);
+            append(whenFalse.generateTailBytecode(generator, tailCall));
+            label(end);
+        }};
+    }
 }
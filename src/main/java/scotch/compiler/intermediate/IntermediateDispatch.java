@@ -0,0 +1,125 @@
+package scotch.compiler.intermediate;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import me.qmx.jitescript.LambdaBlock;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Type;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.Callable;
+import scotch.runtime.DispatchSupport;
+import scotch.runtime.RuntimeSupport;
+import scotch.symbol.MethodSignature;
+
+/**
+ * A saturated application of a type class member, which is dispatched through an {@code invokedynamic} call site
+ * bootstrapped by {@link DispatchSupport}. When the instance is known at compile time the call site links directly to
+ * the instance's implementation of the member, otherwise the instance is passed as the first argument to the call
+ * site.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateDispatch extends IntermediateValue {
+
+    private final List<String>              captures;
+    private final MethodSignature           valueMethod;
+    private final String                    memberName;
+    private final Optional<MethodSignature> instanceGetter;
+    private final List<IntermediateValue>   arguments;
+    private final List<Boolean>             strictArguments;
+
+    IntermediateDispatch(List<String> captures, MethodSignature valueMethod, String memberName, Optional<MethodSignature> instanceGetter, List<IntermediateValue> arguments, List<Boolean> strictArguments) {
+        this.captures = ImmutableList.copyOf(captures);
+        this.valueMethod = valueMethod;
+        this.memberName = memberName;
+        this.instanceGetter = instanceGetter;
+        this.arguments = ImmutableList.copyOf(arguments);
+        this.strictArguments = ImmutableList.copyOf(strictArguments);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            captures.forEach(capture -> aload(generator.offsetOf(capture)));
+            lambda(generator.currentClass(), new LambdaBlock(generator.reserveApply()) {{
+                function(p(Supplier.class), "get", sig(Object.class));
+                specialize(sig(Callable.class));
+                capture(getCallables(captures.size()));
+                delegateTo(ACC_STATIC, sig(Callable.class, getCallables(captures.size())), new CodeBlock() {{
+                    generator.beginMethod(captures);
+                    append(generateDispatch(generator));
+                    areturn();
+                    generator.endMethod();
+                }});
+            }});
+            invokestatic(p(RuntimeSupport.class), "callable", sig(Callable.class, Supplier.class));
+        }};
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateDispatch(generator));
+            invokestatic(p(RuntimeSupport.class), "strict", sig(Callable.class, Object.class));
+        }};
+    }
+
+    private CodeBlock generateDispatch(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            for (int i = 0; i < arguments.size(); i++) {
+                if (strictArguments.get(i)) {
+                    append(arguments.get(i).generateStrictBytecode(generator));
+                } else {
+                    append(arguments.get(i).generateBytecode(generator));
+                }
+            }
+            List<Object> bootstrapArguments = new ArrayList<>();
+            bootstrapArguments.add(Type.getObjectType(valueMethod.getClassName()));
+            bootstrapArguments.add(memberName);
+            bootstrapArguments.add(valueMethod.getMethodName());
+            bootstrapArguments.add(valueMethod.getSignature());
+            if (instanceGetter.isPresent()) {
+                bootstrapArguments.add(Type.getObjectType(instanceGetter.get().getClassName()));
+                bootstrapArguments.add(instanceGetter.get().getMethodName());
+                bootstrapArguments.add(instanceGetter.get().getSignature());
+                invokedynamic(valueMethod.getMethodName(), sig(Callable.class, getCallables(arguments.size())), new Handle(
+                    H_INVOKESTATIC,
+                    p(DispatchSupport.class),
+                    "bootstrapInstance",
+                    sig(CallSite.class, Lookup.class, String.class, MethodType.class, Class.class, String.class,
+                        String.class, String.class,
+                        Class.class, String.class, String.class)
+                ), bootstrapArguments.toArray());
+            } else {
+                invokedynamic(valueMethod.getMethodName(), sig(Callable.class, getCallables(arguments.size())), new Handle(
+                    H_INVOKESTATIC,
+                    p(DispatchSupport.class),
+                    "bootstrapDictionary",
+                    sig(CallSite.class, Lookup.class, String.class, MethodType.class, Class.class, String.class,
+                        String.class, String.class)
+                ), bootstrapArguments.toArray());
+            }
+        }};
+    }
+
+    private Class<?>[] getCallables(int size) {
+        Class<?>[] callables = new Class<?>[size];
+        for (int i = 0; i < size; i++) {
+            callables[i] = Callable.class;
+        }
+        return callables;
+    }
+}
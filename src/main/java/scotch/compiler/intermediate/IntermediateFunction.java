@@ -27,6 +27,14 @@ public class IntermediateFunction extends IntermediateValue {
         this.body = body;
     }
 
+    public String getArgument() {
+        return argument;
+    }
+
+    public IntermediateValue getBody() {
+        return body;
+    }
+
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator generator) {
         return new CodeBlock() {{
@@ -10,6 +10,7 @@ import static scotch.compiler.syntax.reference.DefinitionReference.dataRef;
 import static scotch.compiler.syntax.reference.DefinitionReference.moduleRef;
 import static scotch.compiler.syntax.reference.DefinitionReference.rootRef;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
+import static scotch.compiler.util.Pair.pair;
 import static scotch.util.StringUtil.quote;
 
 import java.util.ArrayDeque;
@@ -26,6 +27,7 @@ import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ValueReference;
 import scotch.compiler.syntax.scope.Scope;
+import scotch.compiler.util.Pair;
 import scotch.symbol.FieldSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
@@ -86,11 +88,25 @@ public class IntermediateGenerator {
         return rootRef();
     }
 
-    public DefinitionReference defineValue(Symbol symbol, Type type, IntermediateValue body) {
-        definitions.add(value(symbol, type, body));
+    public DefinitionReference defineValue(Symbol symbol, Type type, int arity, IntermediateValue body) {
+        definitions.add(value(symbol, type, arity, body));
         return valueRef(symbol);
     }
 
+    /**
+     * Gets the signature of the method taking all arguments of a function defined in this graph at once.
+     *
+     * @param reference The function.
+     * @return The signature of the function's direct method, or empty if the function isn't defined in this graph.
+     */
+    public Optional<Pair<Integer, MethodSignature>> functionSignature(ValueReference reference) {
+        return graph.getDefinition(reference)
+            .map(definition -> definition.getParameters().size())
+            .filter(arity -> arity > 0)
+            .map(arity -> pair(arity, IntermediateValueDefinition.functionSignature(
+                valueSignature(reference).getClassName(), reference.getSymbol(), arity)));
+    }
+
     public IntermediateGraph generateIntermediateCode() {
         if (graph.hasErrors()) {
             throw new CompileException(graph.getErrors());
@@ -124,6 +140,10 @@ public class IntermediateGenerator {
         ).get().getInstanceGetter();
     }
 
+    public boolean isMember(ValueReference reference) {
+        return scope().isMember(reference.getSymbol());
+    }
+
     public void reference(String name) {
         if (!references.contains(name)) {
             references.add(name);
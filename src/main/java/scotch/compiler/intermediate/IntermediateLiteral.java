@@ -3,6 +3,7 @@ package scotch.compiler.intermediate;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
 
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,4 +38,13 @@ public class IntermediateLiteral extends IntermediateValue {
             }
         }};
     }
+
+    @Override
+    public Optional<CodeBlock> generatePrimitive(BytecodeGenerator generator, PrimitiveType type) {
+        if (type.isLiteral(value)) {
+            return Optional.of(new CodeBlock().ldc(value));
+        } else {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package scotch.compiler.intermediate;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.List;
+import java.util.Optional;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import me.qmx.jitescript.LambdaBlock;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.Callable;
+
+/**
+ * A saturated application of a {@link PrimitiveOperation}.
+ *
+ * <p>Operands which are themselves primitive (literals and nested operations) are computed inline, so an expression
+ * such as {@code a * b + c} allocates a single thunk for its result.</p>
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediatePrimitive extends IntermediateValue {
+
+    private final List<String>       captures;
+    private final PrimitiveOperation operation;
+    private final IntermediateValue  left;
+    private final IntermediateValue  right;
+
+    IntermediatePrimitive(List<String> captures, PrimitiveOperation operation, IntermediateValue left, IntermediateValue right) {
+        this.captures = ImmutableList.copyOf(captures);
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator generator) {
+        PrimitiveType resultType = operation.getResultType();
+        return new CodeBlock() {{
+            captures.forEach(capture -> aload(generator.offsetOf(capture)));
+            lambda(generator.currentClass(), new LambdaBlock(generator.reservePrimitive()) {{
+                function(p(resultType.getSupplierClass()), resultType.getSupplierMethod(), sig(resultType.getPrimitiveClass()));
+                capture(getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(resultType.getPrimitiveClass(), getCaptureTypes()), new CodeBlock() {{
+                    generator.beginMethod(captures);
+                    append(generateOperation(generator));
+                    append(resultType.returnValue());
+                    generator.endMethod();
+                }});
+            }});
+            append(resultType.box());
+        }};
+    }
+
+    @Override
+    public Optional<CodeBlock> generatePrimitive(BytecodeGenerator generator, PrimitiveType type) {
+        if (operation.getResultType() == type) {
+            return Optional.of(generateOperation(generator));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Computes the operation in place and boxes the result, skipping the supplier lambda.
+     */
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateOperation(generator));
+            append(operation.getResultType().boxValue());
+        }};
+    }
+
+    private CodeBlock generateOperand(BytecodeGenerator generator, IntermediateValue operand) {
+        PrimitiveType operandType = operation.getOperandType();
+        return operand.generatePrimitive(generator, operandType).orElseGet(() -> new CodeBlock() {{
+            append(operand.generateBytecode(generator));
+            append(operandType.unbox());
+        }});
+    }
+
+    private CodeBlock generateOperation(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            append(generateOperand(generator, left));
+            append(generateOperand(generator, right));
+            append(operation.generate());
+        }};
+    }
+
+    private Class<?>[] getCaptureTypes() {
+        int size = captures.size();
+        Class<?>[] callables = new Class<?>[size];
+        for (int i = 0; i < size; i++) {
+            callables[i] = Callable.class;
+        }
+        return callables;
+    }
+}
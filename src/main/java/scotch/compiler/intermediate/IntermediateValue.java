@@ -1,5 +1,6 @@
 package scotch.compiler.intermediate;
 
+import java.util.Optional;
 import me.qmx.jitescript.CodeBlock;
 import scotch.compiler.target.BytecodeGenerator;
 
@@ -10,6 +11,40 @@ public abstract class IntermediateValue {
 
     public abstract CodeBlock generateBytecode(BytecodeGenerator generator);
 
+    /**
+     * Generates code leaving this value on the stack as an unboxed primitive, if it can be computed without a thunk.
+     *
+     * @param generator The bytecode generator.
+     * @param type The primitive type expected.
+     * @return The code block, or empty if this value must be generated as a {@link scotch.runtime.Callable} and
+     *     unboxed.
+     */
+    public Optional<CodeBlock> generatePrimitive(BytecodeGenerator generator, PrimitiveType type) {
+        return Optional.empty();
+    }
+
+    /**
+     * Generates code for an argument passed to a strict parameter, which may be evaluated in place instead of being
+     * suspended in a thunk.
+     *
+     * @param generator The bytecode generator.
+     * @return The code block.
+     */
+    public CodeBlock generateStrictBytecode(BytecodeGenerator generator) {
+        return generateBytecode(generator);
+    }
+
+    /**
+     * Generates code for a value returned from the direct method of a function.
+     *
+     * @param generator The bytecode generator.
+     * @param tailCall The function being generated, which may be called again by jumping back to its start.
+     * @return The code block.
+     */
+    public CodeBlock generateTailBytecode(BytecodeGenerator generator, TailCall tailCall) {
+        return generateBytecode(generator);
+    }
+
     @Override
     public abstract int hashCode();
 
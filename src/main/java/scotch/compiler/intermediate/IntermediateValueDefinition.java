@@ -1,8 +1,15 @@
 package scotch.compiler.intermediate;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.Intermediates.function;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
+import static scotch.symbol.MethodSignature.staticMethod;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -10,6 +17,8 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.Callable;
+import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.Value;
 import scotch.symbol.type.Type;
@@ -22,15 +31,61 @@ public class IntermediateValueDefinition extends IntermediateDefinition {
 
     private final Symbol            symbol;
     private final Type              type;
+    private final int               arity;
     private final IntermediateValue value;
 
+    /**
+     * Gets the signature of the method taking all arguments of a function at once.
+     *
+     * @param className The class defining the function.
+     * @param symbol The function.
+     * @param arity The number of arguments the function takes.
+     * @return The signature.
+     */
+    public static MethodSignature functionSignature(String className, Symbol symbol, int arity) {
+        Class<?>[] callables = new Class<?>[arity];
+        for (int i = 0; i < arity; i++) {
+            callables[i] = Callable.class;
+        }
+        return staticMethod(className, symbol.getMethodName() + "$direct", sig(Callable.class, callables));
+    }
+
+    /**
+     * Generates the value's getter. Functions with a known arity also get a direct method taking all of their
+     * arguments, which their curried form delegates to once it has been given every argument. Calls the function
+     * makes to itself in tail position loop within the direct method.
+     */
     @Override
     public void generateBytecode(BytecodeGenerator generator) {
+        IntermediateValue getterValue = value;
+        if (arity > 0) {
+            List<String> arguments = new ArrayList<>();
+            IntermediateValue body = value;
+            for (int i = 0; i < arity; i++) {
+                arguments.add(((IntermediateFunction) body).getArgument());
+                body = ((IntermediateFunction) body).getBody();
+            }
+            IntermediateValue functionBody = body;
+            MethodSignature signature = functionSignature(symbol.getModuleClass(), symbol, arity);
+            TailCall tailCall = new TailCall(signature, arguments);
+            generator.createFunction(symbol, signature, new CodeBlock() {{
+                generator.beginMethod(arguments);
+                append(tailCall.begin());
+                append(functionBody.generateTailBytecode(generator, tailCall));
+                areturn();
+                generator.endMethod();
+            }});
+            getterValue = new IntermediateCall(arguments, signature, arguments.stream().map(Intermediates::variable).collect(toList()), nCopies(arity, false), false);
+            for (int i = arity - 1; i >= 0; i--) {
+                getterValue = function(arguments.subList(0, i), arguments.get(i), getterValue);
+            }
+        }
+        IntermediateValue getterBody = getterValue;
         generator.createValue(symbol, new CodeBlock() {{
             annotate(Value.class).value("memberName", symbol.getSimpleName());
             generator.beginMethod(emptyList());
             //markLine(this); TODO
-            append(value.generateBytecode(generator));
+            append(getterBody.generateBytecode(generator));
             areturn();
             generator.endMethod();
         }});
@@ -9,6 +9,7 @@ import static scotch.symbol.descriptor.TypeParameterDescriptor.typeParam;
 import static scotch.symbol.type.Types.sum;
 
 import java.util.List;
+import java.util.Optional;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ValueReference;
@@ -20,17 +21,25 @@ import scotch.symbol.type.Type;
 public final class Intermediates {
 
     public static IntermediateAccessor access(List<String> captures, IntermediateValue target, String fieldName, String methodName) {
-        return new IntermediateAccessor(captures, target, fieldName, methodName);
+        return new IntermediateAccessor(captures, target, fieldName, methodName, Optional.empty());
+    }
+
+    public static IntermediateAccessor access(List<String> captures, IntermediateValue target, String fieldName, String methodName, String className) {
+        return new IntermediateAccessor(captures, target, fieldName, methodName, Optional.of(className));
     }
 
     public static IntermediateApply apply(List<String> captures, IntermediateValue function, IntermediateValue argument) {
-        return new IntermediateApply(captures, function, argument);
+        return new IntermediateApply(captures, function, argument, false);
     }
 
     public static IntermediateAssign assign(String variable, IntermediateValue value, IntermediateValue body) {
         return new IntermediateAssign(variable, value, body);
     }
 
+    public static IntermediateCall call(List<String> captures, MethodSignature function, List<IntermediateValue> arguments, List<Boolean> strictArguments) {
+        return new IntermediateCall(captures, function, arguments, strictArguments, true);
+    }
+
     public static IntermediateConditional conditional(IntermediateValue condition, IntermediateValue truePath, IntermediateValue falsePath) {
         return new IntermediateConditional(condition, truePath, falsePath);
     }
@@ -67,6 +76,10 @@ public final class Intermediates {
         return new IntermediateConstructor(symbol, className, methodSignature, arguments);
     }
 
+    public static IntermediateDispatch dispatch(List<String> captures, MethodSignature valueMethod, String memberName, Optional<MethodSignature> instanceGetter, List<IntermediateValue> arguments, List<Boolean> strictArguments) {
+        return new IntermediateDispatch(captures, valueMethod, memberName, instanceGetter, arguments, strictArguments);
+    }
+
     public static IntermediateDataDefinition data(String name, List<Type> parameters, List<IntermediateConstructorDefinition> constructors) {
         return data(symbol(name), parameters, constructors);
     }
@@ -114,6 +127,10 @@ public final class Intermediates {
         return new IntermediateModule(symbol, definitions);
     }
 
+    public static IntermediatePrimitive primitive(List<String> captures, PrimitiveOperation operation, IntermediateValue left, IntermediateValue right) {
+        return new IntermediatePrimitive(captures, operation, left, right);
+    }
+
     public static IntermediateRaise raise(String message) {
         return new IntermediateRaise(message);
     }
@@ -122,12 +139,20 @@ public final class Intermediates {
         return new IntermediateRoot(references);
     }
 
+    public static IntermediateApply strictApply(List<String> captures, IntermediateValue function, IntermediateValue argument) {
+        return new IntermediateApply(captures, function, argument, true);
+    }
+
     public static IntermediateDefinition value(String name, Type type, IntermediateValue value) {
         return value(symbol(name), type, value);
     }
 
     public static IntermediateDefinition value(Symbol symbol, Type type, IntermediateValue value) {
-        return new IntermediateValueDefinition(symbol, type, value);
+        return value(symbol, type, 0, value);
+    }
+
+    public static IntermediateDefinition value(Symbol symbol, Type type, int arity, IntermediateValue value) {
+        return new IntermediateValueDefinition(symbol, type, arity, value);
     }
 
     public static IntermediateReference valueRef(String name, MethodSignature methodSignature) {
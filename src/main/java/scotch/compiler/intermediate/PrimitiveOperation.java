@@ -0,0 +1,107 @@
+package scotch.compiler.intermediate;
+
+import static java.util.Arrays.stream;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.PrimitiveType.BOOL;
+import static scotch.compiler.intermediate.PrimitiveType.DOUBLE;
+import static scotch.compiler.intermediate.PrimitiveType.INT;
+import static scotch.symbol.Symbol.qualified;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.syntax.reference.InstanceReference;
+import scotch.symbol.Symbol;
+
+/**
+ * Type class methods which compile to a single JVM instruction when every instance they are applied to is known to
+ * be for a {@link PrimitiveType}.
+ *
+ * <p>Only operations whose primitive semantics match the runtime instance exactly are listed: Double comparisons are
+ * left to {@code OrdDouble} because its ordering of NaN differs from the JVM's.</p>
+ */
+public enum PrimitiveOperation {
+
+    INT_ADD("scotch.data.num", "+", INT, INT, CodeBlock::iadd),
+    INT_SUBTRACT("scotch.data.num", "-", INT, INT, CodeBlock::isub),
+    INT_MULTIPLY("scotch.data.num", "*", INT, INT, CodeBlock::imul),
+    INT_EQUAL("scotch.data.eq", "==", INT, BOOL, compare(CodeBlock::if_icmpeq)),
+    INT_NOT_EQUAL("scotch.data.eq", "/=", INT, BOOL, compare(CodeBlock::if_icmpne)),
+    INT_LESS_THAN("scotch.data.ord", "<", INT, BOOL, compare(CodeBlock::if_icmplt)),
+    INT_LESS_THAN_EQUAL("scotch.data.ord", "<=", INT, BOOL, compare(CodeBlock::if_icmple)),
+    INT_GREATER_THAN("scotch.data.ord", ">", INT, BOOL, compare(CodeBlock::if_icmpgt)),
+    INT_GREATER_THAN_EQUAL("scotch.data.ord", ">=", INT, BOOL, compare(CodeBlock::if_icmpge)),
+    DOUBLE_ADD("scotch.data.num", "+", DOUBLE, DOUBLE, CodeBlock::dadd),
+    DOUBLE_SUBTRACT("scotch.data.num", "-", DOUBLE, DOUBLE, CodeBlock::dsub),
+    DOUBLE_MULTIPLY("scotch.data.num", "*", DOUBLE, DOUBLE, CodeBlock::dmul),
+    DOUBLE_EQUAL("scotch.data.eq", "==", DOUBLE, BOOL, compareDoubles(CodeBlock::ifeq)),
+    DOUBLE_NOT_EQUAL("scotch.data.eq", "/=", DOUBLE, BOOL, compareDoubles(CodeBlock::ifne));
+
+    public static Optional<PrimitiveOperation> find(Symbol method, List<InstanceReference> instances) {
+        return stream(values())
+            .filter(operation -> operation.symbol.equals(method))
+            .filter(operation -> !instances.isEmpty() && instances.stream().allMatch(operation::isOperandInstance))
+            .findFirst();
+    }
+
+    private static Function<CodeBlock, CodeBlock> compare(Branch branch) {
+        return code -> {
+            LabelNode isTrue = new LabelNode();
+            LabelNode end = new LabelNode();
+            branch.apply(code, isTrue);
+            code.iconst_0();
+            code.go_to(end);
+            code.label(isTrue);
+            code.iconst_1();
+            code.label(end);
+            return code;
+        };
+    }
+
+    private static Function<CodeBlock, CodeBlock> compareDoubles(Branch branch) {
+        Function<CodeBlock, CodeBlock> compare = compare(branch);
+        return code -> compare.apply(code.invokestatic("java/lang/Double", "compare", sig(int.class, double.class, double.class)));
+    }
+
+    private final Symbol                         symbol;
+    private final PrimitiveType                  operandType;
+    private final PrimitiveType                  resultType;
+    private final Function<CodeBlock, CodeBlock> instruction;
+
+    PrimitiveOperation(String moduleName, String memberName, PrimitiveType operandType, PrimitiveType resultType, Function<CodeBlock, CodeBlock> instruction) {
+        this.symbol = qualified(moduleName, memberName);
+        this.operandType = operandType;
+        this.resultType = resultType;
+        this.instruction = instruction;
+    }
+
+    /**
+     * Applies the operation to the two operands on top of the stack, leaving the unboxed result.
+     *
+     * @return The code block.
+     */
+    public CodeBlock generate() {
+        return instruction.apply(new CodeBlock());
+    }
+
+    public PrimitiveType getOperandType() {
+        return operandType;
+    }
+
+    public PrimitiveType getResultType() {
+        return resultType;
+    }
+
+    private boolean isOperandInstance(InstanceReference instance) {
+        return instance.getParameters().size() == 1
+            && instance.getParameters().get(0).matches(operandType.getType());
+    }
+
+    @FunctionalInterface
+    private interface Branch {
+
+        CodeBlock apply(CodeBlock code, LabelNode label);
+    }
+}
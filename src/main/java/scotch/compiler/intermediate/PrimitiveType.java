@@ -0,0 +1,107 @@
+package scotch.compiler.intermediate;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import me.qmx.jitescript.CodeBlock;
+import scotch.data.bool.Bool;
+import scotch.data.double_.Double_;
+import scotch.data.int_.Int;
+import scotch.runtime.Callable;
+import scotch.runtime.RuntimeSupport;
+import scotch.symbol.type.Type;
+
+/**
+ * The Scotch types which are given unboxed representations in generated code.
+ */
+public enum PrimitiveType {
+
+    INT(Int.TYPE, int.class, Integer.class, IntSupplier.class, "getAsInt", "intCallable", "unboxInt") {
+        @Override
+        public CodeBlock returnValue() {
+            return new CodeBlock().ireturn();
+        }
+    },
+    DOUBLE(Double_.TYPE, double.class, Double.class, DoubleSupplier.class, "getAsDouble", "doubleCallable", "unboxDouble") {
+        @Override
+        public CodeBlock returnValue() {
+            return new CodeBlock().dreturn();
+        }
+    },
+    BOOL(Bool.TYPE, boolean.class, Boolean.class, BooleanSupplier.class, "getAsBoolean", "boolCallable", "unboxBool") {
+        @Override
+        public CodeBlock returnValue() {
+            return new CodeBlock().ireturn();
+        }
+    };
+
+    private final Type     type;
+    private final Class<?> primitiveClass;
+    private final Class<?> boxedClass;
+    private final Class<?> supplierClass;
+    private final String   supplierMethod;
+    private final String   callableMethod;
+    private final String   unboxMethod;
+
+    PrimitiveType(Type type, Class<?> primitiveClass, Class<?> boxedClass, Class<?> supplierClass, String supplierMethod, String callableMethod, String unboxMethod) {
+        this.type = type;
+        this.primitiveClass = primitiveClass;
+        this.boxedClass = boxedClass;
+        this.supplierClass = supplierClass;
+        this.supplierMethod = supplierMethod;
+        this.callableMethod = callableMethod;
+        this.unboxMethod = unboxMethod;
+    }
+
+    /**
+     * Wraps a supplier of this primitive, on top of the stack, into a lazy {@link Callable}.
+     *
+     * @return The code block.
+     */
+    public CodeBlock box() {
+        return new CodeBlock().invokestatic(p(RuntimeSupport.class), callableMethod, sig(Callable.class, supplierClass));
+    }
+
+    /**
+     * Boxes the evaluated primitive on top of the stack into a {@link Callable}.
+     *
+     * @return The code block.
+     */
+    public CodeBlock boxValue() {
+        return new CodeBlock().invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, primitiveClass));
+    }
+
+    public Class<?> getPrimitiveClass() {
+        return primitiveClass;
+    }
+
+    public Class<?> getSupplierClass() {
+        return supplierClass;
+    }
+
+    public String getSupplierMethod() {
+        return supplierMethod;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isLiteral(Object value) {
+        return boxedClass.isInstance(value);
+    }
+
+    public abstract CodeBlock returnValue();
+
+    /**
+     * Forces the {@link Callable} on top of the stack and unboxes it to this primitive.
+     *
+     * @return The code block.
+     */
+    public CodeBlock unbox() {
+        return new CodeBlock().invokestatic(p(RuntimeSupport.class), unboxMethod, sig(primitiveClass, Callable.class));
+    }
+}
@@ -0,0 +1,52 @@
+package scotch.compiler.intermediate;
+
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.symbol.MethodSignature;
+
+/**
+ * The direct method of a function while its body is being generated. Values in tail position which call the function
+ * again replace its arguments and jump back to the start of the method, so self-recursive functions run in constant
+ * stack.
+ */
+public class TailCall {
+
+    private final MethodSignature function;
+    private final List<String>    arguments;
+    private final LabelNode       start;
+
+    TailCall(MethodSignature function, List<String> arguments) {
+        this.function = function;
+        this.arguments = ImmutableList.copyOf(arguments);
+        this.start = new LabelNode();
+    }
+
+    public CodeBlock begin() {
+        return new CodeBlock() {{
+            label(start);
+        }};
+    }
+
+    public boolean isCallTo(MethodSignature signature) {
+        return function.equals(signature);
+    }
+
+    /**
+     * Stores the new arguments of the function, which must be on the stack in order, and jumps back to the start of
+     * the method.
+     *
+     * @param generator The bytecode generator.
+     * @return The code block.
+     */
+    public CodeBlock loop(BytecodeGenerator generator) {
+        return new CodeBlock() {{
+            for (int i = arguments.size() - 1; i >= 0; i--) {
+                astore(generator.offsetOf(arguments.get(i)));
+            }
+            go_to(start);
+        }};
+    }
+}
@@ -7,7 +7,7 @@ import lombok.NonNull;
 @AllArgsConstructor
 public class GeneratedClass implements Comparable<GeneratedClass> {
 
-    @NonNull
+    @NonNull @Getter
     private final ClassType type;
     @NonNull @Getter
     private final String    className;
@@ -4,22 +4,28 @@ import static scotch.compiler.scanner.Token.TokenKind.DOT;
 import static scotch.compiler.scanner.Token.TokenKind.EOF;
 import static scotch.compiler.scanner.Token.TokenKind.ID;
 
-import java.util.ArrayList;
-import java.util.List;
 import scotch.compiler.scanner.Scanner;
 import scotch.compiler.scanner.Token;
 import scotch.compiler.text.NamedSourcePoint;
 
+/**
+ * Streams tokens from a {@link Scanner}, holding only as many as the parser has looked ahead in a ring buffer. Tokens
+ * are read one past the farthest one looked at, so that a dot with whitespace on either side can be identified as
+ * the compose operator before it is seen.
+ */
 final class LookAheadScanner {
 
     private final Scanner          delegate;
-    private final List<Token>      tokens;
-    private       int              position;
-    private       NamedSourcePoint previousPosition;
+    private       Token[]          tokens;
+    private       int              head;
+    private       int              count;
+    private       Token            last;
+    private       Token            beforeLast;
+    private       Token            previous;
 
     public LookAheadScanner(Scanner delegate) {
         this.delegate = delegate;
-        this.tokens = new ArrayList<>();
+        this.tokens = new Token[8];
     }
 
     public NamedSourcePoint getPosition() {
@@ -27,51 +33,48 @@ final class LookAheadScanner {
     }
 
     public NamedSourcePoint getPreviousPosition() {
-        return previousPosition;
+        return previous == null ? null : previous.getEnd();
     }
 
     public Token nextToken() {
-        Token token = tokens.get(position);
-        buffer();
-        if (position < tokens.size()) {
-            previousPosition = peekAt(0).getEnd();
-            position++;
+        Token token = peekAt(0);
+        previous = token;
+        if (!token.is(EOF)) {
+            tokens[head] = null;
+            head = (head + 1) & (tokens.length - 1);
+            count--;
         }
         return token;
     }
 
     public Token peekAt(int offset) {
-        buffer();
-        if (position + offset < tokens.size()) {
-            return tokens.get(position + offset);
-        } else {
-            return tokens.get(tokens.size() - 1);
+        while (count <= offset + 1 && (last == null || !last.is(EOF))) {
+            read();
         }
+        return tokens[(head + Math.min(offset, count - 1)) & (tokens.length - 1)];
     }
 
-    private void buffer() {
-        if (tokens.isEmpty()) {
-            while (true) {
-                Token token = delegate.nextToken();
-                tokens.add(token);
-                if (token.is(EOF)) {
-                    break;
-                }
-            }
-            identifyComposes();
+    private void grow() {
+        Token[] grown = new Token[tokens.length * 2];
+        for (int i = 0; i < count; i++) {
+            grown[i] = tokens[(head + i) & (tokens.length - 1)];
         }
+        tokens = grown;
+        head = 0;
     }
 
-    private void identifyComposes() {
-        for (int i = 1; i < tokens.size() - 1; i++) {
-            Token token = tokens.get(i);
-            if (token.is(DOT)) {
-                Token previous = tokens.get(i - 1);
-                Token next = tokens.get(i + 1);
-                if (token.getStartOffset() > previous.getEndOffset() && token.getEndOffset() < next.getStartOffset()) {
-                    tokens.set(i, token.withKind(ID));
-                }
-            }
+    private void read() {
+        Token token = delegate.nextToken();
+        if (count == tokens.length) {
+            grow();
         }
+        if (last != null && last.is(DOT) && beforeLast != null
+            && last.getStartOffset() > beforeLast.getEndOffset() && last.getEndOffset() < token.getStartOffset()) {
+            tokens[(head + count - 1) & (tokens.length - 1)] = last.withKind(ID);
+        }
+        tokens[(head + count) & (tokens.length - 1)] = token;
+        count++;
+        beforeLast = last;
+        last = token;
     }
 }
@@ -2,12 +2,6 @@ package scotch.compiler.scanner;
 
 import static java.lang.Character.getName;
 import static java.lang.Character.isLetterOrDigit;
-import static java.lang.Integer.parseInt;
-import static java.lang.String.format;
-import static java.util.Arrays.asList;
-import static java.util.Optional.empty;
-import static java.util.Optional.of;
-import static org.apache.commons.lang.StringEscapeUtils.unescapeJava;
 import static scotch.compiler.scanner.DefaultScanner.Action.ACCEPT;
 import static scotch.compiler.scanner.DefaultScanner.Action.ERROR;
 import static scotch.compiler.scanner.DefaultScanner.Action.KEEP_GOING;
@@ -49,7 +43,6 @@ import static scotch.compiler.scanner.Token.TokenKind.CLOSE_SQUARE;
 import static scotch.compiler.scanner.Token.TokenKind.SEMICOLON;
 import static scotch.compiler.scanner.Token.TokenKind.STRING;
 import static scotch.compiler.scanner.Token.token;
-import static scotch.compiler.text.SourcePoint.point;
 import static scotch.compiler.text.TextUtil.isAsciiEscape;
 import static scotch.compiler.text.TextUtil.isBackslash;
 import static scotch.compiler.text.TextUtil.isBacktick;
@@ -68,15 +61,13 @@ import static scotch.util.StringUtil.quote;
 import static scotch.util.StringUtil.stringify;
 
 import java.net.URI;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.nio.CharBuffer;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 import com.google.common.collect.ImmutableMap;
 import scotch.compiler.scanner.Token.TokenKind;
+import scotch.compiler.text.LineMap;
 import scotch.compiler.text.NamedSourcePoint;
-import scotch.compiler.text.SourcePoint;
 
 public final class DefaultScanner implements Scanner {
 
@@ -98,6 +89,8 @@ public final class DefaultScanner implements Scanner {
         .put("do", take(DO))
         .build();
 
+    private static final Acceptor identifier = take(ID);
+
     private static Acceptor take(TokenKind kind) {
         return new Acceptor(kind);
     }
@@ -107,30 +100,37 @@ public final class DefaultScanner implements Scanner {
     }
 
     private final URI                source;
-    private final char[]             data;
-    private final Deque<SaveState>   saves;
-    private final Deque<State>       states;
-    private final Deque<SourcePoint> marks;
+    private final CharSequence       data;
+    private final Lexicon            lexicon;
+    private final StringBuilder      text;
+    private final LineMap            lines;
+    private       SaveState          save;
+    private       Stack<State>       states;
     private       Action             action;
-    private       Optional<Token>    token;
-    private       Optional<String>   text;
-    private       SourcePoint        location;
+    private       Token              token;
+    private       int                offset;
+    private       int                start;
+    private       int                wordStart;
 
     public DefaultScanner(URI source, char[] data) {
+        this(source, CharBuffer.wrap(data));
+    }
+
+    public DefaultScanner(URI source, CharSequence data) {
         this.source = source;
         this.data = data;
-        this.saves = new ArrayDeque<>();
-        this.states = new ArrayDeque<>(asList(SCAN_DEFAULT));
-        this.marks = new ArrayDeque<>(asList(point(0, 1, 1)));
+        this.lexicon = new Lexicon(dictionary.keySet());
+        this.text = new StringBuilder();
+        this.states = Stack.of(SCAN_DEFAULT);
         this.action = KEEP_GOING;
-        this.token = empty();
-        this.text = empty();
-        this.location = point(0, 1, 1);
+        this.lines = new LineMap(source, data);
+        this.offset = 0;
+        this.start = 0;
     }
 
     @Override
     public NamedSourcePoint getPosition() {
-        return location.withSource(source);
+        return lines.getNamedPoint(offset);
     }
 
     public URI getSource() {
@@ -139,8 +139,8 @@ public final class DefaultScanner implements Scanner {
 
     @Override
     public Token nextToken() {
-        token = empty();
-        setText(s -> "");
+        token = null;
+        text.setLength(0);
         setAction(KEEP_GOING);
         mark();
         while (isKeepGoing()) {
@@ -148,17 +148,15 @@ public final class DefaultScanner implements Scanner {
         }
         if (isError()) {
             unexpected();
-        } else {
-            unMark();
         }
-        return token.get();
+        return token;
     }
 
     @Override
     public String toString() {
         return stringify(this) + "("
             + "source=" + quote(source)
-            + ", coord=" + location
+            + ", coord=" + getPosition()
             + ")";
     }
 
@@ -180,11 +178,11 @@ public final class DefaultScanner implements Scanner {
 
     private void accept(TokenKind kind, Object value) {
         accept();
-        token = of(token(kind, value, marks.peek().withSource(source).to(getPosition())));
+        token = token(kind, value, lines, start, offset);
     }
 
     private void acceptChar() {
-        accept(CHAR, unescapeJava(getText()).charAt(0));
+        accept(CHAR, text.charAt(0));
     }
 
     private void acceptInt() {
@@ -192,7 +190,7 @@ public final class DefaultScanner implements Scanner {
     }
 
     private void begin() {
-        saves.push(new SaveState(this));
+        save = new SaveState(this);
     }
 
     private void beginComment() {
@@ -213,28 +211,19 @@ public final class DefaultScanner implements Scanner {
     }
 
     private void end() {
-        saves.pop();
+        save = save.previous;
     }
 
     private void enterState(State state) {
-        states.push(state);
+        states = states.push(state);
     }
 
     private void error() {
         setAction(ERROR);
     }
 
-    private void gatherWord() {
-        setText(t -> t + peekChar());
-        read();
-    }
-
     private NamedSourcePoint getMarkedPosition() {
-        return marks.peek().withSource(source);
-    }
-
-    private String getText() {
-        return text.orElse("");
+        return lines.getNamedPoint(start);
     }
 
     private DefaultScanner invalidHexEscape() {
@@ -271,19 +260,15 @@ public final class DefaultScanner implements Scanner {
     }
 
     private void leaveState() {
-        states.pop();
+        states = states.pop();
     }
 
     private void mark() {
-        marks.push(location);
-    }
-
-    private int markedLength() {
-        return location.getOffset() - marks.peek().getOffset();
+        start = offset;
     }
 
     private String markedText() {
-        return new String(data, marks.peek().getOffset(), markedLength());
+        return lexicon.intern(data, start, offset);
     }
 
     private String nameOf(int c) {
@@ -372,10 +357,12 @@ public final class DefaultScanner implements Scanner {
     }
 
     private int peekAt(int offset) {
-        if (location.getOffset() + offset >= data.length || data[location.getOffset() + offset] == '\0') {
+        int index = this.offset + offset;
+        if (index >= data.length()) {
             return -1;
         } else {
-            return data[location.getOffset() + offset];
+            char c = data.charAt(index);
+            return c == '\0' ? -1 : c;
         }
     }
 
@@ -386,27 +373,24 @@ public final class DefaultScanner implements Scanner {
     private void read() {
         if (!isEOF()) {
             if (peek() == '\n') {
-                location = location.nextLine();
-            } else if (peek() == '\t') {
-                location = location.nextTab();
-            } else {
-                location = location.nextChar();
+                lines.addLine(offset + 1);
             }
+            offset++;
         }
     }
 
     private void readWord() {
-        setText(t -> "");
+        wordStart = offset;
         while (isIdentifier(peek())) {
-            gatherWord();
+            read();
         }
         while (peek() == '\'') {
-            gatherWord();
+            read();
         }
     }
 
     private void rollback() {
-        saves.pop().restore(this);
+        save.restore(this);
     }
 
     private void scanChar() {
@@ -420,7 +404,7 @@ public final class DefaultScanner implements Scanner {
                 scanEscape();
                 terminateChar();
             } else {
-                setText(t -> "" + peekChar());
+                text.append(peekChar());
                 read();
                 terminateChar();
             }
@@ -465,38 +449,39 @@ public final class DefaultScanner implements Scanner {
 
     private void scanEscape() {
         if (isBackslash(peek())) {
-            setText(t -> t + peekChar());
             read();
             if (isAsciiEscape(peek())) {
-                setText(t -> t + peekChar());
+                text.append(unescape(peekChar()));
                 read();
                 keepGoing();
             } else if (peek() == 'u') {
-                setText(t -> t + 'u');
                 while (peek() == 'u') {
                     read();
                 }
+                int value = 0;
                 for (int i = 0; i < 4; i++) {
                     if (isHex(peek())) {
-                        setText(t -> t + peekChar());
+                        value = value * 16 + Character.digit(peek(), 16);
                         read();
                         keepGoing();
                     } else {
                         invalidHexEscape();
                     }
                 }
+                text.append((char) value);
             } else if (isOctal(peek())) {
-                mark();
+                int value = 0;
                 if (peek() >= '0' && peek() <= '3') {
+                    value = peek() - '0';
                     read();
                 }
                 for (int i = 0; i < 2; i++) {
                     if (isOctal(peek())) {
+                        value = value * 8 + peek() - '0';
                         read();
                     }
                 }
-                setText(t -> t + format("u%04x", parseInt(markedText(), 8)));
-                unMark();
+                text.append((char) value);
                 keepGoing();
             } else {
                 error();
@@ -564,7 +549,7 @@ public final class DefaultScanner implements Scanner {
             read();
             readWord();
             if (isBacktick(peek())) {
-                String word = markedText().substring(1, markedLength());
+                String word = lexicon.intern(data, wordStart, offset);
                 if (dictionary.containsKey(word)) {
                     throw new ScanException("Cannot quote reserved word " + quote(word) + " " + getMarkedPosition().prettyPrint());
                 } else {
@@ -583,14 +568,14 @@ public final class DefaultScanner implements Scanner {
         if (isDoubleQuote(peek())) {
             read();
             leaveState();
-            accept(STRING, unescapeJava(getText()));
+            accept(STRING, text.toString());
         } else if (isNewLineOrEOF(peek())) {
             unterminatedString();
         } else if (isBackslash(peek())) {
             scanEscape();
             keepGoing();
         } else {
-            setText(t -> t + peekChar());
+            text.append(peekChar());
             read();
             keepGoing();
         }
@@ -598,19 +583,14 @@ public final class DefaultScanner implements Scanner {
 
     private void scanWord() {
         readWord();
-        accept(dictionary.getOrDefault(getText(), take(ID)));
+        accept(dictionary.getOrDefault(lexicon.intern(data, wordStart, offset), identifier));
     }
 
     private void setAction(Action action) {
         this.action = action;
     }
 
-    private void setText(Function<String, String> modifier) {
-        text = of(modifier.apply(text.orElse("")));
-    }
-
     private void skip() {
-        unMark();
         read();
         mark();
     }
@@ -637,6 +617,23 @@ public final class DefaultScanner implements Scanner {
         return states.peek();
     }
 
+    private char unescape(char c) {
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            default:
+                return c;
+        }
+    }
+
     private void terminateChar() {
         if (isSingleQuote(peek())) {
             read();
@@ -646,10 +643,6 @@ public final class DefaultScanner implements Scanner {
         }
     }
 
-    private void unMark() {
-        marks.pop();
-    }
-
     private void unexpected() {
         throw new ScanException("Unexpected " + nameOf(peek()) + " " + getPosition().prettyPrint());
     }
@@ -698,37 +691,68 @@ public final class DefaultScanner implements Scanner {
         }
     }
 
+    /**
+     * A checkpoint of the scanner. The state stack is persistent, so a checkpoint shares it with the scanner rather
+     * than copying it, and saving and restoring take the same time however deeply it is nested.
+     */
     private static final class SaveState {
 
-        private final ArrayDeque<SaveState>   saves;
-        private final ArrayDeque<State>       states;
-        private final ArrayDeque<SourcePoint> marks;
-        private final Action                  action;
-        private final Optional<Token>         token;
-        private final Optional<String>        text;
-        private final SourcePoint             coordinate;
+        private final SaveState          previous;
+        private final Stack<State>       states;
+        private final Action             action;
+        private final Token              token;
+        private final int                textLength;
+        private final int                offset;
+        private final int                start;
+        private final int                wordStart;
 
         public SaveState(DefaultScanner scanner) {
-            saves = new ArrayDeque<>(scanner.saves);
-            states = new ArrayDeque<>(scanner.states);
-            marks = new ArrayDeque<>(scanner.marks);
+            previous = scanner.save;
+            states = scanner.states;
             action = scanner.action;
             token = scanner.token;
-            text = scanner.text;
-            coordinate = scanner.location;
+            textLength = scanner.text.length();
+            offset = scanner.offset;
+            start = scanner.start;
+            wordStart = scanner.wordStart;
         }
 
         public void restore(DefaultScanner scanner) {
-            scanner.saves.clear();
-            scanner.saves.addAll(saves);
-            scanner.states.clear();
-            scanner.states.addAll(states);
-            scanner.marks.clear();
-            scanner.marks.addAll(marks);
+            scanner.save = previous;
+            scanner.states = states;
             scanner.action = action;
             scanner.token = token;
-            scanner.text = text;
-            scanner.location = coordinate;
+            scanner.text.setLength(textLength);
+            scanner.offset = offset;
+            scanner.start = start;
+            scanner.wordStart = wordStart;
+        }
+    }
+
+    private static final class Stack<T> {
+
+        public static <T> Stack<T> of(T head) {
+            return new Stack<>(head, null);
+        }
+
+        private final T        head;
+        private final Stack<T> tail;
+
+        private Stack(T head, Stack<T> tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        public T peek() {
+            return head;
+        }
+
+        public Stack<T> pop() {
+            return tail;
+        }
+
+        public Stack<T> push(T value) {
+            return new Stack<>(value, this);
         }
     }
 }
@@ -89,7 +89,7 @@ public final class LayoutScanner implements Scanner {
     private void buffer_() {
         Token token = delegate.nextToken();
         if (token.is(EOF) && !lastToken().is(SEMICOLON)) {
-            tokens.add(token(SEMICOLON, ";", token.getSourceLocation()));
+            tokens.add(token(SEMICOLON, ";", token));
         }
         tokens.add(token);
         buffer();
@@ -181,19 +181,19 @@ public final class LayoutScanner implements Scanner {
     }
 
     private void insertIn() {
-        insertToken(token(IN, "in", firstToken().getSourceLocation()));
+        insertToken(token(IN, "in", firstToken()));
     }
 
     private void insertLCurly() {
-        tokens.add(1, token(OPEN_CURLY, "{", tokens.get(2).getSourceLocation()));
+        tokens.add(1, token(OPEN_CURLY, "{", tokens.get(2)));
     }
 
     private void insertRCurly() {
-        insertToken(token(CLOSE_CURLY, "}", firstToken().getSourceLocation()));
+        insertToken(token(CLOSE_CURLY, "}", firstToken()));
     }
 
     private void insertSemicolon() {
-        insertToken(token(SEMICOLON, ";", firstToken().getSourceLocation()));
+        insertToken(token(SEMICOLON, ";", firstToken()));
     }
 
     private void insertToken(Token token) {
@@ -0,0 +1,85 @@
+package scotch.compiler.scanner;
+
+import java.util.Collection;
+
+/**
+ * Interns the text of tokens as it is scanned, so that each distinct identifier, keyword or symbol in a source is only
+ * copied out of it once. Lookups hash and compare the characters in place and allocate nothing when the text has been
+ * seen before.
+ */
+final class Lexicon {
+
+    private String[] entries;
+    private int[]    hashes;
+    private int      size;
+
+    public Lexicon(Collection<String> reserved) {
+        entries = new String[256];
+        hashes = new int[256];
+        reserved.forEach(word -> intern(word, 0, word.length()));
+    }
+
+    /**
+     * Gets the text between two offsets of a source.
+     *
+     * @param data The source.
+     * @param start The offset of the first character.
+     * @param end The offset after the last character.
+     * @return The interned text.
+     */
+    public String intern(CharSequence data, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + data.charAt(i);
+        }
+        int mask = entries.length - 1;
+        int index = spread(hash) & mask;
+        while (entries[index] != null) {
+            if (hashes[index] == hash && matches(entries[index], data, start, end)) {
+                return entries[index];
+            }
+            index = (index + 1) & mask;
+        }
+        String text = data.subSequence(start, end).toString();
+        entries[index] = text;
+        hashes[index] = hash;
+        if (++size > entries.length / 2) {
+            grow();
+        }
+        return text;
+    }
+
+    private void grow() {
+        String[] oldEntries = entries;
+        int[] oldHashes = hashes;
+        entries = new String[oldEntries.length * 2];
+        hashes = new int[oldHashes.length * 2];
+        int mask = entries.length - 1;
+        for (int i = 0; i < oldEntries.length; i++) {
+            if (oldEntries[i] != null) {
+                int index = spread(oldHashes[i]) & mask;
+                while (entries[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                entries[index] = oldEntries[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private boolean matches(String entry, CharSequence data, int start, int end) {
+        if (entry.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < entry.length(); i++) {
+            if (entry.charAt(i) != data.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,160 @@
+package scotch.compiler.scanner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The text of a UTF-8 source file, read through a memory mapping of the file and decoded a block at a time as the
+ * scanner reaches it. Only the offsets of each block and the two most recently decoded blocks are kept on the heap.
+ *
+ * <p>Like source given as a string, the text always ends with a newline, which is added if the file doesn't already
+ * end with one.</p>
+ */
+final class MappedInput implements CharSequence {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Maps a file.
+     *
+     * @param file The file.
+     * @return The text of the file.
+     */
+    public static MappedInput map(Path file) {
+        try (FileChannel channel = FileChannel.open(file)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ScanException("Source file " + file + " is too large to scan");
+            }
+            return new MappedInput(file.toUri(), channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private final URI              source;
+    private final MappedByteBuffer bytes;
+    private final CharsetDecoder   decoder;
+    private final int[]            byteOffsets;
+    private final int[]            charOffsets;
+    private final int              length;
+    private final Block            current;
+    private final Block            previous;
+
+    private MappedInput(URI source, MappedByteBuffer bytes) {
+        this.source = source;
+        this.bytes = bytes;
+        this.decoder = UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        int blocks = bytes.limit() / BLOCK_SIZE + 2;
+        int[] byteOffsets = new int[blocks];
+        int[] charOffsets = new int[blocks];
+        int block = 0;
+        int chars = 0;
+        for (int i = 0; i < bytes.limit(); i++) {
+            int b = bytes.get(i);
+            if ((b & 0xC0) != 0x80) {
+                if (i >= byteOffsets[block] + BLOCK_SIZE) {
+                    block++;
+                    byteOffsets[block] = i;
+                    charOffsets[block] = chars;
+                }
+                chars += (b & 0xF8) == 0xF0 ? 2 : 1;
+            }
+        }
+        block++;
+        byteOffsets[block] = bytes.limit();
+        charOffsets[block] = chars;
+        this.byteOffsets = Arrays.copyOf(byteOffsets, block + 1);
+        this.charOffsets = Arrays.copyOf(charOffsets, block + 1);
+        this.length = bytes.limit() > 0 && bytes.get(bytes.limit() - 1) == '\n' ? chars : chars + 1;
+        this.current = new Block();
+        this.previous = new Block();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index >= current.start && index < current.end) {
+            return current.chars[index - current.start];
+        } else if (index >= previous.start && index < previous.end) {
+            return previous.chars[index - previous.start];
+        } else if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + length);
+        } else if (index >= charOffsets[charOffsets.length - 1]) {
+            return '\n';
+        } else {
+            decode(index);
+            return current.chars[index - current.start];
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+
+    private void decode(int index) {
+        int block = Arrays.binarySearch(charOffsets, index);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        ByteBuffer input = bytes.duplicate();
+        input.limit(byteOffsets[block + 1]).position(byteOffsets[block]);
+        Block decoded = previous.swap(current);
+        decoded.start = charOffsets[block];
+        decoded.end = charOffsets[block + 1];
+        if (decoded.chars.length < decoded.end - decoded.start) {
+            decoded.chars = new char[decoded.end - decoded.start];
+        }
+        CharBuffer output = CharBuffer.wrap(decoded.chars);
+        decoder.reset();
+        CoderResult result = decoder.decode(input, output, true);
+        if (result.isError()) {
+            decoded.end = decoded.start;
+            throw new ScanException("Malformed UTF-8 at byte " + input.position() + " of " + source);
+        }
+    }
+
+    private static final class Block {
+
+        private char[] chars = new char[0];
+        private int    start;
+        private int    end;
+
+        private Block swap(Block other) {
+            char[] chars = this.chars;
+            this.chars = other.chars;
+            this.start = other.start;
+            this.end = other.end;
+            other.chars = chars;
+            return other;
+        }
+    }
+}
@@ -2,30 +2,26 @@ package scotch.compiler.scanner;
 
 import static java.lang.String.join;
 import static java.lang.System.lineSeparator;
-import static java.util.stream.Collectors.joining;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.stream.Stream;
 import scotch.compiler.text.NamedSourcePoint;
 
 public interface Scanner {
 
+    /**
+     * Scans a UTF-8 source file through a memory mapping, decoding it as it is scanned rather than reading it onto the
+     * heap first.
+     *
+     * @param file The file.
+     * @return The scanner.
+     */
     static Scanner forFile(Path file) {
-        try (BufferedReader reader = Files.newBufferedReader(file)) {
-            try (Stream<String> lines = reader.lines()) {
-                return new LayoutScanner(new DefaultScanner(file.toUri(), (lines.collect(joining("\n")) + "\n").toCharArray()));
-            }
-        } catch (IOException exception) {
-            throw new RuntimeException(exception); // TODO
-        }
+        return new LayoutScanner(new DefaultScanner(file.toUri(), MappedInput.map(file)));
     }
 
     static Scanner forString(URI source, String... data) {
-        return new LayoutScanner(new DefaultScanner(source, (join(lineSeparator(), data) + lineSeparator()).toCharArray()));
+        return new LayoutScanner(new DefaultScanner(source, join(lineSeparator(), data) + lineSeparator()));
     }
 
     NamedSourcePoint getPosition();
@@ -4,23 +4,43 @@ import static scotch.util.StringUtil.quote;
 
 import java.util.Objects;
 import org.apache.commons.lang.builder.EqualsBuilder;
+import scotch.compiler.text.LineMap;
 import scotch.compiler.text.NamedSourcePoint;
 import scotch.compiler.text.SourceLocation;
 
+/**
+ * A token scanned from a source. Tokens from a scanner hold only their start and end offsets and the {@link LineMap}
+ * of their source, and build their {@link SourceLocation} when asked for it, so that a scanned token is a single
+ * object.
+ */
 public class Token {
 
     public static Token token(TokenKind kind, Object value, SourceLocation sourceLocation) {
-        return new Token(sourceLocation, kind, value);
+        return new Token(kind, value, sourceLocation, null, sourceLocation.getStartOffset(), sourceLocation.getEndOffset());
+    }
+
+    public static Token token(TokenKind kind, Object value, LineMap lines, int startOffset, int endOffset) {
+        return new Token(kind, value, null, lines, startOffset, endOffset);
+    }
+
+    public static Token token(TokenKind kind, Object value, Token location) {
+        return new Token(kind, value, location.sourceLocation, location.lines, location.startOffset, location.endOffset);
     }
 
     private final TokenKind      kind;
     private final Object         value;
     private final SourceLocation sourceLocation;
+    private final LineMap        lines;
+    private final int            startOffset;
+    private final int            endOffset;
 
-    private Token(SourceLocation sourceLocation, TokenKind kind, Object value) {
+    private Token(TokenKind kind, Object value, SourceLocation sourceLocation, LineMap lines, int startOffset, int endOffset) {
         this.kind = kind;
         this.value = value;
         this.sourceLocation = sourceLocation;
+        this.lines = lines;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
     }
 
     @Override
@@ -32,7 +52,7 @@ public class Token {
             return new EqualsBuilder()
                 .append(kind, other.kind)
                 .append(value, other.value)
-                .append(sourceLocation, other.sourceLocation)
+                .append(getSourceLocation(), other.getSourceLocation())
                 .isEquals();
         } else {
             return false;
@@ -40,11 +60,11 @@ public class Token {
     }
 
     public int getColumn() {
-        return sourceLocation.getStart().getColumn();
+        return lines == null ? sourceLocation.getStart().getColumn() : lines.getColumn(startOffset);
     }
 
     public NamedSourcePoint getEnd() {
-        return sourceLocation.getEnd();
+        return lines == null ? sourceLocation.getEnd() : lines.getNamedPoint(endOffset);
     }
 
     public TokenKind getKind() {
@@ -52,19 +72,19 @@ public class Token {
     }
 
     public SourceLocation getSourceLocation() {
-        return sourceLocation;
+        return lines == null ? sourceLocation : lines.getLocation(startOffset, endOffset);
     }
 
     public NamedSourcePoint getStart() {
-        return sourceLocation.getStart();
+        return lines == null ? sourceLocation.getStart() : lines.getNamedPoint(startOffset);
     }
 
     public int getStartOffset() {
-        return sourceLocation.getStartOffset();
+        return startOffset;
     }
 
     public int getEndOffset() {
-        return sourceLocation.getEndOffset();
+        return endOffset;
     }
 
     public Object getValue() {
@@ -90,7 +110,7 @@ public class Token {
     }
 
     public Token withKind(TokenKind kind) {
-        return new Token(sourceLocation, kind, value);
+        return new Token(kind, value, sourceLocation, lines, startOffset, endOffset);
     }
 
     public enum TokenKind {
@@ -2,15 +2,18 @@ package scotch.compiler.syntax.definition;
 
 import static java.util.Spliterators.spliterator;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static lombok.AccessLevel.PRIVATE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import com.google.common.collect.ImmutableList;
@@ -18,6 +21,7 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import scotch.compiler.error.SyntaxError;
+import scotch.symbol.Symbol;
 import scotch.symbol.util.DefaultSymbolGenerator;
 import scotch.symbol.util.SymbolGenerator;
 import scotch.symbol.type.Type;
@@ -35,9 +39,12 @@ public class DefinitionGraph {
         return new CyclicDependencyError(cycle);
     }
 
-    private static DependencyCycle fromNodes(Collection<DefinitionNode> nodes) {
+    private static DependencyCycle fromGroup(List<DefinitionNode> group) {
+        Set<Symbol> members = group.stream().map(DefinitionNode::getSymbol).collect(toSet());
         DependencyCycle.Builder builder = DependencyCycle.builder();
-        nodes.forEach(builder::addNode);
+        group.forEach(node -> builder.addNode(node.getSymbol(), node.getSourceLocation(), node.getDependencies().stream()
+            .filter(members::contains)
+            .collect(toList())));
         return builder.build();
     }
 
@@ -93,6 +100,36 @@ public class DefinitionGraph {
                 .orElseThrow(def2 -> new IllegalArgumentException("Can't get type of " + definition.getClass().getSimpleName()))));
     }
 
+    /**
+     * Groups the values of the graph by their dependencies on each other. Each group is either a single value or a set
+     * of mutually recursive values, and the groups are ordered so that every group comes after the groups it depends
+     * on.
+     *
+     * @return The groups of values, in dependency order.
+     */
+    public List<List<ValueReference>> getValueGroups() {
+        return getValueLevels().stream()
+            .flatMap(List::stream)
+            .collect(toList());
+    }
+
+    /**
+     * Arranges the {@link #getValueGroups() groups of values} in levels, each group depending only on groups in the
+     * levels before its own. The groups within a level don't depend on each other, so they may be processed in any
+     * order. The levels flattened in order are the same as the groups.
+     *
+     * @return The levels of groups of values, in dependency order.
+     */
+    public List<List<List<ValueReference>>> getValueLevels() {
+        return groupValues(valueNodes()).stream()
+            .map(level -> level.stream()
+                .map(group -> group.stream()
+                    .map(node -> (ValueReference) node.getEntry().getReference())
+                    .collect(toList()))
+                .collect(toList()))
+            .collect(toList());
+    }
+
     public List<ValueReference> getValues() {
         return definitions.keySet().stream()
             .filter(reference -> reference instanceof ValueReference)
@@ -119,51 +156,170 @@ public class DefinitionGraph {
         return Optional.ofNullable(definitions.get(reference)).map(DefinitionEntry::getScope);
     }
 
-    private List<DefinitionEntry> sortValues(List<SyntaxError> errors, List<DefinitionNode> input) {
-        List<DefinitionNode> roots = new ArrayList<>();
-        List<DefinitionNode> nodes = new ArrayList<>();
-        List<DefinitionEntry> output = new ArrayList<>();
-        input.forEach(node -> {
-            if (node.hasDependencies()) {
-                nodes.add(node);
-            } else {
-                roots.add(node);
+    /**
+     * Tarjan's algorithm, with an explicit stack so that long chains of dependencies don't overflow the call stack.
+     *
+     * @return The number of components, each node having been given the number of its component.
+     */
+    private int findComponents(int[][] dependencies, int[] components) {
+        int size = dependencies.length;
+        int[] indexes = new int[size];
+        int[] lowLinks = new int[size];
+        int[] stack = new int[size];
+        int[] callStack = new int[size];
+        int[] edges = new int[size];
+        boolean[] onStack = new boolean[size];
+        int index = 0;
+        int stackSize = 0;
+        int componentCount = 0;
+        Arrays.fill(indexes, -1);
+        for (int start = 0; start < size; start++) {
+            if (indexes[start] != -1) {
+                continue;
             }
-        });
+            int depth = 0;
+            callStack[depth] = start;
+            edges[start] = 0;
+            indexes[start] = lowLinks[start] = index++;
+            stack[stackSize++] = start;
+            onStack[start] = true;
+            while (depth >= 0) {
+                int node = callStack[depth];
+                if (edges[node] < dependencies[node].length) {
+                    int dependency = dependencies[node][edges[node]++];
+                    if (indexes[dependency] == -1) {
+                        indexes[dependency] = lowLinks[dependency] = index++;
+                        stack[stackSize++] = dependency;
+                        onStack[dependency] = true;
+                        edges[dependency] = 0;
+                        callStack[++depth] = dependency;
+                    } else if (onStack[dependency]) {
+                        lowLinks[node] = Math.min(lowLinks[node], indexes[dependency]);
+                    }
+                } else {
+                    if (lowLinks[node] == indexes[node]) {
+                        int member;
+                        do {
+                            member = stack[--stackSize];
+                            onStack[member] = false;
+                            components[member] = componentCount;
+                        } while (member != node);
+                        componentCount++;
+                    }
+                    if (--depth >= 0) {
+                        int caller = callStack[depth];
+                        lowLinks[caller] = Math.min(lowLinks[caller], lowLinks[node]);
+                    }
+                }
+            }
+        }
+        return componentCount;
+    }
+
+    /**
+     * Finds the strongly connected components of the values with Tarjan's algorithm, then orders the components in
+     * levels with Kahn's algorithm, so that values which don't depend on each other keep the order they were given in.
+     * Both run in time linear in the number of values and dependencies. Dependencies on symbols outside of the graph
+     * are ignored.
+     */
+    private List<List<List<DefinitionNode>>> groupValues(List<DefinitionNode> nodes) {
+        int[][] dependencies = indexDependencies(nodes);
+        int[] components = new int[nodes.size()];
+        int componentCount = findComponents(dependencies, components);
+
+        List<List<DefinitionNode>> members = new ArrayList<>(componentCount);
+        int[] order = new int[componentCount];
+        int ordered = 0;
+        for (int i = 0; i < componentCount; i++) {
+            members.add(new ArrayList<>());
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            if (members.get(components[i]).isEmpty()) {
+                order[ordered++] = components[i];
+            }
+            members.get(components[i]).add(nodes.get(i));
+        }
+
+        List<List<Integer>> dependents = new ArrayList<>(componentCount);
+        int[] pending = new int[componentCount];
+        int[] marks = new int[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int node = 0; node < nodes.size(); node++) {
+            int component = components[node];
+            for (int dependency : dependencies[node]) {
+                int dependencyComponent = components[dependency];
+                if (dependencyComponent != component && marks[dependencyComponent] != component + 1) {
+                    marks[dependencyComponent] = component + 1;
+                    dependents.get(dependencyComponent).add(component);
+                    pending[component]++;
+                }
+            }
+        }
+
+        List<Integer> roots = new ArrayList<>();
+        for (int component : order) {
+            if (pending[component] == 0) {
+                roots.add(component);
+            }
+        }
+        List<List<List<DefinitionNode>>> levels = new ArrayList<>();
         while (!roots.isEmpty()) {
-            DefinitionNode root = roots.remove(0);
-            output.add(root.getEntry());
-            Iterator<DefinitionNode> iterator = nodes.iterator();
-            while (iterator.hasNext()) {
-                DefinitionNode node = iterator.next();
-                if (node.isDependentOn(root)) {
-                    node.removeDependency(root);
-                    if (!node.hasDependencies()) {
-                        roots.add(node);
-                        iterator.remove();
+            List<List<DefinitionNode>> level = new ArrayList<>(roots.size());
+            List<Integer> nextRoots = new ArrayList<>();
+            for (int root : roots) {
+                level.add(members.get(root));
+                for (int dependent : dependents.get(root)) {
+                    if (--pending[dependent] == 0) {
+                        nextRoots.add(dependent);
                     }
                 }
             }
+            levels.add(level);
+            roots = nextRoots;
+        }
+        return levels;
+    }
+
+    private int[][] indexDependencies(List<DefinitionNode> nodes) {
+        Map<Symbol, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            indexes.put(nodes.get(i).getSymbol(), i);
         }
-        if (nodes.isEmpty()) {
-            return output;
-        } else {
-            errors.add(cyclicDependency(fromNodes(nodes)));
-            output.addAll(nodes.stream().map(DefinitionNode::getEntry).collect(toList()));
-            return output;
+        int[][] dependencies = new int[nodes.size()][];
+        for (int i = 0; i < nodes.size(); i++) {
+            dependencies[i] = nodes.get(i).getDependencies().stream()
+                .map(indexes::get)
+                .filter(index -> index != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
         }
+        return dependencies;
+    }
+
+    private boolean isCyclic(List<DefinitionNode> group) {
+        return group.size() > 1 || group.get(0).getDependencies().contains(group.get(0).getSymbol());
     }
 
     private List<DefinitionEntry> sort_(List<SyntaxError> errors) {
         List<DefinitionEntry> entries = stream()
             .filter(entry -> !(entry.getReference() instanceof ValueReference))
             .collect(toList());
-        List<DefinitionNode> values = stream()
+        groupValues(valueNodes()).stream().flatMap(List::stream).forEach(group -> {
+            if (isCyclic(group)) {
+                errors.add(cyclicDependency(fromGroup(group)));
+            }
+            group.forEach(node -> entries.add(node.getEntry()));
+        });
+        return entries;
+    }
+
+    private List<DefinitionNode> valueNodes() {
+        return stream()
             .filter(entry -> entry.getReference() instanceof ValueReference)
             .map(DefinitionNode::new)
             .collect(toList());
-        entries.addAll(sortValues(errors, values));
-        return entries;
     }
 
     @AllArgsConstructor(access = PRIVATE)
@@ -34,12 +34,4 @@ public final class DefinitionNode {
     public boolean hasDependencies() {
         return !dependencies.isEmpty();
     }
-
-    public boolean isDependentOn(DefinitionNode node) {
-        return dependencies.contains(node.getSymbol());
-    }
-
-    public void removeDependency(DefinitionNode node) {
-        dependencies.remove(node.getSymbol());
-    }
 }
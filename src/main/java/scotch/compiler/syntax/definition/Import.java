@@ -37,6 +37,8 @@ public abstract class Import {
 
     public abstract Set<Symbol> getContext(Type type, SymbolResolver resolver);
 
+    public abstract String getModuleName();
+
     @Override
     public abstract int hashCode();
 
@@ -76,6 +76,10 @@ public class ModuleDefinition extends Definition {
         return sourceLocation;
     }
 
+    public String getSymbol() {
+        return symbol;
+    }
+
     @Override
     public Optional<Definition> parsePrecedence(PrecedenceParser state) {
         return Optional.of(state.scoped(this, () -> withImportScopes(new ArrayList<DefinitionReference>() {{
@@ -34,6 +34,11 @@ public final class ModuleImport extends Import {
         return getContext_(moduleName, type, resolver);
     }
 
+    @Override
+    public String getModuleName() {
+        return moduleName;
+    }
+
     @Override
     public boolean isFrom(String moduleName) {
         return Objects.equals(this.moduleName, moduleName);
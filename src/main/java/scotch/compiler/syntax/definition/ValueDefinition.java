@@ -6,7 +6,11 @@ import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
 import static scotch.compiler.util.Either.right;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -21,6 +25,8 @@ import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.ValueReference;
+import scotch.compiler.syntax.value.Argument;
+import scotch.compiler.syntax.value.FunctionValue;
 import scotch.compiler.syntax.value.Value;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Either;
@@ -93,7 +99,7 @@ public class ValueDefinition extends Definition {
 
     @Override
     public Optional<DefinitionReference> generateIntermediateCode(IntermediateGenerator generator) {
-        return generator.scoped(this, () -> generator.defineValue(symbol, body.getType(), body.generateIntermediateCode(generator)));
+        return generator.scoped(this, () -> generator.defineValue(symbol, body.getType(), getParameters().size(), body.generateIntermediateCode(generator)));
     }
 
     public Value getBody() {
@@ -104,6 +110,28 @@ public class ValueDefinition extends Definition {
         return symbol.unqualify().getMethodName();
     }
 
+    /**
+     * Gets the parameters of this value if it is a function. Directly nested functions are flattened, so
+     * {@code \x -> \y -> x} has the parameters {@code x} and {@code y}, unless a nested function shadows a
+     * parameter of an enclosing one.
+     *
+     * @return The parameters, or an empty list if this value isn't a function.
+     */
+    public List<Argument> getParameters() {
+        List<Argument> parameters = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        Value value = body;
+        while (value instanceof FunctionValue
+            && ((FunctionValue) value).getArguments().stream().map(Argument::getName).noneMatch(names::contains)) {
+            ((FunctionValue) value).getArguments().forEach(argument -> {
+                parameters.add(argument);
+                names.add(argument.getName());
+            });
+            value = ((FunctionValue) value).getBody();
+        }
+        return parameters;
+    }
+
     @Override
     public ValueReference getReference() {
         return valueRef(symbol);
@@ -28,7 +28,7 @@ import scotch.symbol.util.SymbolGenerator;
 
 public abstract class BlockScope extends Scope {
 
-    protected final TypeScope                      types;
+    protected       TypeScope                      types;
     protected final String                         moduleName;
     protected final Map<Symbol, SymbolEntry>       entries;
     protected final Set<Symbol>                    dependencies;
@@ -140,6 +140,11 @@ public abstract class BlockScope extends Scope {
         return resolver.getTypeInstances(typeClass, parameters);
     }
 
+    @Override
+    public TypeScope getTypes() {
+        return types;
+    }
+
     @Override
     public Optional<MethodSignature> getValueSignature(Symbol symbol) {
         return Optional.ofNullable(entries.get(symbol))
@@ -161,6 +161,12 @@ public class ChildScope extends BlockScope {
         setParent_((ChildScope) newParent);
     }
 
+    @Override
+    public void setTypes(TypeScope types) {
+        this.types = types;
+        children.forEach(child -> child.setTypes(types));
+    }
+
     protected SymbolEntry define(Symbol symbol) {
         return entries.computeIfAbsent(symbol, k -> mutableEntry(symbol));
     }
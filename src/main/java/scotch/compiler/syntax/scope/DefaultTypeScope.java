@@ -23,13 +23,22 @@ import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
 import scotch.symbol.type.VariableType;
 
+/**
+ * Binds type variables in a union-find structure: each variable points at the type it was bound to, and the chains of
+ * variables bound to variables are compressed whenever a variable on them is bound again, so that the target of a
+ * variable is found in nearly constant time no matter how long its chain was built up. Looking up a target never
+ * writes to the scope, so that {@link ForkedTypeScope forks} may read it from several threads. Bindings, contexts, and
+ * specializations are all keyed by the name of the variable, which hashes without walking the structure of types, so
+ * a variable is the same element of the structure whatever context it carries. Only variables have contexts and
+ * specializations of their own: the context of any other type is empty, and specializing one has no effect.
+ */
 public class DefaultTypeScope implements TypeScope {
 
     private final SymbolGenerator                   symbolGenerator;
     private final SymbolResolver                    resolver;
-    private final Map<Type, Type>                   bindings;
-    private final Map<Type, Set<Symbol>>            contexts;
-    private final Set<Type>                         specializedTypes;
+    private final Map<String, Type>                 bindings;
+    private final Map<String, Set<Symbol>>          contexts;
+    private final Set<String>                       specializedTypes;
     private final Map<Symbol, List<Implementation>> implementations;
 
     public DefaultTypeScope(SymbolGenerator symbolGenerator, SymbolResolver resolver) {
@@ -48,12 +57,17 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public void extendContext(Type type, Set<Symbol> additionalContext) {
-        contexts.computeIfAbsent(type, k -> new LinkedHashSet<>()).addAll(additionalContext);
+        if (type instanceof VariableType) {
+            String name = ((VariableType) type).getName();
+            contexts.computeIfAbsent(name, k -> new LinkedHashSet<>()).addAll(additionalContext);
+        }
     }
 
     @Override
     public void generalize(Type type) {
-        specializedTypes.remove(type.simplify());
+        if (type instanceof VariableType) {
+            specializedTypes.remove(((VariableType) type).getName());
+        }
     }
 
     @Override
@@ -64,19 +78,18 @@ public class DefaultTypeScope implements TypeScope {
     @Override
     public Set<Symbol> getContext(Type type) {
         if (type instanceof VariableType) {
-            extendContext(type, type.getContext());
-            return contexts.get(type);
+            String name = ((VariableType) type).getName();
+            Set<Symbol> context = new LinkedHashSet<>(contexts.getOrDefault(name, ImmutableSet.of()));
+            context.addAll(type.getContext());
+            return context;
         } else {
-            return contexts.getOrDefault(type, ImmutableSet.of());
+            return ImmutableSet.of();
         }
     }
 
     @Override
     public Type getTarget(Type type) {
-        Type result = type;
-        while (bindings.containsKey(result.simplify())) {
-            result = bindings.get(result.simplify());
-        }
+        Type result = type instanceof VariableType ? find(bindings, (VariableType) type) : type;
         if (result instanceof VariableType) {
             return ((VariableType) result).withContext(getContext(result));
         } else {
@@ -91,12 +104,12 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public boolean isBound(VariableType variableType) {
-        return bindings.containsKey(variableType.simplify());
+        return bindings.containsKey(variableType.getName());
     }
 
     @Override
     public boolean isGeneric(VariableType variableType) {
-        return !specializedTypes.contains(variableType.simplify());
+        return !specializedTypes.contains(variableType.getName());
     }
 
     @Override
@@ -117,39 +130,61 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public void specialize(Type type) {
-        specializedTypes.add(type.simplify());
+        if (type instanceof VariableType) {
+            specializedTypes.add(((VariableType) type).getName());
+        }
     }
 
     private Unification bind_(VariableType variableType, Type targetType) {
+        compress(bindings, variableType);
+        if (targetType instanceof VariableType) {
+            compress(bindings, (VariableType) targetType);
+        }
         if (isBound(variableType) && !getTarget(variableType).simplify().equals(targetType)) {
             if (targetType instanceof VariableType) {
                 if (isBound((VariableType) targetType)) {
                     return targetType.unify(variableType, this)
                         .map(unifiedType -> {
-                            bindings.put(variableType, targetType);
+                            bindings.put(variableType.getName(), targetType);
                             return unified(unifiedType);
                         })
                         .orElseMap(unification -> failedBinding(targetType, variableType, getTarget(variableType)));
                 } else {
-                    bindings.put(targetType, getTarget(variableType));
+                    bindings.put(((VariableType) targetType).getName(), getTarget(variableType));
                     return unified(variableType);
                 }
             } else {
                 return failedBinding(targetType, variableType, getTarget(variableType));
             }
         } else if (!getTarget(targetType).simplify().equals(variableType)) {
-            bindings.put(variableType, targetType);
+            bindings.put(variableType.getName(), targetType);
         }
         return unified(targetType);
     }
 
-    private Implementation implement(SumType type) {
+    static void compress(Map<String, Type> bindings, VariableType variableType) {
+        Type result = find(bindings, variableType);
+        Type link = variableType;
+        while (link != result) {
+            link = bindings.put(((VariableType) link).getName(), result);
+        }
+    }
+
+    static Type find(Map<String, Type> bindings, VariableType variableType) {
+        Type result = variableType;
+        while (result instanceof VariableType && bindings.containsKey(((VariableType) result).getName())) {
+            result = bindings.get(((VariableType) result).getName());
+        }
+        return result;
+    }
+
+    static Implementation implement(SumType type) {
         List<Set<Symbol>> contexts = new ArrayList<>();
         type.getParameters().forEach(parameter -> contexts.add(parameter.getContext()));
         return new Implementation(type.getSymbol(), contexts);
     }
 
-    private static final class Implementation {
+    static final class Implementation {
 
         private final Symbol            symbol;
         private final List<Set<Symbol>> contexts;
@@ -0,0 +1,195 @@
+package scotch.compiler.syntax.scope;
+
+import static scotch.symbol.type.Types.var;
+import static scotch.symbol.type.Unification.failedBinding;
+import static scotch.symbol.type.Unification.unified;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import scotch.symbol.Symbol;
+import scotch.symbol.type.SumType;
+import scotch.symbol.type.Type;
+import scotch.symbol.type.TypeScope;
+import scotch.symbol.type.Unification;
+import scotch.symbol.type.VariableType;
+
+/**
+ * A type scope which reads through to another, but keeps its own bindings, contexts, specializations, and
+ * implementations until it is {@link #join() joined} back. Until then a fork writes to the scope it forks only to
+ * reserve type variables, which the symbol generator does atomically, so values which don't depend on each other may
+ * be checked against forks of the same scope on separate threads as long as the forked scope isn't changed meanwhile.
+ * Bindings, contexts, and specializations are kept as in {@link DefaultTypeScope}, keyed by the name of the variable
+ * whatever context it carries.
+ */
+public class ForkedTypeScope implements TypeScope {
+
+    private final TypeScope                  parent;
+    private final Map<String, Type>          bindings;
+    private final Map<String, Set<Symbol>>   contexts;
+    private final Set<String>                specializedTypes;
+    private final Set<String>                generalizedTypes;
+    private final Map<Symbol, List<SumType>> implementations;
+
+    public ForkedTypeScope(TypeScope parent) {
+        this.parent = parent;
+        this.bindings = new LinkedHashMap<>();
+        this.contexts = new LinkedHashMap<>();
+        this.specializedTypes = new LinkedHashSet<>();
+        this.generalizedTypes = new LinkedHashSet<>();
+        this.implementations = new LinkedHashMap<>();
+    }
+
+    @Override
+    public Unification bind(VariableType variableType, Type targetType) {
+        return bind_(variableType.simplify(), targetType);
+    }
+
+    @Override
+    public void extendContext(Type type, Set<Symbol> additionalContext) {
+        if (type instanceof VariableType) {
+            String name = ((VariableType) type).getName();
+            contexts.computeIfAbsent(name, k -> new LinkedHashSet<>()).addAll(additionalContext);
+        }
+    }
+
+    @Override
+    public void generalize(Type type) {
+        if (type instanceof VariableType) {
+            specializedTypes.remove(((VariableType) type).getName());
+            generalizedTypes.add(((VariableType) type).getName());
+        }
+    }
+
+    @Override
+    public Type generate(Type type) {
+        return type.generate(this);
+    }
+
+    @Override
+    public Set<Symbol> getContext(Type type) {
+        Set<Symbol> context = new LinkedHashSet<>(parent.getContext(type));
+        if (type instanceof VariableType) {
+            context.addAll(contexts.getOrDefault(((VariableType) type).getName(), ImmutableSet.of()));
+        }
+        return context;
+    }
+
+    public TypeScope getParent() {
+        return parent;
+    }
+
+    @Override
+    public Type getTarget(Type type) {
+        Type result = type;
+        while (true) {
+            if (result instanceof VariableType) {
+                result = DefaultTypeScope.find(bindings, (VariableType) result);
+            }
+            Type target = parent.getTarget(result);
+            if (!(target instanceof VariableType)) {
+                return target;
+            } else if (!bindings.containsKey(((VariableType) target).getName())) {
+                Set<Symbol> context = getContext(result);
+                context.addAll(getContext(target));
+                return ((VariableType) target).withContext(context);
+            }
+            result = target;
+        }
+    }
+
+    @Override
+    public void implement(Symbol typeClass, SumType type) {
+        implementations.computeIfAbsent(typeClass, k -> new ArrayList<>()).add(type);
+    }
+
+    @Override
+    public boolean isBound(VariableType variableType) {
+        return bindings.containsKey(variableType.getName()) || parent.isBound(variableType);
+    }
+
+    @Override
+    public boolean isGeneric(VariableType variableType) {
+        if (specializedTypes.contains(variableType.getName())) {
+            return false;
+        } else if (generalizedTypes.contains(variableType.getName())) {
+            return true;
+        } else {
+            return parent.isGeneric(variableType);
+        }
+    }
+
+    @Override
+    public boolean isImplemented(Symbol typeClass, SumType type) {
+        return implementations.getOrDefault(typeClass, ImmutableList.of()).stream()
+            .anyMatch(implementedType -> DefaultTypeScope.implement(implementedType).isImplementedBy(type, this))
+            || parent.isImplemented(typeClass, type);
+    }
+
+    /**
+     * Applies the bindings, contexts, specializations, and implementations of this scope to the scope it forks.
+     * Bindings are applied in the order they were made, and a variable which was bound in the meantime is unified with
+     * its new target instead.
+     *
+     * @return The unifications which failed.
+     */
+    public List<Unification> join() {
+        List<Unification> failures = new ArrayList<>();
+        contexts.forEach((name, context) -> parent.extendContext(var(name), context));
+        specializedTypes.forEach(name -> parent.specialize(var(name)));
+        generalizedTypes.forEach(name -> parent.generalize(var(name)));
+        implementations.forEach((typeClass, types) -> types.forEach(type -> parent.implement(typeClass, type)));
+        bindings.forEach((name, targetType) -> {
+            Unification unification = parent.bind(var(name), targetType);
+            if (!unification.isUnified()) {
+                failures.add(unification);
+            }
+        });
+        return failures;
+    }
+
+    @Override
+    public VariableType reserveType() {
+        return parent.reserveType();
+    }
+
+    @Override
+    public void specialize(Type type) {
+        if (type instanceof VariableType) {
+            generalizedTypes.remove(((VariableType) type).getName());
+            specializedTypes.add(((VariableType) type).getName());
+        }
+    }
+
+    private Unification bind_(VariableType variableType, Type targetType) {
+        DefaultTypeScope.compress(bindings, variableType);
+        if (targetType instanceof VariableType) {
+            DefaultTypeScope.compress(bindings, (VariableType) targetType);
+        }
+        if (isBound(variableType) && !getTarget(variableType).simplify().equals(targetType)) {
+            if (targetType instanceof VariableType) {
+                if (isBound((VariableType) targetType)) {
+                    return targetType.unify(variableType, this)
+                        .map(unifiedType -> {
+                            bindings.put(variableType.getName(), targetType);
+                            return unified(unifiedType);
+                        })
+                        .orElseMap(unification -> failedBinding(targetType, variableType, getTarget(variableType)));
+                } else {
+                    bindings.put(((VariableType) targetType).getName(), getTarget(variableType));
+                    return unified(variableType);
+                }
+            } else {
+                return failedBinding(targetType, variableType, getTarget(variableType));
+            }
+        } else if (!getTarget(targetType).simplify().equals(variableType)) {
+            bindings.put(variableType.getName(), targetType);
+        }
+        return unified(targetType);
+    }
+}
@@ -134,6 +134,10 @@ public abstract class Scope implements TypeScope {
 
     public abstract Set<TypeInstanceDescriptor> getTypeInstances(Symbol typeClass, List<Type> parameters);
 
+    public TypeScope getTypes() {
+        throw new IllegalStateException();
+    }
+
     public Optional<Type> getValue(ValueReference reference) {
         return getValue(reference.getSymbol());
     }
@@ -218,6 +222,10 @@ public abstract class Scope implements TypeScope {
         throw new IllegalStateException();
     }
 
+    public void setTypes(TypeScope types) {
+        throw new IllegalStateException();
+    }
+
     protected MethodSignature computeValueMethod(Symbol symbol, Type type) {
         return MethodSignature.staticMethod(
             symbol.qualifyWith(getModuleName()).getModuleClass(),
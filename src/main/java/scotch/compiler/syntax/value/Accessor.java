@@ -6,6 +6,7 @@ import static scotch.compiler.syntax.TypeError.typeError;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -16,6 +17,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -52,6 +54,11 @@ public class Accessor extends Value {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return new Accessor(sourceLocation, target.analyzeStrictness(state), field, type, tag);
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return new Accessor(sourceLocation, target.bindMethods(typeChecker), field, type, tag);
@@ -110,7 +117,19 @@ public class Accessor extends Value {
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         IntermediateValue intermediateTarget = target.generateIntermediateCode(state);
-        return Intermediates.access(state.capture(), intermediateTarget, field, state.getFieldMethod(target.getTag().get(), field));
+        Symbol constructor = target.getTag().get();
+        return Intermediates.access(
+            state.capture(),
+            intermediateTarget,
+            field,
+            state.getFieldMethod(constructor, field),
+            state.getDataConstructor(constructor).getClassName()
+        );
+    }
+
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        return target.getDemandedArguments(state);
     }
 
     public DataConstructorDescriptor mapConstructor(TypeChecker typeChecker, Value checkedTarget, SumType targetType) {
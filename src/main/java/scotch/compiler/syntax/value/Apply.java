@@ -1,10 +1,21 @@
 package scotch.compiler.syntax.value;
 
 import static lombok.AccessLevel.PACKAGE;
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
 import static scotch.compiler.intermediate.Intermediates.apply;
+import static scotch.compiler.intermediate.Intermediates.call;
+import static scotch.compiler.intermediate.Intermediates.dispatch;
+import static scotch.compiler.intermediate.Intermediates.primitive;
+import static scotch.compiler.intermediate.Intermediates.strictApply;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.symbol.type.Types.fn;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -13,24 +24,28 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
+import scotch.compiler.intermediate.PrimitiveOperation;
 import scotch.compiler.syntax.pattern.PatternReducer;
 import scotch.compiler.text.SourceLocation;
+import scotch.symbol.MethodSignature;
 import scotch.symbol.type.FunctionType;
 import scotch.symbol.type.Type;
 import scotch.symbol.type.Unification;
 
 @AllArgsConstructor(access = PACKAGE)
 @EqualsAndHashCode(callSuper = false)
-@ToString(of = { "type", "function", "argument" })
+@ToString(of = { "type", "function", "argument", "strict" })
 public class Apply extends Value {
 
     private final SourceLocation sourceLocation;
     private final Value          function;
     private final Value          argument;
     private final Type           type;
+    private final boolean        strict;
 
     @Override
     public Value accumulateDependencies(DependencyAccumulator state) {
@@ -43,6 +58,19 @@ public class Apply extends Value {
             .withArgument(argument.accumulateNames(state));
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        List<Apply> applies = getApplies();
+        Value head = applies.get(0).function;
+        List<Boolean> strictArguments = getStrictArguments(state, head, applies);
+        Value result = head.analyzeStrictness(state);
+        for (int i = 0; i < applies.size(); i++) {
+            Apply apply = applies.get(i);
+            result = new Apply(apply.sourceLocation, result, apply.argument.analyzeStrictness(state), apply.type, strictArguments.get(i));
+        }
+        return result;
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return withFunction(function.bindMethods(typeChecker))
@@ -51,7 +79,7 @@ public class Apply extends Value {
 
     @Override
     public Value bindTypes(TypeChecker typeChecker) {
-        return new Apply(sourceLocation, function.bindTypes(typeChecker), argument.bindTypes(typeChecker), typeChecker.generate(type));
+        return new Apply(sourceLocation, function.bindTypes(typeChecker), argument.bindTypes(typeChecker), typeChecker.generate(type), strict);
     }
 
     @Override
@@ -65,7 +93,7 @@ public class Apply extends Value {
             .orElseGet(unification -> {
                 typeChecker.error(typeError(unification.flip(), checkedArgument.getSourceLocation()));
                 return type;
-            }));
+            }), strict);
     }
 
     @Override
@@ -75,15 +103,45 @@ public class Apply extends Value {
 
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
+        Optional<IntermediateValue> primitive = generatePrimitive(state);
+        if (primitive.isPresent()) {
+            return primitive.get();
+        }
+        Optional<IntermediateValue> call = generateCall(state);
+        if (call.isPresent()) {
+            return call.get();
+        }
+        Optional<IntermediateValue> dispatch = generateDispatch(state);
+        if (dispatch.isPresent()) {
+            return dispatch.get();
+        }
         IntermediateValue intermediateFunction = function.generateIntermediateCode(state);
         IntermediateValue intermediateArgument = argument.generateIntermediateCode(state);
-        return apply(state.capture(), intermediateFunction, intermediateArgument);
+        if (strict) {
+            return strictApply(state.capture(), intermediateFunction, intermediateArgument);
+        } else {
+            return apply(state.capture(), intermediateFunction, intermediateArgument);
+        }
     }
 
     public Value getArgument() {
         return argument;
     }
 
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        List<Apply> applies = getApplies();
+        Value head = applies.get(0).function;
+        List<Boolean> strictArguments = getStrictArguments(state, head, applies);
+        Set<String> demandedArguments = new HashSet<>(head.getDemandedArguments(state));
+        for (int i = 0; i < applies.size(); i++) {
+            if (strictArguments.get(i)) {
+                demandedArguments.addAll(applies.get(i).argument.getDemandedArguments(state));
+            }
+        }
+        return demandedArguments;
+    }
+
     public Value getFunction() {
         return function;
     }
@@ -98,6 +156,10 @@ public class Apply extends Value {
         return type;
     }
 
+    public boolean isStrict() {
+        return strict;
+    }
+
     @Override
     public Value parsePrecedence(PrecedenceParser state) {
         return withFunction(function.parsePrecedence(state))
@@ -111,23 +173,172 @@ public class Apply extends Value {
 
     @Override
     public Value reducePatterns(PatternReducer reducer) {
-        return new Apply(sourceLocation, function.reducePatterns(reducer), argument.reducePatterns(reducer), type);
+        return new Apply(sourceLocation, function.reducePatterns(reducer), argument.reducePatterns(reducer), type, strict);
     }
 
     public Apply withArgument(Value argument) {
-        return new Apply(sourceLocation, function, argument, type);
+        return new Apply(sourceLocation, function, argument, type, strict);
     }
 
     public Apply withFunction(Value function) {
-        return new Apply(sourceLocation, function, argument, type);
+        return new Apply(sourceLocation, function, argument, type, strict);
     }
 
     public Apply withSourceLocation(SourceLocation sourceLocation) {
-        return new Apply(sourceLocation, function, argument, type);
+        return new Apply(sourceLocation, function, argument, type, strict);
     }
 
     @Override
     public Apply withType(Type type) {
-        return new Apply(sourceLocation, function, argument, type);
+        return new Apply(sourceLocation, function, argument, type, strict);
+    }
+
+    /**
+     * Generates a direct call if this is an application of a function with known arity to at least as many arguments
+     * as it declares. Any further arguments are applied to the result of the call.
+     */
+    private Optional<IntermediateValue> generateCall(IntermediateGenerator state) {
+        List<Apply> applies = getApplies();
+        Value head = applies.get(0).function;
+        if (!(head instanceof Method)) {
+            return Optional.empty();
+        }
+        return state.functionSignature(((Method) head).getReference())
+            .filter(signature -> signature.getLeft() <= applies.size())
+            .map(signature -> signature.into((arity, method) -> {
+                List<IntermediateValue> arguments = applies.subList(0, arity).stream()
+                    .map(apply -> apply.argument.generateIntermediateCode(state))
+                    .collect(toList());
+                List<Boolean> strictArguments = applies.subList(0, arity).stream()
+                    .map(apply -> apply.strict)
+                    .collect(toList());
+                IntermediateValue result = call(state.capture(), method, arguments, strictArguments);
+                for (Apply apply : applies.subList(arity, applies.size())) {
+                    IntermediateValue intermediateArgument = apply.argument.generateIntermediateCode(state);
+                    if (apply.strict) {
+                        result = strictApply(state.capture(), result, intermediateArgument);
+                    } else {
+                        result = apply(state.capture(), result, intermediateArgument);
+                    }
+                }
+                return result;
+            }));
+    }
+
+    /**
+     * Generates a type class dispatch if this is an application of a type class member to its instance and all of
+     * its arguments. Any further arguments are applied to the result of the dispatch.
+     */
+    private Optional<IntermediateValue> generateDispatch(IntermediateGenerator state) {
+        List<Apply> applies = getApplies();
+        Value head = applies.get(0).function;
+        if (!(head instanceof Method) || ((Method) head).getInstances().size() != 1 || !state.isMember(((Method) head).getReference())) {
+            return Optional.empty();
+        }
+        Method method = (Method) head;
+        int arity = 0;
+        Type memberType = ((FunctionType) method.getType()).getResult();
+        while (memberType instanceof FunctionType) {
+            arity++;
+            memberType = ((FunctionType) memberType).getResult();
+        }
+        if (applies.size() <= arity) {
+            return Optional.empty();
+        }
+        Value instance = applies.get(0).argument;
+        Optional<MethodSignature> instanceGetter = Optional.empty();
+        List<Apply> arguments = applies.subList(0, arity + 1);
+        if (instance instanceof Instance) {
+            instanceGetter = Optional.of(state.instanceGetter(((Instance) instance).getReference()));
+            arguments = applies.subList(1, arity + 1);
+        }
+        List<IntermediateValue> intermediateArguments = arguments.stream()
+            .map(apply -> apply.argument.generateIntermediateCode(state))
+            .collect(toList());
+        List<Boolean> strictArguments = arguments.stream()
+            .map(apply -> apply.strict)
+            .collect(toList());
+        IntermediateValue result = dispatch(
+            state.capture(),
+            state.valueSignature(method.getReference()),
+            method.getSymbol().getSimpleName(),
+            instanceGetter,
+            intermediateArguments,
+            strictArguments
+        );
+        for (Apply apply : applies.subList(arity + 1, applies.size())) {
+            IntermediateValue intermediateArgument = apply.argument.generateIntermediateCode(state);
+            if (apply.strict) {
+                result = strictApply(state.capture(), result, intermediateArgument);
+            } else {
+                result = apply(state.capture(), result, intermediateArgument);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Generates a {@link PrimitiveOperation} if this is a saturated application of a primitive type class method to
+     * instances which the type checker resolved to a primitive type, e.g. {@code (+) NumInt x y}.
+     */
+    private Optional<IntermediateValue> generatePrimitive(IntermediateGenerator state) {
+        List<Apply> applies = getApplies();
+        return findPrimitive(applies.get(0).function, applies).map(operation -> {
+            IntermediateValue left = applies.get(applies.size() - 2).argument.generateIntermediateCode(state);
+            IntermediateValue right = applies.get(applies.size() - 1).argument.generateIntermediateCode(state);
+            return primitive(state.capture(), operation, left, right);
+        });
+    }
+
+    private Optional<PrimitiveOperation> findPrimitive(Value head, List<Apply> applies) {
+        if (!(head instanceof Method) || applies.size() < 3) {
+            return Optional.empty();
+        }
+        List<Value> instances = applies.subList(0, applies.size() - 2).stream()
+            .map(apply -> apply.argument)
+            .collect(toList());
+        if (!instances.stream().allMatch(instance -> instance instanceof Instance)) {
+            return Optional.empty();
+        }
+        return PrimitiveOperation.find(
+            ((Method) head).getSymbol(),
+            instances.stream().map(instance -> ((Instance) instance).getReference()).collect(toList())
+        );
+    }
+
+    /**
+     * Gets the applications in this chain, innermost first, so that the argument of the nth application is the nth
+     * argument given to the function at the head of the chain.
+     */
+    private List<Apply> getApplies() {
+        List<Apply> applies = new ArrayList<>();
+        Value head = this;
+        while (head instanceof Apply) {
+            applies.add(0, (Apply) head);
+            head = ((Apply) head).function;
+        }
+        return applies;
+    }
+
+    /**
+     * Gets whether each argument in this chain is certain to be evaluated when the whole chain is evaluated. This is
+     * only known when the head of the chain is a primitive operation or a function with known strictness which is
+     * applied to at least as many arguments as it declares, as a partial application evaluates none of them.
+     */
+    private List<Boolean> getStrictArguments(StrictnessAnalyzer state, Value head, List<Apply> applies) {
+        List<Boolean> strictArguments = new ArrayList<>(nCopies(applies.size(), false));
+        if (findPrimitive(head, applies).isPresent()) {
+            strictArguments.set(applies.size() - 2, true);
+            strictArguments.set(applies.size() - 1, true);
+        } else if (head instanceof Method) {
+            state.getStrictArguments(((Method) head).getReference())
+                .filter(parameters -> parameters.size() <= applies.size())
+                .ifPresent(parameters -> {
+                    for (int i = 0; i < parameters.size(); i++) {
+                        strictArguments.set(i, parameters.get(i));
+                    }
+                });
+        }
+        return strictArguments;
     }
 }
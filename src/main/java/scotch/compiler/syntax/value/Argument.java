@@ -1,5 +1,6 @@
 package scotch.compiler.syntax.value;
 
+import static java.util.Collections.singleton;
 import static lombok.AccessLevel.PACKAGE;
 import static scotch.compiler.error.SymbolNotFoundError.symbolNotFound;
 import static scotch.compiler.intermediate.Intermediates.variable;
@@ -10,6 +11,7 @@ import static scotch.symbol.Symbol.unqualified;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -20,6 +22,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -61,6 +64,11 @@ public class Argument extends Value {
         return variable(name);
     }
 
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        return singleton(name);
+    }
+
     @Override
     public Value mapTags(Function<Value, Value> mapper) {
         return mapper.apply(this);
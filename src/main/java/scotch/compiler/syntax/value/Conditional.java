@@ -4,7 +4,9 @@ import static scotch.compiler.intermediate.Intermediates.conditional;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,6 +16,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -57,6 +60,11 @@ public class Conditional extends Value {
         return parse(state, Value::accumulateNames);
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return parse(state, Value::analyzeStrictness);
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return parse(typeChecker, Value::bindMethods);
@@ -95,6 +103,26 @@ public class Conditional extends Value {
         );
     }
 
+    /**
+     * Gets the arguments demanded by the condition and by both branches. A branch which raises an error, such as the
+     * incomplete match at the end of a reduced pattern, never returns and so doesn't limit what the other branch
+     * demands.
+     */
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        Set<String> demandedArguments;
+        if (whenFalse instanceof Raise) {
+            demandedArguments = new HashSet<>(whenTrue.getDemandedArguments(state));
+        } else if (whenTrue instanceof Raise) {
+            demandedArguments = new HashSet<>(whenFalse.getDemandedArguments(state));
+        } else {
+            demandedArguments = new HashSet<>(whenTrue.getDemandedArguments(state));
+            demandedArguments.retainAll(whenFalse.getDemandedArguments(state));
+        }
+        demandedArguments.addAll(condition.getDemandedArguments(state));
+        return demandedArguments;
+    }
+
     @Override
     public Value parsePrecedence(PrecedenceParser state) {
         return parse(state, Value::parsePrecedence);
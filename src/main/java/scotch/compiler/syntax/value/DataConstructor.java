@@ -14,6 +14,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -52,6 +53,13 @@ public class DataConstructor extends Value {
         return this;
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return withArguments(arguments.stream()
+            .map(argument -> argument.analyzeStrictness(state))
+            .collect(toList()));
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         return state.createConstructor(
@@ -20,6 +20,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -67,6 +68,11 @@ public class FunctionValue extends Value implements Scoped {
             .withBody(body.accumulateNames(state)));
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return withBody(body.analyzeStrictness(state));
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         IntermediateValue result = body.generateIntermediateCode(state);
@@ -70,6 +70,10 @@ public class Instance extends Value {
         throw new UnsupportedOperationException();
     }
 
+    public InstanceReference getReference() {
+        return reference;
+    }
+
     @Override
     public SourceLocation getSourceLocation() {
         return sourceLocation;
@@ -4,6 +4,7 @@ import static lombok.AccessLevel.PACKAGE;
 import static scotch.compiler.error.SymbolNotFoundError.symbolNotFound;
 import static scotch.compiler.syntax.TypeError.typeError;
 
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -12,6 +13,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -41,6 +43,11 @@ public class IsConstructor extends Value {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return new IsConstructor(sourceLocation, value.analyzeStrictness(state), constructor);
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return new IsConstructor(sourceLocation, value.bindMethods(typeChecker), constructor);
@@ -82,6 +89,11 @@ public class IsConstructor extends Value {
         );
     }
 
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        return value.getDemandedArguments(state);
+    }
+
     @Override
     public SourceLocation getSourceLocation() {
         return sourceLocation;
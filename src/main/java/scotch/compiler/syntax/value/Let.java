@@ -5,6 +5,8 @@ import static scotch.compiler.intermediate.Intermediates.assign;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.symbol.Symbol.symbol;
 
+import java.util.HashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,6 +16,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -44,6 +47,11 @@ public class Let extends Value {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return new Let(sourceLocation, name, value.analyzeStrictness(state), scope.analyzeStrictness(state), type);
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return new Let(sourceLocation, name, value.bindMethods(typeChecker), scope.bindMethods(typeChecker), type);
@@ -81,6 +89,15 @@ public class Let extends Value {
         return assign(name, checkedValue, checkedScope);
     }
 
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        Set<String> demandedArguments = new HashSet<>(scope.getDemandedArguments(state));
+        if (demandedArguments.remove(name)) {
+            demandedArguments.addAll(value.getDemandedArguments(state));
+        }
+        return demandedArguments;
+    }
+
     @Override
     public Value parsePrecedence(PrecedenceParser state) {
         throw new UnsupportedOperationException(); // TODO
@@ -113,6 +113,10 @@ public class Method extends Value {
         }
     }
 
+    public List<Type> getInstances() {
+        return instances;
+    }
+
     public ValueReference getReference() {
         return reference;
     }
@@ -1,17 +1,20 @@
 package scotch.compiler.syntax.value;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static scotch.compiler.syntax.value.WithArguments.withoutArguments;
 import static scotch.compiler.util.Either.left;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import scotch.compiler.analyzer.DependencyAccumulator;
 import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -35,6 +38,10 @@ public abstract class Value {
 
     public abstract Value accumulateNames(NameAccumulator state);
 
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return this;
+    }
+
     public Optional<Value> asInitializer(Initializer initializer, TypeChecker state) {
         Value checkedValue = checkTypes(state);
         if (checkedValue.getType() instanceof SumType) {
@@ -78,6 +85,14 @@ public abstract class Value {
 
     public abstract IntermediateValue generateIntermediateCode(IntermediateGenerator state);
 
+    /**
+     * Gets the names of the arguments in scope which are certain to be evaluated whenever this value is evaluated.
+     * Values which can't tell demand nothing, which keeps their arguments lazy.
+     */
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        return emptySet();
+    }
+
     public abstract SourceLocation getSourceLocation();
 
     public Optional<Symbol> getTag() {
@@ -4,6 +4,7 @@ import static lombok.AccessLevel.PACKAGE;
 import static scotch.compiler.syntax.definition.Definitions.scopeDef;
 import static scotch.compiler.syntax.reference.DefinitionReference.scopeRef;
 
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -12,6 +13,7 @@ import scotch.compiler.analyzer.NameAccumulator;
 import scotch.compiler.analyzer.OperatorAccumulator;
 import scotch.compiler.analyzer.PrecedenceParser;
 import scotch.compiler.analyzer.ScopedNameQualifier;
+import scotch.compiler.analyzer.StrictnessAnalyzer;
 import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -56,6 +58,11 @@ public class ValueScope extends Value implements Scoped {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    @Override
+    public Value analyzeStrictness(StrictnessAnalyzer state) {
+        return withValue(value.analyzeStrictness(state));
+    }
+
     @Override
     public Value bindMethods(TypeChecker typeChecker) {
         return typeChecker.scoped(this, () -> new ValueScope(sourceLocation, symbol, value.bindMethods(typeChecker)));
@@ -81,6 +88,11 @@ public class ValueScope extends Value implements Scoped {
         return value.generateIntermediateCode(state);
     }
 
+    @Override
+    public Set<String> getDemandedArguments(StrictnessAnalyzer state) {
+        return value.getDemandedArguments(state);
+    }
+
     @Override
     public SourceLocation getSourceLocation() {
         return sourceLocation;
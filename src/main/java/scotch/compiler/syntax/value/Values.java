@@ -20,7 +20,7 @@ public class Values {
     }
 
     public static Apply apply(Value function, Value argument, Type type) {
-        return new Apply(function.getSourceLocation().extend(argument.getSourceLocation()), function, argument, type);
+        return new Apply(function.getSourceLocation().extend(argument.getSourceLocation()), function, argument, type, false);
     }
 
     public static Argument arg(SourceLocation sourceLocation, String name, Type type, Optional<Symbol> tag) {
@@ -22,7 +22,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import com.google.common.collect.ImmutableList;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.JDKVersion;
@@ -34,6 +33,7 @@ import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.util.Pair;
 import scotch.runtime.Callable;
 import scotch.runtime.Copyable;
+import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.Symbol.QualifiedSymbol;
 
@@ -47,6 +47,7 @@ public class BytecodeGenerator {
     private       int                               lambdas;
     private       int                               applies;
     private       int                               accesses;
+    private       int                               primitives;
 
     public BytecodeGenerator(IntermediateGraph graph) {
         this.graph = graph;
@@ -78,21 +79,10 @@ public class BytecodeGenerator {
         pushClass(jiteClass, DATA_CONSTRUCTOR);
     }
 
-    public List<Integer> getArgumentOffsets() {
-        AtomicInteger counter = new AtomicInteger();
-        return argumentOffsets.peek().stream()
-            .map(argument -> counter.getAndIncrement())
-            .collect(toList());
-    }
-
     public void defineField(String name) {
         currentClass().defineField(toJavaName(name), ACC_PRIVATE | ACC_FINAL, ci(Callable.class), null);
     }
 
-    public List<String> getArguments() {
-        return ImmutableList.copyOf(argumentOffsets.peek());
-    }
-
     public void method(String name, int access, String signature, CodeBlock body) {
         currentClass().defineMethod(name, access, signature, body);
     }
@@ -109,7 +99,7 @@ public class BytecodeGenerator {
     }
 
     public void beginMethod(List<String> captures) {
-        argumentOffsets.push(ImmutableList.copyOf(captures));
+        argumentOffsets.push(new ArrayList<>(captures));
     }
 
     public void beginMethod(List<String> captures, String argument) {
@@ -123,6 +113,7 @@ public class BytecodeGenerator {
         lambdas = 0;
         applies = 0;
         accesses = 0;
+        primitives = 0;
         JiteClass jiteClass = new JiteClass(moduleClass(moduleName)) {{
             defineDefaultConstructor(ACC_PRIVATE);
         }};
@@ -130,6 +121,11 @@ public class BytecodeGenerator {
         pushClass(jiteClass, MODULE);
     }
 
+    public void createFunction(Symbol symbol, MethodSignature signature, CodeBlock functionBody) {
+        moduleClasses.get(((QualifiedSymbol) symbol).getModuleName())
+            .defineMethod(signature.getMethodName(), ACC_STATIC | ACC_PUBLIC, signature.getSignature(), functionBody);
+    }
+
     public void createValue(Symbol symbol, CodeBlock valueBody) {
         moduleClasses.get(((QualifiedSymbol) symbol).getModuleName())
             .defineMethod(symbol.getMethodName(), ACC_STATIC | ACC_PUBLIC, sig(Callable.class), valueBody);
@@ -174,6 +170,10 @@ public class BytecodeGenerator {
         return "apply$" + applies++;
     }
 
+    public String reservePrimitive() {
+        return "primitive$" + primitives++;
+    }
+
     public String reserveLambda() {
         return "lambda$" + lambdas++;
     }
@@ -0,0 +1,81 @@
+package scotch.compiler.text;
+
+import static scotch.compiler.text.SourcePoint.point;
+
+import java.net.URI;
+import java.util.Arrays;
+
+/**
+ * Records where each line of a source starts as it is scanned, so that positions in the source can be kept as bare
+ * offsets and given a line and column only when they are needed, such as when an error is reported. Lines are found
+ * by binary search over the line starts, and columns by counting across the line, with a tab counting for eight
+ * columns as it does when scanning.
+ */
+public final class LineMap {
+
+    private final URI          source;
+    private final CharSequence data;
+    private       int[]        lineStarts;
+    private       int          lines;
+
+    public LineMap(URI source, CharSequence data) {
+        this.source = source;
+        this.data = data;
+        this.lineStarts = new int[256];
+        this.lines = 1;
+    }
+
+    /**
+     * Records that a line starts at an offset. Offsets before the start of the last line recorded are ignored, so
+     * that a scanner may read a line break more than once.
+     *
+     * @param offset The offset of the first character of the line.
+     */
+    public void addLine(int offset) {
+        if (offset > lineStarts[lines - 1]) {
+            if (lines == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lines * 2);
+            }
+            lineStarts[lines++] = offset;
+        }
+    }
+
+    public int getColumn(int offset) {
+        int column = 1;
+        for (int i = lineStarts[lineIndex(offset)]; i < offset; i++) {
+            column += data.charAt(i) == '\t' ? 8 : 1;
+        }
+        return column;
+    }
+
+    public int getLine(int offset) {
+        return lineIndex(offset) + 1;
+    }
+
+    public SourceLocation getLocation(int start, int end) {
+        return SourceLocation.source(source, getPoint(start), getPoint(end));
+    }
+
+    public NamedSourcePoint getNamedPoint(int offset) {
+        return NamedSourcePoint.source(source, getPoint(offset));
+    }
+
+    /**
+     * Gets a point at an offset. The point finds its line and column in this map only when they are asked for.
+     *
+     * @param offset The offset.
+     * @return The point.
+     */
+    public SourcePoint getPoint(int offset) {
+        return point(this, offset);
+    }
+
+    public URI getSource() {
+        return source;
+    }
+
+    private int lineIndex(int offset) {
+        int index = Arrays.binarySearch(lineStarts, 0, lines, offset);
+        return index < 0 ? -index - 2 : index;
+    }
+}
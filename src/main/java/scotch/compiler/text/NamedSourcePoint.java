@@ -2,52 +2,68 @@ package scotch.compiler.text;
 
 import static scotch.compiler.text.SourcePoint.point;
 import static scotch.util.StringUtil.quote;
+import static scotch.util.StringUtil.stringify;
 
 import java.net.URI;
 import java.util.Objects;
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
 
-@EqualsAndHashCode(callSuper = false)
-@ToString
 public class NamedSourcePoint {
 
     public static NamedSourcePoint source(URI source, int offset, int line, int column) {
-        return new NamedSourcePoint(source, offset, line, column);
+        return new NamedSourcePoint(source, point(offset, line, column));
     }
 
-    private final URI source;
-    private final int offset;
-    private final int line;
-    private final int column;
+    public static NamedSourcePoint source(URI source, SourcePoint point) {
+        return new NamedSourcePoint(source, point);
+    }
+
+    private final URI         source;
+    private final SourcePoint point;
 
-    private NamedSourcePoint(URI source, int offset, int line, int column) {
+    private NamedSourcePoint(URI source, SourcePoint point) {
         this.source = source;
-        this.offset = offset;
-        this.line = line;
-        this.column = column;
+        this.point = point;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof NamedSourcePoint) {
+            NamedSourcePoint other = (NamedSourcePoint) o;
+            return Objects.equals(source, other.source)
+                && Objects.equals(point, other.point);
+        } else {
+            return false;
+        }
     }
 
     public int getColumn() {
-        return column;
+        return point.getColumn();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, point);
     }
 
     public String prettyPrint() {
-        return "[" + quote(source) + " (" + line + ", " + column + ")]";
+        return "[" + quote(source) + " " + point.prettyPrint() + "]";
     }
 
     public SourceLocation to(NamedSourcePoint end) {
         if (!isSameSourceAs(end)) {
             throw new IllegalArgumentException("Source location covers two sources: " + quote(source) + " and " + quote(end.source));
         }
-        return SourceLocation.source(source, toPoint(), end.toPoint());
+        return SourceLocation.source(source, point, end.point);
     }
 
-    private boolean isSameSourceAs(NamedSourcePoint end) {
-        return Objects.equals(source, end.source);
+    @Override
+    public String toString() {
+        return stringify(this) + "(source=" + quote(source) + ", point=" + point + ")";
     }
 
-    private SourcePoint toPoint() {
-        return point(offset, line, column);
+    private boolean isSameSourceAs(NamedSourcePoint end) {
+        return Objects.equals(source, end.source);
     }
 }
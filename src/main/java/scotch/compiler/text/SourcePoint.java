@@ -1,22 +1,31 @@
 package scotch.compiler.text;
 
-import static scotch.compiler.text.NamedSourcePoint.source;
 import static scotch.util.StringUtil.stringify;
 
 import java.net.URI;
 import java.util.Objects;
 
+/**
+ * A point in a source. A point is either given its line and column outright, or holds only its offset and the
+ * {@link LineMap} of its source, and finds its line and column in the map when they are asked for.
+ */
 public class SourcePoint {
 
     public static SourcePoint point(int offset, int line, int column) {
-        return new SourcePoint(offset, line, column);
+        return new SourcePoint(null, offset, line, column);
     }
 
-    private final int offset;
-    private final int line;
-    private final int column;
+    public static SourcePoint point(LineMap lines, int offset) {
+        return new SourcePoint(lines, offset, -1, -1);
+    }
+
+    private final LineMap lines;
+    private final int     offset;
+    private final int     line;
+    private final int     column;
 
-    private SourcePoint(int offset, int line, int column) {
+    private SourcePoint(LineMap lines, int offset, int line, int column) {
+        this.lines = lines;
         this.offset = offset;
         this.line = line;
         this.column = column;
@@ -28,16 +37,21 @@ public class SourcePoint {
             return true;
         } else if (o instanceof SourcePoint) {
             SourcePoint other = (SourcePoint) o;
-            return offset == other.offset
-                && line == other.line
-                && column == other.column;
+            return offset == other.offset && (isSameMapAs(other) || (
+                getLine() == other.getLine()
+                    && getColumn() == other.getColumn()
+            ));
         } else {
             return false;
         }
     }
 
+    public int getColumn() {
+        return lines == null ? column : lines.getColumn(offset);
+    }
+
     public int getLine() {
-        return line;
+        return lines == null ? line : lines.getLine(offset);
     }
 
     public int getOffset() {
@@ -46,47 +60,47 @@ public class SourcePoint {
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, line, column);
+        return Objects.hash(offset);
     }
 
     public SourcePoint max(SourcePoint other) {
-        return new SourcePoint(
-            Math.max(offset, other.offset),
-            Math.max(line, other.line),
-            Math.max(column, other.column)
-        );
+        if (isSameMapAs(other)) {
+            return offset >= other.offset ? this : other;
+        } else {
+            return point(
+                Math.max(offset, other.offset),
+                Math.max(getLine(), other.getLine()),
+                Math.max(getColumn(), other.getColumn())
+            );
+        }
     }
 
     public SourcePoint min(SourcePoint other) {
-        return new SourcePoint(
-            Math.min(offset, other.offset),
-            Math.min(line, other.line),
-            Math.min(column, other.column)
-        );
-    }
-
-    public SourcePoint nextChar() {
-        return new SourcePoint(offset + 1, line, column + 1);
-    }
-
-    public SourcePoint nextLine() {
-        return new SourcePoint(offset + 1, line + 1, 1);
-    }
-
-    public SourcePoint nextTab() {
-        return new SourcePoint(offset + 1, line, column + 8);
+        if (isSameMapAs(other)) {
+            return offset <= other.offset ? this : other;
+        } else {
+            return point(
+                Math.min(offset, other.offset),
+                Math.min(getLine(), other.getLine()),
+                Math.min(getColumn(), other.getColumn())
+            );
+        }
     }
 
     public String prettyPrint() {
-        return "(" + line + ", " + column + ")";
+        return "(" + getLine() + ", " + getColumn() + ")";
     }
 
     @Override
     public String toString() {
-        return stringify(this) + "(offset=" + offset + ", line=" + line + ", column=" + column + ")";
+        return stringify(this) + "(offset=" + offset + ", line=" + getLine() + ", column=" + getColumn() + ")";
     }
 
     public NamedSourcePoint withSource(URI source) {
-        return source(source, offset, line, column);
+        return NamedSourcePoint.source(source, this);
+    }
+
+    private boolean isSameMapAs(SourcePoint other) {
+        return lines != null && lines == other.lines;
     }
 }
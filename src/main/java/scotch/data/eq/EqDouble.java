@@ -1,7 +1,9 @@
 package scotch.data.eq;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.boolCallable;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxDouble;
 
 import java.util.List;
 import scotch.data.double_.Double_;
@@ -33,6 +35,6 @@ public class EqDouble implements Eq<Double> {
 
     @Override
     public Callable<Boolean> eq(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call().equals(right.call()));
+        return boolCallable(() -> Double.compare(unboxDouble(left), unboxDouble(right)) == 0);
     }
 }
@@ -1,7 +1,9 @@
 package scotch.data.eq;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.boolCallable;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.int_.Int;
@@ -33,6 +35,6 @@ public class EqInt implements Eq<Integer> {
 
     @Override
     public Callable<Boolean> eq(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call().equals(right.call()));
+        return boolCallable(() -> unboxInt(left) == unboxInt(right));
     }
 }
@@ -2,6 +2,9 @@ package scotch.data.num;
 
 import static java.util.Arrays.asList;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.doubleCallable;
+import static scotch.runtime.RuntimeSupport.unboxDouble;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.double_.Double_;
@@ -29,28 +32,28 @@ public class NumDouble implements Num<Double> {
 
     @Override
     public Callable<Double> abs(Callable<Double> operand) {
-        return callable(() -> Math.abs(operand.call()));
+        return doubleCallable(() -> Math.abs(unboxDouble(operand)));
     }
 
     @Override
     public Callable<Double> add(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() + right.call());
+        return doubleCallable(() -> unboxDouble(left) + unboxDouble(right));
     }
 
     @Override
     public Callable<Double> fromInteger(Callable<Integer> integer) {
-        return callable(() -> integer.call().doubleValue());
+        return doubleCallable(() -> unboxInt(integer));
     }
 
     @Override
     public Callable<Double> multiply(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() * right.call());
+        return doubleCallable(() -> unboxDouble(left) * unboxDouble(right));
     }
 
     @Override
     public Callable<Double> signum(Callable<Double> operand) {
-        return callable(() -> {
-            double value = operand.call();
+        return doubleCallable(() -> {
+            double value = unboxDouble(operand);
             if (value > 0) {
                 return 1d;
             } else if (value < 0) {
@@ -63,6 +66,6 @@ public class NumDouble implements Num<Double> {
 
     @Override
     public Callable<Double> sub(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() - right.call());
+        return doubleCallable(() -> unboxDouble(left) - unboxDouble(right));
     }
 }
@@ -2,6 +2,8 @@ package scotch.data.num;
 
 import static java.util.Arrays.asList;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.intCallable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.int_.Int;
@@ -33,12 +35,12 @@ public class NumInt implements Num<Integer> {
 
     @Override
     public Callable<Integer> abs(Callable<Integer> operand) {
-        return callable(() -> Math.abs(operand.call()));
+        return intCallable(() -> Math.abs(unboxInt(operand)));
     }
 
     @Override
     public Callable<Integer> add(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() + right.call());
+        return intCallable(() -> unboxInt(left) + unboxInt(right));
     }
 
     @Override
@@ -48,13 +50,13 @@ public class NumInt implements Num<Integer> {
 
     @Override
     public Callable<Integer> multiply(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() * right.call());
+        return intCallable(() -> unboxInt(left) * unboxInt(right));
     }
 
     @Override
     public Callable<Integer> signum(Callable<Integer> operand) {
-        return callable(() -> {
-            int value = operand.call();
+        return intCallable(() -> {
+            int value = unboxInt(operand);
             if (value > 0) {
                 return 1;
             } else if (value < 0) {
@@ -67,6 +69,6 @@ public class NumInt implements Num<Integer> {
 
     @Override
     public Callable<Integer> sub(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() - right.call());
+        return intCallable(() -> unboxInt(left) - unboxInt(right));
     }
 }
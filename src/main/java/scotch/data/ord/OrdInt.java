@@ -1,7 +1,9 @@
 package scotch.data.ord;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.boolCallable;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.eq.Eq;
@@ -34,6 +36,6 @@ public class OrdInt implements Ord<Integer> {
 
     @Override
     public Callable<Boolean> lessThanEquals(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> eq.call().eq(left, right).call() || left.call() < right.call());
+        return boolCallable(() -> unboxInt(left) <= unboxInt(right));
     }
 }
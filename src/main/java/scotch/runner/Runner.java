@@ -8,6 +8,7 @@ import static scotch.symbol.Symbol.getPackagePath;
 import static scotch.symbol.Symbol.toJavaName;
 
 import java.io.File;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -32,13 +33,7 @@ public class Runner {
             Path path = Paths.get(getPackagePath(runner.getModule()) + ".scotch");
             try (Stream<String> stream = Files.lines(path.toAbsolutePath())) {
                 List<String> lines = stream.collect(toList());
-                Compiler compiler = compiler(resolver, path.toUri(), lines.toArray(new String[lines.size()]));
-                List<GeneratedClass> generatedClasses = compiler.generateBytecode();
-                resolver.defineAll(generatedClasses);
-                out.println("main = " + ((Callable) resolver
-                    .loadClass(toJavaName(runner.getModule()) + ".$$Module")
-                    .getMethod("main")
-                    .invoke(null)).call());
+                out.println("main = " + runner.run(resolver, path.toUri(), lines.toArray(new String[lines.size()])));
             } catch (CompileException exception) {
                 exception.printErrors();
             }
@@ -51,6 +46,8 @@ public class Runner {
     private       String     module;
     @Parameter(names = { "-o", "--output" }, description = "[optional] The compiled class output path, for debugging purposes")
     private       String     outputPath;
+    @Parameter(names = { "-s", "--strictness" }, description = "[optional] Prints the strict arguments of each function, for debugging purposes")
+    private       boolean    strictness;
     @Parameter(names = { "-h", "--help" }, description = "[optional] Displays this help")
     private       boolean    help;
 
@@ -67,6 +64,32 @@ public class Runner {
         return Optional.ofNullable(outputPath).map(outputPath -> new File(outputPath).getAbsoluteFile());
     }
 
+    public boolean isStrictness() {
+        return strictness;
+    }
+
+    /**
+     * Compiles the module and runs its {@code main}, printing the strict arguments of each function first if asked.
+     *
+     * @param resolver The resolver to compile against and load the module through.
+     * @param source The source of the module.
+     * @param lines The lines of the module.
+     * @return The value of {@code main}.
+     * @throws ReflectiveOperationException If the module's {@code main} can't be invoked.
+     */
+    public Object run(ClassLoaderResolver resolver, URI source, String... lines) throws ReflectiveOperationException {
+        Compiler compiler = compiler(resolver, source, lines);
+        if (strictness) {
+            out.println(compiler.reportStrictness());
+        }
+        List<GeneratedClass> generatedClasses = compiler.generateBytecode();
+        resolver.defineAll(generatedClasses);
+        return ((Callable) resolver
+            .loadClass(toJavaName(module) + ".$$Module")
+            .getMethod("main")
+            .invoke(null)).call();
+    }
+
     public void printHelpOr(ThrowingRunnable runnable) throws Exception {
         parseArgs();
         if (isHelp()) {
@@ -93,7 +116,7 @@ public class Runner {
     }
 
     @FunctionalInterface
-    private interface ThrowingRunnable {
+    interface ThrowingRunnable {
 
         void run(Runner runner) throws Exception;
     }
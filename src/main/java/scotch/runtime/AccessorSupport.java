@@ -1,13 +1,45 @@
 package scotch.runtime;
 
+import static java.lang.invoke.MethodType.methodType;
 import static scotch.runtime.RuntimeSupport.callable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gets fields from data values whose constructor isn't known when they are compiled. Getters are looked up once per
+ * data class and field, and cached as {@link MethodHandle}s.
+ */
 public class AccessorSupport {
 
+    private static final ClassValue<Map<String, MethodHandle>> getters = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static Callable access(Callable target, String fieldName) {
         return callable(() -> {
+            Object value = target.call();
+            try {
+                return (Callable) getGetter(value.getClass(), fieldName).invoke(value);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        });
+    }
+
+    private static MethodHandle getGetter(Class<?> type, String fieldName) {
+        return getters.get(type).computeIfAbsent(fieldName, name -> {
             try {
-                return (Callable) target.call().getClass().getMethod(fieldName).invoke(target.call());
+                return MethodHandles.publicLookup()
+                    .findVirtual(type, name, methodType(Callable.class))
+                    .asType(methodType(Object.class, Object.class));
             } catch (ReflectiveOperationException exception) {
                 throw new RuntimeException(exception);
             }
@@ -0,0 +1,28 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} which can be evaluated to an unboxed boolean without allocating a {@link Boolean}.
+ *
+ * <p>Code which knows it is working with Bools calls {@link #callBool()} directly (see
+ * {@link RuntimeSupport#unboxBool(Callable)}); everything else sees an ordinary {@link Callable}.</p>
+ */
+@FunctionalInterface
+public interface BoolCallable extends Callable<Boolean> {
+
+    /**
+     * Evaluates and returns the boxed value.
+     *
+     * @return The boxed value.
+     */
+    @Override
+    default Boolean call() {
+        return callBool();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value.
+     *
+     * @return The unboxed value.
+     */
+    boolean callBool();
+}
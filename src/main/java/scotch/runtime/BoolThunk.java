@@ -0,0 +1,52 @@
+package scotch.runtime;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A thunk which evaluates to an unboxed boolean.
+ *
+ * <p>Like {@link LockFreeThunk}, concurrent forcing may evaluate the supplier more than once but always publishes the
+ * same value. The supplier is released once the value is evaluated, and the boxed value is only created if a caller
+ * asks for it through {@link #call()}.</p>
+ */
+public class BoolThunk implements BoolCallable, Evaluator.Forceable {
+
+    private volatile BooleanSupplier supplier;
+    private volatile boolean evaluated;
+    private          boolean value;
+    private          Boolean boxed;
+
+    public BoolThunk(BooleanSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Boolean call() {
+        Boolean result = boxed;
+        if (result == null) {
+            result = callBool();
+            boxed = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean callBool() {
+        if (!evaluated) {
+            Evaluator.force(this);
+        }
+        return value;
+    }
+
+    @Override
+    public void forceValue() {
+        if (!evaluated) {
+            BooleanSupplier current = supplier;
+            if (current != null) {
+                value = current.getAsBoolean();
+                evaluated = true;
+                supplier = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodHandles.filterArguments;
+import static java.lang.invoke.MethodHandles.guardWithTest;
+import static java.lang.invoke.MethodHandles.insertArguments;
+import static java.lang.invoke.MethodType.fromMethodDescriptorString;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.stream;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import scotch.symbol.Member;
+
+/**
+ * Bootstraps the {@code invokedynamic} call sites generated for saturated applications of type class members, such as
+ * {@code (==) EqString x y}. Call sites link to the {@link Member} method implementing the member on the instance,
+ * rather than applying the member's curried value to the instance and each argument in turn.
+ *
+ * <p>If the type class has no {@link Member} method matching the application, the call site falls back to applying
+ * the member's value.</p>
+ *
+ * <p>Bootstrapping never forces a thunk: call sites are linked by the JVM wherever they are first reached, which may
+ * be deep inside the {@link Evaluator}, and anything thrown while linking is wrapped in a
+ * {@link BootstrapMethodError}. Instances are forced when the call site is first invoked instead.</p>
+ */
+public final class DispatchSupport {
+
+    private static final MethodHandle applyValue;
+    private static final MethodHandle callDictionary;
+    private static final MethodHandle hasInstanceClass;
+    private static final MethodHandle link;
+    private static final MethodHandle relink;
+
+    static {
+        Lookup lookup = MethodHandles.lookup();
+        try {
+            applyValue = lookup.findStatic(DispatchSupport.class, "applyValue", methodType(Callable.class, MethodHandle.class, Callable.class, Callable[].class));
+            callDictionary = lookup.findVirtual(Callable.class, "call", methodType(Object.class));
+            hasInstanceClass = lookup.findStatic(DispatchSupport.class, "hasInstanceClass", methodType(boolean.class, Class.class, Callable.class));
+            link = lookup.findVirtual(InstanceCache.class, "link", methodType(Object.class, Object[].class));
+            relink = lookup.findVirtual(InlineCache.class, "relink", methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * Bootstraps a call site applying a type class member to an instance known at compile time. The call site takes
+     * the member's arguments and is linked directly to the member's implementation on the instance.
+     *
+     * @param lookup The caller's lookup.
+     * @param name The name of the call site.
+     * @param type The type of the call site.
+     * @param typeClass The interface declaring the type class.
+     * @param memberName The name of the member in Scotch.
+     * @param valueMethod The name of the static method returning the member's curried value.
+     * @param valueSignature The descriptor of the value method.
+     * @param instanceClass The class declaring the instance.
+     * @param instanceGetter The name of the static method returning the instance.
+     * @param instanceSignature The descriptor of the instance getter.
+     * @return The call site.
+     */
+    @SuppressWarnings("unused")
+    public static CallSite bootstrapInstance(Lookup lookup, String name, MethodType type, Class<?> typeClass, String memberName,
+                                             String valueMethod, String valueSignature,
+                                             Class<?> instanceClass, String instanceGetter, String instanceSignature) throws ReflectiveOperationException {
+        Callable<?> dictionary = getDictionary(lookup.findStatic(instanceClass, instanceGetter, descriptor(lookup, instanceSignature)));
+        Optional<MethodHandle> member = findMember(lookup, typeClass, memberName, type.parameterCount());
+        if (member.isPresent()) {
+            return new InstanceCache(lookup, type, dictionary, member.get());
+        } else {
+            return new ConstantCallSite(insertArguments(findValue(lookup, typeClass, valueMethod, valueSignature), 0, dictionary)
+                .asCollector(Callable[].class, type.parameterCount())
+                .asType(type));
+        }
+    }
+
+    /**
+     * Bootstraps a call site applying a type class member to an instance given at runtime, such as an instance
+     * passed as an argument to a function with a type class constraint. The call site takes the instance followed by
+     * the member's arguments, and caches the member's implementation on the last instance seen.
+     *
+     * @param lookup The caller's lookup.
+     * @param name The name of the call site.
+     * @param type The type of the call site.
+     * @param typeClass The interface declaring the type class.
+     * @param memberName The name of the member in Scotch.
+     * @param valueMethod The name of the static method returning the member's curried value.
+     * @param valueSignature The descriptor of the value method.
+     * @return The call site.
+     */
+    @SuppressWarnings("unused")
+    public static CallSite bootstrapDictionary(Lookup lookup, String name, MethodType type, Class<?> typeClass, String memberName,
+                                               String valueMethod, String valueSignature) throws ReflectiveOperationException {
+        Optional<MethodHandle> member = findMember(lookup, typeClass, memberName, type.parameterCount() - 1);
+        if (member.isPresent()) {
+            return new InlineCache(lookup, type, typeClass, member.get());
+        } else {
+            return new ConstantCallSite(findValue(lookup, typeClass, valueMethod, valueSignature)
+                .asCollector(Callable[].class, type.parameterCount() - 1)
+                .asType(type));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callable applyValue(MethodHandle valueMethod, Callable dictionary, Callable[] arguments) throws Throwable {
+        Callable result = ((Applicable) ((Callable) valueMethod.invoke()).call()).apply(dictionary);
+        for (Callable argument : arguments) {
+            result = ((Applicable) result.call()).apply(argument);
+        }
+        return result;
+    }
+
+    private static MethodType descriptor(Lookup lookup, String signature) {
+        return fromMethodDescriptorString(signature, lookup.lookupClass().getClassLoader());
+    }
+
+    private static MethodHandle findImplementation(Lookup lookup, Class<?> instanceClass, MethodHandle member) {
+        if (!Modifier.isPublic(instanceClass.getModifiers())) {
+            return member;
+        }
+        try {
+            MethodType memberType = member.type().dropParameterTypes(0, 1);
+            return lookup.findVirtual(instanceClass, lookup.revealDirect(member).getName(), memberType);
+        } catch (ReflectiveOperationException | IllegalArgumentException exception) {
+            return member;
+        }
+    }
+
+    private static Optional<MethodHandle> findMember(Lookup lookup, Class<?> typeClass, String memberName, int arity) {
+        return stream(typeClass.getMethods())
+            .filter(method -> !Modifier.isStatic(method.getModifiers()))
+            .filter(method -> method.isAnnotationPresent(Member.class) && method.getAnnotation(Member.class).value().equals(memberName))
+            .filter(method -> method.getParameterCount() == arity && Callable.class.isAssignableFrom(method.getReturnType()))
+            .filter(method -> stream(method.getParameterTypes()).allMatch(parameter -> parameter == Callable.class))
+            .findFirst()
+            .flatMap(method -> {
+                try {
+                    return Optional.of(lookup.unreflect(method));
+                } catch (IllegalAccessException exception) {
+                    return Optional.empty();
+                }
+            });
+    }
+
+    private static MethodHandle findValue(Lookup lookup, Class<?> typeClass, String valueMethod, String valueSignature) {
+        try {
+            return applyValue.bindTo(lookup.findStatic(typeClass, valueMethod, descriptor(lookup, valueSignature)));
+        } catch (ReflectiveOperationException exception) {
+            throw new BootstrapMethodError(exception);
+        }
+    }
+
+    private static Callable<?> getDictionary(MethodHandle instanceGetter) {
+        try {
+            return (Callable<?>) instanceGetter.invoke();
+        } catch (Throwable throwable) {
+            throw new BootstrapMethodError(throwable);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean hasInstanceClass(Class<?> instanceClass, Callable<?> dictionary) {
+        return dictionary.call().getClass() == instanceClass;
+    }
+
+    private DispatchSupport() {
+        // intentionally empty
+    }
+
+    /**
+     * A monomorphic inline cache over the instances passed to a call site. The first instance seen is linked to its
+     * implementation of the member behind a class check, and any other instance is dispatched through the type class
+     * interface.
+     */
+    private static final class InlineCache extends MutableCallSite {
+
+        private final Lookup       lookup;
+        private final MethodHandle member;
+        private final MethodHandle dispatch;
+
+        private InlineCache(Lookup lookup, MethodType type, Class<?> typeClass, MethodHandle member) {
+            super(type);
+            this.lookup = lookup;
+            this.member = member;
+            this.dispatch = dispatch(member, typeClass);
+            setTarget(relink.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type));
+        }
+
+        private MethodHandle dispatch(MethodHandle implementation, Class<?> receiver) {
+            return filterArguments(implementation, 0, callDictionary.asType(methodType(receiver, Callable.class))).asType(type());
+        }
+
+        @SuppressWarnings("unused")
+        Object relink(Object[] arguments) throws Throwable {
+            Class<?> instanceClass = ((Callable<?>) arguments[0]).call().getClass();
+            MethodHandle implementation = findImplementation(lookup, instanceClass, member);
+            MethodHandle target = guardWithTest(
+                hasInstanceClass.bindTo(instanceClass),
+                implementation == member ? dispatch : dispatch(implementation, instanceClass),
+                dispatch
+            );
+            setTarget(target);
+            return target.invokeWithArguments(arguments);
+        }
+    }
+
+    /**
+     * A call site applying a member to an instance known at compile time. The instance is forced when the call site is
+     * first invoked, and the call site is then linked to the instance's implementation of the member.
+     */
+    private static final class InstanceCache extends MutableCallSite {
+
+        private final Lookup       lookup;
+        private final Callable<?>  dictionary;
+        private final MethodHandle member;
+
+        private InstanceCache(Lookup lookup, MethodType type, Callable<?> dictionary, MethodHandle member) {
+            super(type);
+            this.lookup = lookup;
+            this.dictionary = dictionary;
+            this.member = member;
+            setTarget(link.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type));
+        }
+
+        @SuppressWarnings("unused")
+        Object link(Object[] arguments) throws Throwable {
+            Object instance = dictionary.call();
+            MethodHandle target = findImplementation(lookup, instance.getClass(), member).bindTo(instance).asType(type());
+            setTarget(target);
+            return target.invokeWithArguments(arguments);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} which can be evaluated to an unboxed double without allocating a {@link Double}.
+ *
+ * <p>Code which knows it is working with Doubles calls {@link #callDouble()} directly (see
+ * {@link RuntimeSupport#unboxDouble(Callable)}); everything else sees an ordinary {@link Callable}.</p>
+ */
+@FunctionalInterface
+public interface DoubleCallable extends Callable<Double> {
+
+    /**
+     * Evaluates and returns the boxed value.
+     *
+     * @return The boxed value.
+     */
+    @Override
+    default Double call() {
+        return callDouble();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value.
+     *
+     * @return The unboxed value.
+     */
+    double callDouble();
+}
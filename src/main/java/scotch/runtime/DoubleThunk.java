@@ -0,0 +1,52 @@
+package scotch.runtime;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A thunk which evaluates to an unboxed double.
+ *
+ * <p>Like {@link LockFreeThunk}, concurrent forcing may evaluate the supplier more than once but always publishes the
+ * same value. The supplier is released once the value is evaluated, and the boxed value is only created if a caller
+ * asks for it through {@link #call()}.</p>
+ */
+public class DoubleThunk implements DoubleCallable, Evaluator.Forceable {
+
+    private volatile DoubleSupplier supplier;
+    private volatile boolean evaluated;
+    private          double value;
+    private          Double boxed;
+
+    public DoubleThunk(DoubleSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Double call() {
+        Double result = boxed;
+        if (result == null) {
+            result = callDouble();
+            boxed = result;
+        }
+        return result;
+    }
+
+    @Override
+    public double callDouble() {
+        if (!evaluated) {
+            Evaluator.force(this);
+        }
+        return value;
+    }
+
+    @Override
+    public void forceValue() {
+        if (!evaluated) {
+            DoubleSupplier current = supplier;
+            if (current != null) {
+                value = current.getAsDouble();
+                evaluated = true;
+                supplier = null;
+            }
+        }
+    }
+}
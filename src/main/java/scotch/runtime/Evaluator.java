@@ -0,0 +1,118 @@
+package scotch.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Forces thunks without letting long chains of dependent thunks overflow the Java stack.
+ *
+ * <p>Forcing a thunk runs its code, which may force other thunks in turn. A chain of dependent thunks, such as the
+ * accumulator built by a lazy left fold {@code ((a + b) + c) + ...}, is therefore forced through one nested Java call
+ * per thunk. The evaluator counts how deeply forcing is nested on the current thread. When the count reaches
+ * {@link #SEGMENT_DEPTH}, the thunk about to be forced is left alone and the stack is unwound back to the outermost
+ * force. The outermost force keeps the thunks it has been asked for on an explicit stack and forces the deepest one
+ * first. Thunks interrupted by the unwinding are evaluated again once the thunks they depend on have been memoized,
+ * which is safe because evaluation is pure.</p>
+ *
+ * <p>Forcing a chain deeper than {@link #MAX_DEPTH} raises a {@link RaisedException}. Code which recurses without
+ * forcing thunks is not bounded by the evaluator, and a {@link StackOverflowError} it throws propagates as it is.</p>
+ */
+public final class Evaluator {
+
+    /**
+     * How many forces may be nested on the Java stack before it is unwound. Each force takes about ten frames of
+     * interpreted code, so the default leaves most of a 1 MB thread stack to the code between forces. Set with
+     * {@code -Dscotch.runtime.segmentDepth}.
+     */
+    public static final int SEGMENT_DEPTH = Integer.getInteger("scotch.runtime.segmentDepth", 100);
+
+    /**
+     * How deep a chain of dependent thunks may be. Set with {@code -Dscotch.runtime.maxForceDepth}.
+     */
+    public static final long MAX_DEPTH = Long.getLong("scotch.runtime.maxForceDepth", 100_000_000L);
+
+    private static final ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
+    private static final Unwind                 unwind     = new Unwind();
+
+    /**
+     * Forces a thunk on the current thread.
+     *
+     * @param thunk The thunk.
+     */
+    static void force(Forceable thunk) {
+        Evaluator evaluator = evaluators.get();
+        if (evaluator.depth == 0) {
+            evaluator.forceOutermost(thunk);
+        } else {
+            evaluator.forceNested(thunk);
+        }
+    }
+
+    private int       depth;
+    private Forceable blocked;
+
+    private Evaluator() {
+        // intentionally empty
+    }
+
+    private void forceNested(Forceable thunk) {
+        if (depth >= SEGMENT_DEPTH) {
+            blocked = thunk;
+            throw unwind;
+        }
+        depth++;
+        try {
+            thunk.forceValue();
+        } finally {
+            depth--;
+        }
+    }
+
+    private void forceOutermost(Forceable thunk) {
+        Deque<Forceable> pending = null;
+        Forceable next = thunk;
+        try {
+            while (next != null) {
+                depth = 1;
+                try {
+                    next.forceValue();
+                    next = pending == null ? null : pending.poll();
+                } catch (Unwind exception) {
+                    if (pending == null) {
+                        pending = new ArrayDeque<>();
+                    }
+                    if ((long) (pending.size() + 2) * SEGMENT_DEPTH > MAX_DEPTH) {
+                        throw new RaisedException("Forced a chain of thunks deeper than " + MAX_DEPTH);
+                    }
+                    pending.push(next);
+                    next = blocked;
+                }
+            }
+        } finally {
+            depth = 0;
+            blocked = null;
+        }
+    }
+
+    /**
+     * A thunk which can be forced by an {@link Evaluator}.
+     */
+    interface Forceable {
+
+        /**
+         * Evaluates and memoizes the value if it hasn't been already.
+         */
+        void forceValue();
+    }
+
+    /**
+     * Unwinds the stack back to the outermost force. It is an {@link Error} so that it passes through code which
+     * handles exceptions; runtime support which catches {@link Throwable} must rethrow errors unchanged.
+     */
+    private static final class Unwind extends Error {
+
+        private Unwind() {
+            super(null, null, false, false);
+        }
+    }
+}
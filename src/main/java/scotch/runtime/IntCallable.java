@@ -0,0 +1,28 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} which can be evaluated to an unboxed int without allocating an {@link Integer}.
+ *
+ * <p>Code which knows it is working with Ints calls {@link #callInt()} directly (see
+ * {@link RuntimeSupport#unboxInt(Callable)}); everything else sees an ordinary {@link Callable}.</p>
+ */
+@FunctionalInterface
+public interface IntCallable extends Callable<Integer> {
+
+    /**
+     * Evaluates and returns the boxed value.
+     *
+     * @return The boxed value.
+     */
+    @Override
+    default Integer call() {
+        return callInt();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value.
+     *
+     * @return The unboxed value.
+     */
+    int callInt();
+}
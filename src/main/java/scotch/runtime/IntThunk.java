@@ -0,0 +1,52 @@
+package scotch.runtime;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A thunk which evaluates to an unboxed int.
+ *
+ * <p>Like {@link LockFreeThunk}, concurrent forcing may evaluate the supplier more than once but always publishes the
+ * same value. The supplier is released once the value is evaluated, and the boxed value is only created if a caller
+ * asks for it through {@link #call()}.</p>
+ */
+public class IntThunk implements IntCallable, Evaluator.Forceable {
+
+    private volatile IntSupplier supplier;
+    private volatile boolean evaluated;
+    private          int value;
+    private          Integer boxed;
+
+    public IntThunk(IntSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Integer call() {
+        Integer result = boxed;
+        if (result == null) {
+            result = callInt();
+            boxed = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int callInt() {
+        if (!evaluated) {
+            Evaluator.force(this);
+        }
+        return value;
+    }
+
+    @Override
+    public void forceValue() {
+        if (!evaluated) {
+            IntSupplier current = supplier;
+            if (current != null) {
+                value = current.getAsInt();
+                evaluated = true;
+                supplier = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package scotch.runtime;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link LockFreeThunk} which uses a supplier to evaluate its value.
+ *
+ * <p>The supplier is released once the value has been published. A thread which was concurrently evaluating the same
+ * thunk and finds the supplier gone reads the published value instead, without forcing the thunk again.</p>
+ *
+ * @param <A> The type contained by this {@link LockFreeThunk}.
+ */
+public class LockFreeSuppliedThunk<A> extends LockFreeThunk<A> {
+
+    private volatile Supplier<A> supplier;
+
+    public LockFreeSuppliedThunk(Supplier<A> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    protected A evaluate() {
+        Supplier<A> current = supplier;
+        if (current == null) {
+            return getPublishedValue();
+        } else {
+            return current.get();
+        }
+    }
+
+    @Override
+    protected void release() {
+        supplier = null;
+    }
+}
@@ -0,0 +1,152 @@
+package scotch.runtime;
+
+import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A thunk which is evaluated without taking a monitor.
+ *
+ * <p>Evaluation is a small state machine over a single atomically-updated field: a thunk starts
+ * {@code UNEVALUATED}, is claimed by the first forcing thread by swapping in a {@link Blackhole}, and ends holding
+ * its normalized value. Because Scotch thunks are pure, a second thread finding the thunk claimed does not wait but
+ * evaluates it again; whichever thread publishes first wins and both return the same value. A thread which finds its
+ * own blackhole has re-entered the thunk through a cyclic reference and a {@link RaisedException} is thrown instead
+ * of recursing until the stack overflows.</p>
+ *
+ * <p>Once evaluated, the value is also copied into a plain field which is checked before the atomic state, so forcing
+ * an evaluated thunk costs a single field read. This relies on runtime values being safely published (all fields of
+ * generated data constructors and captured lambda arguments are final).</p>
+ *
+ * @param <A> The type of the value to be returned from the thunk.
+ */
+public abstract class LockFreeThunk<A> implements Callable<A>, Evaluator.Forceable {
+
+    private static final Object UNEVALUATED = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeThunk, Object> STATE = newUpdater(LockFreeThunk.class, Object.class, "state");
+
+    /**
+     * The value after it has been evaluated to normal form, read without synchronization.
+     */
+    private          A      value;
+    private volatile Object state = UNEVALUATED;
+
+    /**
+     * Evaluates the thunk down to normal form.
+     *
+     * @return The normalized value.
+     */
+    @Override
+    public A call() {
+        A result = value;
+        if (result == null) {
+            Evaluator.force(this);
+            result = value;
+        }
+        return result;
+    }
+
+    @Override
+    public void forceValue() {
+        if (value == null) {
+            force();
+        }
+    }
+
+    /**
+     * Evaluates the value.
+     *
+     * @return The evaluated value.
+     */
+    protected abstract A evaluate();
+
+    /**
+     * Gets the value once it has been published, waiting for it should it still be in flight. Only to be called once
+     * {@link #release()} has been, as nothing else guarantees that a value will be published.
+     *
+     * @return The published value.
+     */
+    @SuppressWarnings("unchecked")
+    protected final A getPublishedValue() {
+        Object current = state;
+        while (current == UNEVALUATED || current instanceof Blackhole) {
+            Thread.yield();
+            current = state;
+        }
+        return (A) current;
+    }
+
+    /**
+     * Called once the value has been published, allowing subclasses to drop whatever state was needed to evaluate it.
+     */
+    protected void release() {
+        // intentionally empty
+    }
+
+    @SuppressWarnings("unchecked")
+    private A complete(Object expected, A result) {
+        if (STATE.compareAndSet(this, expected, result)) {
+            value = result;
+            release();
+            return result;
+        }
+        Object current = state;
+        if (current == UNEVALUATED || current instanceof Blackhole) {
+            return complete(current, result);
+        } else {
+            value = (A) current;
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private A force() {
+        Object current = state;
+        if (current == UNEVALUATED) {
+            Blackhole blackhole = new Blackhole(Thread.currentThread());
+            if (STATE.compareAndSet(this, UNEVALUATED, blackhole)) {
+                try {
+                    return complete(blackhole, normalize(evaluate()));
+                } catch (Throwable throwable) {
+                    STATE.compareAndSet(this, blackhole, UNEVALUATED);
+                    throw throwable;
+                }
+            }
+            current = state;
+        }
+        if (current instanceof Blackhole) {
+            if (((Blackhole) current).owner == Thread.currentThread()) {
+                throw new RaisedException("<<loop>>: thunk forced during its own evaluation");
+            } else {
+                return complete(current, normalize(evaluate()));
+            }
+        } else if (current == UNEVALUATED) {
+            return force();
+        } else {
+            value = (A) current;
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private A normalize(A result) {
+        while (result instanceof Callable) {
+            if (result instanceof Applicable) {
+                break;
+            }
+            result = ((Callable<A>) result).call();
+        }
+        return result;
+    }
+
+    private static final class Blackhole {
+
+        private final Thread owner;
+
+        private Blackhole(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package scotch.runtime;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -8,6 +11,13 @@ import java.util.function.Supplier;
  */
 public final class RuntimeSupport {
 
+    /**
+     * Whether thunks created through {@link #callable(Supplier)} and {@link #flatCallable(Supplier)} are
+     * {@link LockFreeThunk}s rather than monitor-based {@link Thunk}s. Enabled by starting the JVM with
+     * {@code -Dscotch.runtime.lockFreeThunks=true}.
+     */
+    public static final boolean LOCK_FREE_THUNKS = Boolean.getBoolean("scotch.runtime.lockFreeThunks");
+
     /**
      * Shorthand for creating an {@link Applicable}.
      *
@@ -26,7 +36,7 @@ public final class RuntimeSupport {
      * @param value The boolean to be boxed.
      * @return The boxed boolean.
      */
-    public static Callable<Boolean> box(boolean value) { return new BoxedCallable<>(value); }
+    public static Callable<Boolean> box(boolean value) { return new BoxedBool(value); }
 
     /**
      * Boxes a char into a {@link Callable}.
@@ -43,7 +53,7 @@ public final class RuntimeSupport {
      * @return The boxed double.
      */
     public static Callable<Double> box(double value) {
-        return new BoxedCallable<>(value);
+        return new BoxedDouble(value);
     }
 
     /**
@@ -53,7 +63,7 @@ public final class RuntimeSupport {
      * @return The boxed int.
      */
     public static Callable<Integer> box(int value) {
-        return new BoxedCallable<>(value);
+        return new BoxedInt(value);
     }
 
     /**
@@ -67,21 +77,41 @@ public final class RuntimeSupport {
         return new BoxedCallable<>(value);
     }
 
+    /**
+     * Creates a {@link BoolThunk} which will execute the given supplier and store the unboxed result when called.
+     *
+     * @param supplier The supplier giving the value.
+     * @return The thunk.
+     */
+    public static Callable<Boolean> boolCallable(BooleanSupplier supplier) {
+        return new BoolThunk(supplier);
+    }
+
     /**
      * Creates a {@link Thunk} which will execute the given Supplier and store
-     * the resultant value when called.
+     * the resultant value when called, releasing the Supplier afterward. A {@link LockFreeSuppliedThunk} is created
+     * instead when {@link #LOCK_FREE_THUNKS} is enabled.
      *
      * @param supplier The supplier giving the value.
      * @param <A> The type returned from the supplier.
      * @return The thunk.
      */
     public static <A> Callable<A> callable(Supplier<A> supplier) {
-        return new Thunk<A>() {
-            @Override
-            protected A evaluate() {
-                return supplier.get();
-            }
-        };
+        if (LOCK_FREE_THUNKS) {
+            return new LockFreeSuppliedThunk<>(supplier);
+        } else {
+            return new SuppliedThunk<>(supplier);
+        }
+    }
+
+    /**
+     * Creates a {@link DoubleThunk} which will execute the given supplier and store the unboxed result when called.
+     *
+     * @param supplier The supplier giving the value.
+     * @return The thunk.
+     */
+    public static Callable<Double> doubleCallable(DoubleSupplier supplier) {
+        return new DoubleThunk(supplier);
     }
 
     /**
@@ -92,23 +122,83 @@ public final class RuntimeSupport {
      * @return The thunk.
      */
     public static <A> Callable<A> flatCallable(Supplier<Callable<A>> supplier) {
-        return new Thunk<A>() {
-            @Override
-            protected A evaluate() {
-                return supplier.get().call();
-            }
-        };
+        return callable(() -> supplier.get().call());
     }
 
     /**
-     * Unboxes a boolean from a {@link Callable}.
+     * Creates an {@link IntThunk} which will execute the given supplier and store the unboxed result when called.
+     *
+     * @param supplier The supplier giving the value.
+     * @return The thunk.
+     */
+    public static Callable<Integer> intCallable(IntSupplier supplier) {
+        return new IntThunk(supplier);
+    }
+
+    /**
+     * Evaluates an argument passed to a strict parameter. Applications may give values which aren't {@link Callable}s,
+     * such as constructed data, so these are boxed.
+     *
+     * @param value The value to evaluate.
+     * @param <A> The type of the value.
+     * @return The evaluated value as a {@link Callable}.
+     */
+    @SuppressWarnings({ "unchecked", "unused" })
+    public static <A> Callable<A> strict(Object value) {
+        if (value instanceof Callable) {
+            ((Callable<A>) value).call();
+            return (Callable<A>) value;
+        } else {
+            return new BoxedCallable<>((A) value);
+        }
+    }
+
+    /**
+     * Unboxes a boolean from a {@link Callable}, avoiding the {@link Boolean} if the callable is a
+     * {@link BoolCallable}.
      *
      * @param callable The callable to unbox.
      * @return The boolean value.
      */
     @SuppressWarnings("unused")
     public static boolean unboxBool(Callable<Boolean> callable) {
-        return callable.call();
+        if (callable instanceof BoolCallable) {
+            return ((BoolCallable) callable).callBool();
+        } else {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Unboxes a double from a {@link Callable}, avoiding the {@link Double} if the callable is a
+     * {@link DoubleCallable}.
+     *
+     * @param callable The callable to unbox.
+     * @return The double value.
+     */
+    @SuppressWarnings("unused")
+    public static double unboxDouble(Callable<Double> callable) {
+        if (callable instanceof DoubleCallable) {
+            return ((DoubleCallable) callable).callDouble();
+        } else {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Unboxes an int from a {@link Callable}, avoiding the {@link Integer} if the callable is an
+     * {@link IntCallable}.
+     *
+     * @param callable The callable to unbox.
+     * @return The int value.
+     */
+    @SuppressWarnings("unused")
+    public static int unboxInt(Callable<Integer> callable) {
+        if (callable instanceof IntCallable) {
+            return ((IntCallable) callable).callInt();
+        } else {
+            return callable.call();
+        }
     }
 
     private RuntimeSupport() {
@@ -138,4 +228,82 @@ public final class RuntimeSupport {
             }
         }
     }
+
+    /**
+     * Boxes booleans into {@link BoolCallable}s.
+     */
+    public static final class BoxedBool implements BoolCallable {
+
+        private final boolean value;
+
+        public BoxedBool(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public Boolean call() {
+            return value;
+        }
+
+        @Override
+        public boolean callBool() {
+            return value;
+        }
+    }
+
+    /**
+     * Boxes doubles into {@link DoubleCallable}s, creating the {@link Double} only if it is asked for.
+     */
+    public static final class BoxedDouble implements DoubleCallable {
+
+        private final double value;
+        private       Double boxed;
+
+        public BoxedDouble(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public Double call() {
+            Double result = boxed;
+            if (result == null) {
+                result = value;
+                boxed = result;
+            }
+            return result;
+        }
+
+        @Override
+        public double callDouble() {
+            return value;
+        }
+    }
+
+    /**
+     * Boxes ints into {@link IntCallable}s, creating the {@link Integer} only if it is asked for.
+     */
+    public static final class BoxedInt implements IntCallable {
+
+        private final int     value;
+        private       Integer boxed;
+
+        public BoxedInt(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Integer call() {
+            Integer result = boxed;
+            if (result == null) {
+                result = value;
+                boxed = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int callInt() {
+            return value;
+        }
+    }
 }
@@ -5,11 +5,14 @@ import java.util.function.Supplier;
 /**
  * A thunk which uses a supplier to evaluate its value.
  *
+ * <p>The supplier is released once the value has been evaluated, so anything captured by it (typically the arguments
+ * of a generated lambda) becomes collectable as soon as the thunk is forced.</p>
+ *
  * @param <A> The type contained by this {@link Thunk}.
  */
 public class SuppliedThunk<A> extends Thunk<A> {
 
-    private final Supplier<A> supplier;
+    private Supplier<A> supplier;
 
     public SuppliedThunk(Supplier<A> supplier) {
         this.supplier = supplier;
@@ -19,4 +22,9 @@ public class SuppliedThunk<A> extends Thunk<A> {
     protected A evaluate() {
         return supplier.get();
     }
+
+    @Override
+    protected void release() {
+        supplier = null;
+    }
 }
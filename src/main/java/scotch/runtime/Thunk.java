@@ -7,7 +7,7 @@ package scotch.runtime;
  *
  * @param <A> The type of the value to be returned from the Thunk.
  */
-public abstract class Thunk<A> implements Callable<A> {
+public abstract class Thunk<A> implements Callable<A>, Evaluator.Forceable {
 
     /**
      * The value after it has been evaluated to normal form.
@@ -22,23 +22,32 @@ public abstract class Thunk<A> implements Callable<A> {
      *
      * @return The normalized value.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public A call() {
+        if (value == null) {
+            Evaluator.force(this);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forceValue() {
         if (value == null) {
             synchronized (this) {
                 if (value == null) {
-                    value = evaluate();
-                    while (value instanceof Callable) {
-                        if (value instanceof Applicable) {
+                    A result = evaluate();
+                    while (result instanceof Callable) {
+                        if (result instanceof Applicable) {
                             break;
                         }
-                        value = ((Callable<A>) value).call();
+                        result = ((Callable<A>) result).call();
                     }
+                    value = result;
+                    release();
                 }
             }
         }
-        return value;
     }
 
     /**
@@ -47,4 +56,12 @@ public abstract class Thunk<A> implements Callable<A> {
      * @return The evaluated value.
      */
     protected abstract A evaluate();
+
+    /**
+     * Called once the value has been normalized and stored, allowing subclasses to drop whatever state was needed to
+     * evaluate it. Until then, evaluation may be interrupted and run again.
+     */
+    protected void release() {
+        // intentionally empty
+    }
 }
@@ -80,6 +80,18 @@ public class MethodSignature {
         return className;
     }
 
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public MethodType getMethodType() {
+        return methodType;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(methodType, className, methodName, signature);
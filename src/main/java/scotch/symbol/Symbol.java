@@ -90,6 +90,14 @@ public abstract class Symbol implements Comparable<Symbol> {
         return getPackagePath(symbol) + "/$$Module";
     }
 
+    public static String moduleName(String packageName) {
+        return Arrays.stream(packageName.split("\\."))
+            .map(section -> section.endsWith("_") && javaWords.contains(section.substring(0, section.length() - 1))
+                ? section.substring(0, section.length() - 1)
+                : section)
+            .collect(joining("."));
+    }
+
     public static String normalizeQualified(String moduleName, String memberName) {
         if (memberName.matches("^\\d$")) {
             return moduleName + ".(#" + memberName + ")";
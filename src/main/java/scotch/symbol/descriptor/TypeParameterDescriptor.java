@@ -55,6 +55,10 @@ public class TypeParameterDescriptor {
         return context;
     }
 
+    public Symbol getSymbol() {
+        return symbol;
+    }
+
     public boolean matches(Type type) {
         return type instanceof SumType && matches_((SumType) type);
     }
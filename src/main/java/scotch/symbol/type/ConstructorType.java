@@ -1,6 +1,5 @@
 package scotch.symbol.type;
 
-import static lombok.AccessLevel.PACKAGE;
 import static scotch.symbol.type.Unification.mismatch;
 import static scotch.symbol.type.Unification.unified;
 import static scotch.symbol.type.Types.unifyVariable;
@@ -10,22 +9,40 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@AllArgsConstructor(access = PACKAGE)
-@EqualsAndHashCode(callSuper = false)
 public class ConstructorType extends Type {
 
     private final Type head;
     private final Type tail;
+    private final int  hash;
+
+    ConstructorType(Type head, Type tail) {
+        this.head = head;
+        this.tail = tail;
+        this.hash = Objects.hash(head, tail);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof ConstructorType) {
+            ConstructorType other = (ConstructorType) o;
+            return hash == other.hash
+                && Objects.equals(head, other.head)
+                && Objects.equals(tail, other.tail);
+        } else {
+            return false;
+        }
+    }
 
     @Override
     public Type flatten() {
@@ -40,6 +57,10 @@ public class ConstructorType extends Type {
         }};
     }
 
+    public Type getHead() {
+        return head;
+    }
+
     @Override
     public String getSignature() {
         throw new UnsupportedOperationException(); // TODO
@@ -50,9 +71,18 @@ public class ConstructorType extends Type {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    public Type getTail() {
+        return tail;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
-        return new ConstructorType(head.mapVariables(mapper), tail.mapVariables(mapper));
+        return TypeInterner.ctor(head.mapVariables(mapper), tail.mapVariables(mapper));
     }
 
     @Override
@@ -64,7 +94,7 @@ public class ConstructorType extends Type {
         return type.apply(head, scope).unify(
             (appliedType, remainingParameters) -> {
                 if (remainingParameters.isEmpty()) {
-                    return unified(new ConstructorType(appliedType, tail).flatten());
+                    return unified(TypeInterner.ctor(appliedType, tail).flatten());
                 } else {
                     return tail.apply(appliedType, remainingParameters, scope);
                 }
@@ -107,12 +137,12 @@ public class ConstructorType extends Type {
 
     @Override
     protected Type generate(TypeScope scope, Set<Type> visited) {
-        return new ConstructorType(head.generate(scope, visited), tail.generate(scope, visited)).flatten();
+        return TypeInterner.ctor(head.generate(scope, visited), tail.generate(scope, visited)).flatten();
     }
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new ConstructorType(
+        return TypeInterner.ctor(
             head.genericCopy(scope, mappings),
             tail.genericCopy(scope, mappings)
         );
@@ -137,7 +167,7 @@ public class ConstructorType extends Type {
     protected Unification unifyWith(ConstructorType target, TypeScope scope) {
         return head.unify(target.head, scope)
             .map(checkedHead -> tail.unify(target.tail, scope)
-                .map(checkedTail -> unified(new ConstructorType(checkedHead, checkedTail))));
+                .map(checkedTail -> unified(TypeInterner.ctor(checkedHead, checkedTail))));
     }
 
     @Override
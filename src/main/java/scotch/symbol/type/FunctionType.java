@@ -12,29 +12,30 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
-import lombok.EqualsAndHashCode;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@EqualsAndHashCode(callSuper = false)
 public class FunctionType extends Type {
 
     private final SourceLocation sourceLocation;
     private final Type           argument;
     private final Type           result;
+    private final int            hash;
 
     FunctionType(SourceLocation sourceLocation, Type argument, Type result) {
         this.sourceLocation = sourceLocation;
         this.argument = argument;
         this.result = result;
+        this.hash = Objects.hash(sourceLocation, argument, result);
     }
 
     @Override
@@ -43,9 +44,24 @@ public class FunctionType extends Type {
         result.accept(consumer);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof FunctionType) {
+            FunctionType other = (FunctionType) o;
+            return hash == other.hash
+                && Objects.equals(argument, other.argument)
+                && Objects.equals(result, other.result)
+                && Objects.equals(sourceLocation, other.sourceLocation);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public Type flatten() {
-        return new FunctionType(sourceLocation, argument.flatten(), result.flatten());
+        return TypeInterner.fn(sourceLocation, argument.flatten(), result.flatten());
     }
 
     public Type getArgument() {
@@ -84,9 +100,14 @@ public class FunctionType extends Type {
         return sourceLocation;
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
-        return new FunctionType(sourceLocation, argument.mapVariables(mapper), result.mapVariables(mapper));
+        return TypeInterner.fn(sourceLocation, argument.mapVariables(mapper), result.mapVariables(mapper));
     }
 
     @Override
@@ -95,15 +116,15 @@ public class FunctionType extends Type {
     }
 
     public FunctionType withArgument(Type argument) {
-        return new FunctionType(sourceLocation, argument, result);
+        return TypeInterner.fn(sourceLocation, argument, result);
     }
 
     public FunctionType withResult(Type result) {
-        return new FunctionType(sourceLocation, argument, result);
+        return TypeInterner.fn(sourceLocation, argument, result);
     }
 
     public FunctionType withSourceLocation(SourceLocation sourceLocation) {
-        return new FunctionType(sourceLocation, argument, result);
+        return TypeInterner.fn(sourceLocation, argument, result);
     }
 
     @Override
@@ -126,12 +147,12 @@ public class FunctionType extends Type {
 
     @Override
     protected Type generate(TypeScope scope, Set<Type> visited) {
-        return new FunctionType(sourceLocation, argument.generate(scope), result.generate(scope)).flatten();
+        return TypeInterner.fn(sourceLocation, argument.generate(scope), result.generate(scope)).flatten();
     }
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new FunctionType(
+        return TypeInterner.fn(
             sourceLocation,
             argument.genericCopy(scope, mappings),
             result.genericCopy(scope, mappings)
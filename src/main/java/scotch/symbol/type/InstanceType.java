@@ -73,7 +73,7 @@ public class InstanceType extends Type {
 
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
-        return new InstanceType(symbol, binding.mapVariables(mapper));
+        return TypeInterner.instance(symbol, binding.mapVariables(mapper));
     }
 
     public boolean is(Type type) {
@@ -95,7 +95,7 @@ public class InstanceType extends Type {
     }
 
     public InstanceType withBinding(Type binding) {
-        return new InstanceType(symbol, binding);
+        return TypeInterner.instance(symbol, binding);
     }
 
     @Override
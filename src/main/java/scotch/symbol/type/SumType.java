@@ -13,19 +13,18 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import lombok.EqualsAndHashCode;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@EqualsAndHashCode(callSuper = false)
 public class SumType extends Type {
 
     private static void shouldBeSumName(Symbol symbol) {
@@ -47,12 +46,14 @@ public class SumType extends Type {
     private final SourceLocation sourceLocation;
     private final Symbol         symbol;
     private final List<Type>     parameters;
+    private final int            hash;
 
     SumType(SourceLocation sourceLocation, Symbol symbol, List<Type> parameters) {
         shouldBeSumName(symbol);
         this.sourceLocation = sourceLocation;
         this.symbol = symbol;
         this.parameters = ImmutableList.copyOf(parameters);
+        this.hash = Objects.hash(sourceLocation, symbol, this.parameters);
     }
 
     @Override
@@ -70,9 +71,24 @@ public class SumType extends Type {
         return head.applyZipWith(this, scope);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof SumType) {
+            SumType other = (SumType) o;
+            return hash == other.hash
+                && Objects.equals(symbol, other.symbol)
+                && Objects.equals(sourceLocation, other.sourceLocation)
+                && Objects.equals(parameters, other.parameters);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public Type flatten() {
-        return new SumType(sourceLocation, symbol, parameters.stream()
+        return TypeInterner.sum(sourceLocation, symbol, parameters.stream()
             .map(Type::flatten)
             .collect(toList()));
     }
@@ -96,6 +112,11 @@ public class SumType extends Type {
         return sourceLocation;
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
         return withParameters(parameters.stream()
@@ -120,15 +141,15 @@ public class SumType extends Type {
     }
 
     public SumType withParameters(List<Type> arguments) {
-        return new SumType(sourceLocation, symbol, arguments);
+        return TypeInterner.sum(sourceLocation, symbol, arguments);
     }
 
     public SumType withSourceLocation(SourceLocation sourceLocation) {
-        return new SumType(sourceLocation, symbol, parameters);
+        return TypeInterner.sum(sourceLocation, symbol, parameters);
     }
 
     public SumType withSymbol(Symbol symbol) {
-        return new SumType(sourceLocation, symbol, parameters);
+        return TypeInterner.sum(sourceLocation, symbol, parameters);
     }
 
     @Override
@@ -167,7 +188,7 @@ public class SumType extends Type {
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new SumType(sourceLocation, symbol, parameters.stream()
+        return TypeInterner.sum(sourceLocation, symbol, parameters.stream()
             .map(parameter -> parameter.genericCopy(scope, mappings))
             .collect(toList()));
     }
@@ -161,7 +161,7 @@ public abstract class Type {
         Iterator<Type> iterator = reversedTypes.iterator();
         Type type = iterator.next();
         while (iterator.hasNext()) {
-            type = new ConstructorType(iterator.next(), type);
+            type = TypeInterner.ctor(iterator.next(), type);
         }
         return type;
     }
@@ -0,0 +1,131 @@
+package scotch.symbol.type;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.MapMaker;
+import scotch.compiler.text.SourceLocation;
+import scotch.symbol.Symbol;
+
+/**
+ * Hash-conses types, so that a type built from the same parts as one still in use is that same instance. Parts which
+ * are types were interned themselves, so they are compared by identity, as are source locations: types which are
+ * equal but were written in different places stay apart and keep their own locations. The context of a variable is a
+ * set, so it is sorted before it is interned. Types are held weakly, and are dropped from the table once nothing else
+ * refers to them.
+ */
+final class TypeInterner {
+
+    private static final ConcurrentMap<Key, Type> types = new MapMaker().weakValues().makeMap();
+
+    static ConstructorType ctor(Type head, Type tail) {
+        return intern(new Key(ConstructorType.class, head, tail), () -> new ConstructorType(head, tail));
+    }
+
+    static FunctionType fn(SourceLocation sourceLocation, Type argument, Type result) {
+        return intern(new Key(FunctionType.class, sourceLocation, argument, result), () -> new FunctionType(sourceLocation, argument, result));
+    }
+
+    static InstanceType instance(Symbol symbol, Type binding) {
+        return intern(new Key(InstanceType.class, symbol, binding), () -> new InstanceType(symbol, binding));
+    }
+
+    static SumType sum(SourceLocation sourceLocation, Symbol symbol, List<Type> parameters) {
+        List<Type> parameterList = ImmutableList.copyOf(parameters);
+        return intern(new Key(SumType.class, sourceLocation, symbol, parameterList), () -> new SumType(sourceLocation, symbol, parameterList));
+    }
+
+    static VariableType var(SourceLocation sourceLocation, String name, Collection<Symbol> context) {
+        List<Symbol> contextList = ImmutableSortedSet.copyOf(context).asList();
+        return intern(new Key(VariableType.class, sourceLocation, name, contextList), () -> new VariableType(sourceLocation, name, contextList));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T intern(Key key, Supplier<T> supplier) {
+        return (T) types.computeIfAbsent(key, k -> supplier.get());
+    }
+
+    private TypeInterner() {
+        // intentionally empty
+    }
+
+    private static final class Key {
+
+        private static int hash(Object part) {
+            if (part instanceof List) {
+                int hash = 1;
+                for (Object element : (List<?>) part) {
+                    hash = 31 * hash + hash(element);
+                }
+                return hash;
+            } else if (part instanceof SourceLocation) {
+                return System.identityHashCode(part);
+            } else {
+                return Objects.hashCode(part);
+            }
+        }
+
+        private static boolean same(Object left, Object right) {
+            if (left instanceof List && right instanceof List) {
+                List<?> leftList = (List<?>) left;
+                List<?> rightList = (List<?>) right;
+                if (leftList.size() != rightList.size()) {
+                    return false;
+                }
+                for (int i = 0; i < leftList.size(); i++) {
+                    if (!same(leftList.get(i), rightList.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            } else if (left instanceof Type || left instanceof SourceLocation) {
+                return left == right;
+            } else {
+                return Objects.equals(left, right);
+            }
+        }
+
+        private final Class<? extends Type> kind;
+        private final Object[]              parts;
+        private final int                   hash;
+
+        private Key(Class<? extends Type> kind, Object... parts) {
+            int hash = kind.hashCode();
+            for (Object part : parts) {
+                hash = 31 * hash + hash(part);
+            }
+            this.kind = kind;
+            this.parts = parts;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof Key) {
+                Key other = (Key) o;
+                if (hash != other.hash || kind != other.kind || parts.length != other.parts.length) {
+                    return false;
+                }
+                for (int i = 0; i < parts.length; i++) {
+                    if (!same(parts[i], other.parts[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
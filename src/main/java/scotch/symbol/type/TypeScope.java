@@ -3,6 +3,12 @@ package scotch.symbol.type;
 import java.util.Set;
 import scotch.symbol.Symbol;
 
+/**
+ * Binds type variables and tracks their contexts and specializations. A variable is identified by its name alone, so
+ * it is bound, extended, and specialized the same whatever context it carries. Implementations which keep types, such
+ * as {@code DefaultTypeScope} and {@code ForkedTypeScope}, key their state by name; those which delegate to another
+ * type scope, such as scopes of definitions and the type checker, keep no state of their own.
+ */
 public interface TypeScope {
 
     Unification bind(VariableType variableType, Type targetType);
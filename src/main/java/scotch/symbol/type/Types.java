@@ -17,15 +17,15 @@ import scotch.compiler.util.Pair;
 public class Types {
 
     public static ConstructorType ctor(Type head, Type tail) {
-        return new ConstructorType(head, tail);
+        return TypeInterner.ctor(head, tail);
     }
 
     public static FunctionType fn(Type argument, Type result) {
-        return new FunctionType(NULL_SOURCE, argument, result);
+        return TypeInterner.fn(NULL_SOURCE, argument, result);
     }
 
     public static InstanceType instance(Symbol symbol, Type binding) {
-        return new InstanceType(symbol, binding);
+        return TypeInterner.instance(symbol, binding);
     }
 
     public static InstanceType instance(String name, Type binding) {
@@ -45,7 +45,7 @@ public class Types {
     }
 
     public static SumType sum(Symbol name, List<Type> arguments) {
-        return new SumType(NULL_SOURCE, name, arguments);
+        return TypeInterner.sum(NULL_SOURCE, name, arguments);
     }
 
     public static SumType sum(Symbol symbol) {
@@ -65,7 +65,7 @@ public class Types {
     }
 
     public static VariableType var(String name, Collection<?> context) {
-        return new VariableType(NULL_SOURCE, name, toSymbols(context));
+        return TypeInterner.var(NULL_SOURCE, name, toSymbols(context));
     }
 
     protected static int sort(Pair<VariableType, Symbol> left, Pair<VariableType, Symbol> right) {
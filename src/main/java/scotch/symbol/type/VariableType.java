@@ -34,6 +34,7 @@ public class VariableType extends Type {
     private final SourceLocation sourceLocation;
     private final String         name;
     private final Set<Symbol>    context;
+    private final int            hash;
 
     VariableType(SourceLocation sourceLocation, String name, Collection<Symbol> context) {
         if (!isLowerCase(name.charAt(0))) {
@@ -42,6 +43,7 @@ public class VariableType extends Type {
         this.sourceLocation = sourceLocation;
         this.name = name;
         this.context = ImmutableSet.copyOf(context);
+        this.hash = Objects.hash(name, this.context);
     }
 
     @Override
@@ -87,7 +89,8 @@ public class VariableType extends Type {
             return true;
         } else if (o instanceof VariableType) {
             VariableType other = (VariableType) o;
-            return Objects.equals(name, other.name)
+            return hash == other.hash
+                && Objects.equals(name, other.name)
                 && Objects.equals(context, other.context);
         } else {
             return false;
@@ -135,7 +138,7 @@ public class VariableType extends Type {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, context);
+        return hash;
     }
 
     @Override
@@ -168,11 +171,11 @@ public class VariableType extends Type {
     }
 
     public VariableType withContext(Collection<Symbol> context) {
-        return new VariableType(sourceLocation, name, context);
+        return TypeInterner.var(sourceLocation, name, context);
     }
 
     public VariableType withSourceLocation(SourceLocation sourceLocation) {
-        return new VariableType(sourceLocation, name, context);
+        return TypeInterner.var(sourceLocation, name, context);
     }
 
     private Unification bind(Type target, TypeScope scope) {
@@ -3,27 +3,33 @@ package scotch.symbol.util;
 import static scotch.symbol.Symbol.unqualified;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Types;
 import scotch.symbol.type.VariableType;
 
+/**
+ * Generates symbols and type variables from counters which may be shared by threads, such as when independent values
+ * are type checked in parallel.
+ */
 public class DefaultSymbolGenerator implements SymbolGenerator {
 
-    private final Map<List<String>, AtomicInteger> counters;
-    private       int                              nextSymbol;
-    private       int                              nextType;
+    private final ConcurrentMap<List<String>, AtomicInteger> counters;
+    private final AtomicInteger                              nextSymbol;
+    private final AtomicInteger                              nextType;
 
     public DefaultSymbolGenerator() {
-        counters = new HashMap<>();
+        counters = new ConcurrentHashMap<>();
+        nextSymbol = new AtomicInteger();
+        nextType = new AtomicInteger();
     }
 
     @Override
     public Symbol reserveSymbol() {
-        return unqualified(String.valueOf(nextSymbol++));
+        return unqualified(String.valueOf(nextSymbol.getAndIncrement()));
     }
 
     @Override
@@ -36,11 +42,11 @@ public class DefaultSymbolGenerator implements SymbolGenerator {
 
     @Override
     public VariableType reserveType() {
-        return Types.t(nextType++);
+        return Types.t(nextType.getAndIncrement());
     }
 
     @Override
     public void startTypesAt(int counter) {
-        nextType = counter;
+        nextType.set(counter);
     }
 }
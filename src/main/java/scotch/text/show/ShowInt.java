@@ -6,7 +6,6 @@ import static scotch.runtime.RuntimeSupport.callable;
 import java.util.List;
 import scotch.data.int_.Int;
 import scotch.runtime.Callable;
-import scotch.runtime.Thunk;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -34,11 +33,6 @@ public class ShowInt implements Show<Integer> {
 
     @Override
     public Callable<String> show(Callable<Integer> operand) {
-        return new Thunk<String>() {
-            @Override
-            protected String evaluate() {
-                return String.valueOf(operand.call());
-            }
-        };
+        return callable(() -> String.valueOf(operand.call()));
     }
 }
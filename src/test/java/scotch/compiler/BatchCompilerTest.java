@@ -0,0 +1,241 @@
+package scotch.compiler;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static scotch.compiler.BatchCompiler.batchCompiler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.compiler.error.CompileException;
+import scotch.compiler.parser.ParseException;
+import scotch.runtime.Callable;
+
+public class BatchCompilerTest {
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+    private ClassLoaderResolver resolver;
+    private Map<URI, String[]>  sources;
+
+    @Before
+    public void setUp() {
+        resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+        sources = new LinkedHashMap<>();
+    }
+
+    @Test
+    public void shouldCompileImportedModuleFirst() throws ReflectiveOperationException {
+        source("main",
+            "module scotch.test",
+            "import scotch.test.left",
+            "import scotch.test.right",
+            "run = left + right"
+        );
+        source("left",
+            "module scotch.test.left",
+            "import scotch.test.base",
+            "left = base + 1"
+        );
+        source("right",
+            "module scotch.test.right",
+            "import scotch.test.base",
+            "right = base + 2"
+        );
+        source("base",
+            "module scotch.test.base",
+            "base = 10"
+        );
+        batchCompiler(resolver, sources).generateBytecode();
+        assertThat(run(), is(23));
+    }
+
+    @Test
+    public void shouldReportCyclicImports() {
+        source("left",
+            "module scotch.test.left",
+            "import scotch.test.right",
+            "left = right"
+        );
+        source("right",
+            "module scotch.test.right",
+            "import scotch.test.left",
+            "right = left"
+        );
+        try {
+            batchCompiler(resolver, sources).generateBytecode();
+            fail("Expected cyclic imports to fail compilation");
+        } catch (CompileException exception) {
+            assertThat(exception.getMessage(), containsString("Dependency cycle detected"));
+        }
+    }
+
+    @Test
+    public void shouldCompileIndependentSourcesConcurrentlyAgainstSharedResolver() throws ReflectiveOperationException {
+        source("left",
+            "module scotch.test.left",
+            "left = 1 + 2"
+        );
+        source("right",
+            "module scotch.test.right",
+            "right = 3 + 4"
+        );
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int i = 0; i < 20; i++) {
+                resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+                batchCompiler(resolver, sources).withPool(pool).generateBytecode();
+                assertThat(run("scotch.test.left", "left"), is(3));
+                assertThat(run("scotch.test.right", "right"), is(7));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRethrowParseErrorsUnwrapped() {
+        source("broken",
+            "module scotch.test.broken",
+            "left infix 7 (42)"
+        );
+        try {
+            batchCompiler(resolver, sources).generateBytecode();
+            fail("Expected parse error to fail compilation");
+        } catch (RuntimeException exception) {
+            assertThat(exception, instanceOf(ParseException.class));
+        }
+    }
+
+    @Test
+    public void shouldNotRecompileImportingModuleWhenInterfaceIsUnchanged() throws IOException, ReflectiveOperationException {
+        Path fingerprints = folder.newFolder().toPath();
+        importingSources("base = 10");
+        compileIncrementally(fingerprints);
+        touchAll(fingerprints);
+
+        importingSources("base = 20");
+        compileIncrementally(fingerprints);
+
+        assertThat(countRewritten(fingerprints), is(1L));
+        assertThat(run(), is(22));
+    }
+
+    @Test
+    public void shouldRecompileImportingModuleWhenInterfaceChanges() throws IOException, ReflectiveOperationException {
+        Path fingerprints = folder.newFolder().toPath();
+        importingSources("base = 10");
+        compileIncrementally(fingerprints);
+        touchAll(fingerprints);
+
+        importingSources("base = 20", "other = 30");
+        compileIncrementally(fingerprints);
+
+        assertThat(countRewritten(fingerprints), is(2L));
+        assertThat(run(), is(22));
+    }
+
+    @Test
+    public void shouldRecompileTransitivelyImportingModuleWhenInterfaceChanges() throws IOException, ReflectiveOperationException {
+        Path fingerprints = folder.newFolder().toPath();
+        transitivelyImportingSources("base = 10");
+        compileIncrementally(fingerprints);
+        touchAll(fingerprints);
+
+        transitivelyImportingSources("base = 20", "other = 30");
+        compileIncrementally(fingerprints);
+
+        assertThat(countRewritten(fingerprints), is(3L));
+        assertThat(run(), is(23));
+    }
+
+    @Test
+    public void shouldNotRecompileUnchangedSources() throws IOException {
+        Path fingerprints = folder.newFolder().toPath();
+        importingSources("base = 10");
+        compileIncrementally(fingerprints);
+        touchAll(fingerprints);
+
+        compileIncrementally(fingerprints);
+
+        assertThat(countRewritten(fingerprints), is(0L));
+    }
+
+    private void compileIncrementally(Path fingerprints) {
+        resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+        batchCompiler(resolver, sources).withFingerprints(fingerprints).generateBytecode();
+    }
+
+    private long countRewritten(Path fingerprints) throws IOException {
+        try (Stream<Path> files = Files.list(fingerprints)) {
+            return files.filter(file -> !FileTime.fromMillis(0).equals(lastModified(file))).count();
+        }
+    }
+
+    private void importingSources(String... baseLines) {
+        source("main",
+            "module scotch.test",
+            "import scotch.test.base",
+            "run = base + 2"
+        );
+        String[] lines = new String[baseLines.length + 1];
+        lines[0] = "module scotch.test.base";
+        System.arraycopy(baseLines, 0, lines, 1, baseLines.length);
+        source("base", lines);
+    }
+
+    private void transitivelyImportingSources(String... baseLines) {
+        importingSources(baseLines);
+        source("main",
+            "module scotch.test",
+            "import scotch.test.middle",
+            "run = middle + 2"
+        );
+        source("middle",
+            "module scotch.test.middle",
+            "import scotch.test.base",
+            "middle = base + 1"
+        );
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private Object run() throws ReflectiveOperationException {
+        return run("scotch.test", "run");
+    }
+
+    private Object run(String module, String method) throws ReflectiveOperationException {
+        return ((Callable<?>) resolver.loadClass(module + ".$$Module").getMethod(method).invoke(null)).call();
+    }
+
+    private void touchAll(Path fingerprints) throws IOException {
+        try (Stream<Path> files = Files.list(fingerprints)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+            }
+        }
+    }
+
+    private void source(String name, String... lines) {
+        sources.put(URI.create("test://" + name), lines);
+    }
+}
@@ -1,10 +1,13 @@
 package scotch.compiler;
 
 import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static scotch.compiler.text.SourceLocation.source;
+import static scotch.compiler.text.SourcePoint.point;
 import static scotch.symbol.MethodSignature.methodSignature;
 import static scotch.symbol.Operator.operator;
 import static scotch.symbol.Symbol.qualified;
@@ -14,6 +17,7 @@ import static scotch.symbol.descriptor.DataFieldDescriptor.field;
 import static scotch.symbol.type.Types.fn;
 import static scotch.symbol.type.Types.sum;
 import static scotch.symbol.type.Types.var;
+import static scotch.compiler.util.TestUtil.boolType;
 import static scotch.compiler.util.TestUtil.constructor;
 import static scotch.compiler.util.TestUtil.dataType;
 import static scotch.compiler.util.TestUtil.intType;
@@ -114,6 +118,41 @@ public class ClassLoaderResolverTest {
         assertThat(typeInstances, hasSize(1));
     }
 
+    @Test
+    public void shouldResolveEqForListOfVariable() {
+        Set<TypeInstanceDescriptor> typeInstances = resolver.getTypeInstances(
+            symbol("scotch.data.eq.Eq"),
+            asList(sum("scotch.data.list.[]", asList(var("a", asList("scotch.data.eq.Eq")))))
+        );
+        assertThat(typeInstances, hasSize(1));
+    }
+
+    @Test
+    public void shouldResolveSameTypeInstancesAgain() {
+        Set<TypeInstanceDescriptor> typeInstances = resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(intType()));
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(intType())), is(typeInstances));
+        assertThat(typeInstances, hasSize(1));
+    }
+
+    @Test
+    public void shouldCacheTypeInstancesWhateverSourceLocationsTypesCarry() {
+        Type left = sum("scotch.data.list.[]", asList(sum("scotch.data.int.Int").withSourceLocation(
+            source("test://left", point(0, 1, 1), point(3, 1, 4))
+        ))).withSourceLocation(source("test://left", point(0, 1, 1), point(7, 1, 8)));
+        Type right = sum("scotch.data.list.[]", asList(sum("scotch.data.int.Int").withSourceLocation(
+            source("test://right", point(10, 2, 1), point(13, 2, 4))
+        ))).withSourceLocation(source("test://right", point(10, 2, 1), point(17, 2, 8)));
+        Set<TypeInstanceDescriptor> typeInstances = resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(left));
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(right)), is(typeInstances));
+        assertThat(resolver.getCachedTypeInstanceCount(symbol("scotch.data.eq.Eq")), is(1));
+        assertThat(typeInstances, hasSize(1));
+    }
+
+    @Test
+    public void shouldNotResolveTypeInstanceForOtherType() {
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.num.Num"), asList(boolType())), is(empty()));
+    }
+
     @Test
     public void shouldGetIntThroughScotchLang() {
         Optional<SymbolEntry> maybeEntry = resolver.getEntry(qualified("scotch.lang", "Int"));
@@ -0,0 +1,87 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JarIndexTest {
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldFindClassesDirectlyInPackage() throws IOException {
+        Path jar = jar("scotch/test/A.class", "scotch/test/A$B.class", "scotch/test/inner/C.class", "scotch/test/notes.txt");
+        assertThat(JarIndex.forJar(jar).getClassNames("scotch/test"), containsInAnyOrder("scotch.test.A", "scotch.test.A$B"));
+    }
+
+    @Test
+    public void shouldFindNothingInMissingPackage() throws IOException {
+        Path jar = jar("scotch/test/A.class");
+        assertThat(JarIndex.forJar(jar).getClassNames("scotch/other"), is(empty()));
+    }
+
+    @Test
+    public void shouldFindFilesInPackage() throws IOException {
+        Path jar = jar("scotch/test/A.class", "scotch/test/" + ModuleInterface.FILE_NAME);
+        assertThat(JarIndex.forJar(jar).hasFile("scotch/test", ModuleInterface.FILE_NAME), is(true));
+        assertThat(JarIndex.forJar(jar).hasFile("scotch", ModuleInterface.FILE_NAME), is(false));
+    }
+
+    @Test
+    public void shouldReadChecksumsOfClassesFromCentralDirectory() throws IOException {
+        Path jar = jar("scotch/test/A.class", "scotch/test/" + ModuleInterface.FILE_NAME, "scotch/test/inner/C.class");
+        CRC32 crc = new CRC32();
+        crc.update(new byte[] { 1, 2, 3 });
+        assertThat(JarIndex.forJar(jar).getClassChecksums("scotch/test"), is(ImmutableMap.of("A.class", crc.getValue())));
+    }
+
+    @Test
+    public void shouldShareIndexOfUnchangedJar() throws IOException {
+        Path jar = jar("scotch/test/A.class");
+        assertThat(JarIndex.forJar(jar), sameInstance(JarIndex.forJar(jar)));
+    }
+
+    @Test
+    public void shouldReadChangedJarAgain() throws IOException {
+        Path jar = jar("scotch/test/A.class");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1000));
+        JarIndex.forJar(jar);
+
+        write(jar, asList("scotch/test/A.class", "scotch/test/B.class"));
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2000));
+
+        assertThat(JarIndex.forJar(jar).getClassNames("scotch/test"), containsInAnyOrder("scotch.test.A", "scotch.test.B"));
+    }
+
+    private Path jar(String... entries) throws IOException {
+        Path jar = folder.newFile().toPath();
+        write(jar, asList(entries));
+        return jar;
+    }
+
+    private void write(Path jar, List<String> entries) throws IOException {
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : entries) {
+                output.putNextEntry(new ZipEntry(entry));
+                output.write(new byte[] { 1, 2, 3 });
+                output.closeEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.util.TestUtil.intType;
+import static scotch.symbol.Symbol.getPackageName;
+import static scotch.symbol.Symbol.getPackagePath;
+import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.SymbolEntry.immutableEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import me.qmx.jitescript.JDKVersion;
+import me.qmx.jitescript.JiteClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.data.maybe.Maybe;
+import scotch.data.maybe.MonadMaybe;
+import scotch.data.num.Num;
+import scotch.data.num.NumDouble;
+import scotch.data.num.NumInt;
+import scotch.lang.ScotchModule;
+import scotch.symbol.Module;
+import scotch.symbol.ReExportModule;
+import scotch.symbol.Symbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.type.Type;
+
+public class ModuleInterfaceTest {
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadTypeClassesAndInstances() {
+        assertReadAsScanned("scotch.data.num", Num.class, NumDouble.class, NumInt.class);
+    }
+
+    @Test
+    public void shouldReadDataTypesAndConstructors() {
+        assertReadAsScanned("scotch.data.maybe", Maybe.class, MonadMaybe.class);
+    }
+
+    @Test
+    public void shouldReadEveryPreludeModuleAsScanned() throws IOException, URISyntaxException, ClassNotFoundException {
+        List<String> moduleNames = new ArrayList<>();
+        moduleNames.add("scotch.lang");
+        for (ReExportModule reExport : ScotchModule.class.getAnnotation(Module.class).reExports()) {
+            moduleNames.add(reExport.moduleName());
+        }
+        for (String moduleName : moduleNames) {
+            assertReadAsScanned(new ModuleScanner(moduleName, moduleClasses(moduleName)).scan());
+        }
+    }
+
+    @Test
+    public void shouldNotReadOtherFiles() {
+        assertThat(ModuleInterface.read(ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 })), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldNotReadInterfaceWrittenFromOtherClasses() {
+        byte[] bytes = ModuleInterface.toBytes(scan("scotch.data.num", Num.class), 1);
+        assertThat(ModuleInterface.read(ByteBuffer.wrap(bytes), 1).isPresent(), is(true));
+        assertThat(ModuleInterface.read(ByteBuffer.wrap(bytes), 2), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldResolveSymbolsFromInterfaceInJarWrittenFromClassesBesideIt() throws IOException {
+        byte[] classBytes = new JiteClass("scotch/test/iface/Empty").toBytes(JDKVersion.V1_8);
+        assertThat(resolveFromJar(classBytes, classBytes), is(Optional.of(intType())));
+    }
+
+    @Test
+    public void shouldNotResolveSymbolsFromInterfaceInJarWrittenFromOtherClasses() throws IOException {
+        byte[] classBytes = new JiteClass("scotch/test/iface/Empty").toBytes(JDKVersion.V1_8);
+        byte[] otherBytes = new JiteClass("scotch/test/iface/Empty").toBytes(JDKVersion.V1_7);
+        assertThat(resolveFromJar(classBytes, otherBytes), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldResolveSymbolsFromInterfaceWithoutClasses() throws IOException {
+        Symbol symbol = qualified("scotch.test.iface", "answer");
+        ScanResult scan = new ScanResult(
+            ImmutableSet.<SymbolEntry>of(immutableEntry(symbol).withValueType(intType()).build()),
+            ImmutableSet.of(),
+            ImmutableMap.of()
+        );
+        Path root = folder.getRoot().toPath();
+        ModuleInterface.write(scan, ModuleInterface.hashClasses(ImmutableMap.of()), root.resolve("scotch/test/iface").resolve(ModuleInterface.FILE_NAME));
+
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), new URL[] { root.toUri().toURL() }, getClass().getClassLoader());
+        assertThat(resolver.getEntry(symbol).flatMap(SymbolEntry::getValue), is(Optional.of(intType())));
+    }
+
+    private void assertReadAsScanned(String moduleName, Class<?>... classes) {
+        assertReadAsScanned(scan(moduleName, classes));
+    }
+
+    private void assertReadAsScanned(ScanResult scan) {
+        ScanResult read = ModuleInterface.read(ByteBuffer.wrap(ModuleInterface.toBytes(scan, 0))).get();
+
+        Map<Symbol, SymbolEntry> expected = bySymbol(scan);
+        Map<Symbol, SymbolEntry> actual = bySymbol(read);
+        assertThat(actual.keySet(), is(expected.keySet()));
+        expected.forEach((symbol, entry) -> {
+            SymbolEntry readEntry = actual.get(symbol);
+            assertThat(readEntry.getValue(), is(entry.getValue()));
+            assertThat(readEntry.getOperator(), is(entry.getOperator()));
+            assertThat(readEntry.getType(), is(entry.getType()));
+            assertThat(readEntry.getValueMethod(), is(entry.getValueMethod()));
+            assertThat(readEntry.getTypeClass(), is(entry.getTypeClass()));
+            assertThat(readEntry.getMemberOf(), is(entry.getMemberOf()));
+            assertThat(readEntry.getDataType(), is(entry.getDataType()));
+            assertThat(readEntry.getDataConstructor(), is(entry.getDataConstructor()));
+        });
+        assertThat(read.getInstances(), is(scan.getInstances()));
+        assertThat(read.getReExports(), is(scan.getReExports()));
+    }
+
+    private long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private List<Class<?>> moduleClasses(String moduleName) throws IOException, URISyntaxException, ClassNotFoundException {
+        List<Class<?>> classes = new ArrayList<>();
+        Enumeration<URL> resources = getClass().getClassLoader().getResources(getPackagePath(moduleName));
+        while (resources.hasMoreElements()) {
+            try (Stream<Path> files = Files.list(Paths.get(resources.nextElement().toURI()))) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.endsWith(".class")) {
+                        classes.add(getClass().getClassLoader().loadClass(
+                            getPackageName(moduleName) + "." + fileName.substring(0, fileName.length() - ".class".length())
+                        ));
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    private Optional<Type> resolveFromJar(byte[] classBytes, byte[] interfaceClassBytes) throws IOException {
+        Symbol symbol = qualified("scotch.test.iface", "answer");
+        ScanResult scan = new ScanResult(
+            ImmutableSet.<SymbolEntry>of(immutableEntry(symbol).withValueType(intType()).build()),
+            ImmutableSet.of(),
+            ImmutableMap.of()
+        );
+        long classesHash = ModuleInterface.hashClasses(ImmutableMap.of("Empty.class", checksum(interfaceClassBytes)));
+        File jar = folder.newFile("iface.jar");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+            output.putNextEntry(new ZipEntry("scotch/test/iface/Empty.class"));
+            output.write(classBytes);
+            output.closeEntry();
+            output.putNextEntry(new ZipEntry("scotch/test/iface/" + ModuleInterface.FILE_NAME));
+            output.write(ModuleInterface.toBytes(scan, classesHash));
+            output.closeEntry();
+        }
+        try (ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), new URL[] { jar.toURI().toURL() }, getClass().getClassLoader())) {
+            return resolver.getEntry(symbol).flatMap(SymbolEntry::getValue);
+        }
+    }
+
+    private Map<Symbol, SymbolEntry> bySymbol(ScanResult scan) {
+        return scan.getEntries().stream().collect(Collectors.toMap(SymbolEntry::getSymbol, Function.identity()));
+    }
+
+    private ScanResult scan(String moduleName, Class<?>... classes) {
+        List<Class<?>> allClasses = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            allClasses.add(clazz);
+            allClasses.addAll(asList(clazz.getDeclaredClasses()));
+        }
+        return new ModuleScanner(moduleName, allClasses).scan();
+    }
+}
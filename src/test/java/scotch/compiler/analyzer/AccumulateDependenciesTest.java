@@ -4,6 +4,7 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static scotch.compiler.syntax.StubResolver.defaultPlus;
@@ -11,14 +12,18 @@ import static scotch.compiler.syntax.definition.DefinitionGraph.cyclicDependency
 import static scotch.compiler.util.TestUtil.valueRef;
 import static scotch.symbol.Symbol.symbol;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import scotch.compiler.Compiler;
 import scotch.compiler.IsolatedCompilerTest;
 import scotch.compiler.syntax.definition.DefinitionGraph;
 import scotch.compiler.syntax.definition.DependencyCycle;
+import scotch.compiler.syntax.reference.ValueReference;
 import scotch.compiler.util.TestUtil;
 import scotch.symbol.Symbol;
 
@@ -126,6 +131,61 @@ public class AccumulateDependenciesTest extends IsolatedCompilerTest {
             .build()));
     }
 
+    @Test
+    public void shouldGroupMutuallyRecursiveValuesBeforeTheirDependents() {
+        compile(
+            "module scotch.test1",
+            "import scotch.test2",
+            "import scotch.test3",
+            "fn1 x = a x",
+            "b = \\x -> fn2 x",
+            "",
+            "module scotch.test2",
+            "import scotch.test1",
+            "import scotch.test3",
+            "fn2 y = c b y",
+            "a = \\y -> y",
+            "",
+            "module scotch.test3",
+            "import scotch.test2",
+            "c = \\z -> a",
+            "d = \\z -> fn2 z"
+        );
+        List<Set<ValueReference>> groups = graph.getValueGroups().stream()
+            .map(HashSet::new)
+            .collect(toList());
+        assertThat(groups, hasSize(5));
+        assertThat(groups.get(3), is(ImmutableSet.of(valueRef("scotch.test1.b"), valueRef("scotch.test2.fn2"))));
+        assertThat(groups.get(4), is(ImmutableSet.of(valueRef("scotch.test3.d"))));
+    }
+
+    @Test
+    public void shouldArrangeGroupsInLevelsAfterTheirDependencies() {
+        compile(
+            "module scotch.test1",
+            "import scotch.test2",
+            "import scotch.test3",
+            "fn1 x = a x",
+            "b = \\x -> fn2 x",
+            "",
+            "module scotch.test2",
+            "import scotch.test1",
+            "import scotch.test3",
+            "fn2 y = c b y",
+            "a = \\y -> y",
+            "",
+            "module scotch.test3",
+            "import scotch.test2",
+            "c = \\z -> a",
+            "d = \\z -> fn2 z"
+        );
+        List<Integer> sizes = graph.getValueLevels().stream()
+            .map(List::size)
+            .collect(toList());
+        assertThat(sizes, is(asList(1, 2, 1, 1)));
+        assertThat(graph.getValueLevels().stream().flatMap(List::stream).collect(toList()), is(graph.getValueGroups()));
+    }
+
     private void shouldHaveDependencies(String name, List<String> dependencies) {
         assertThat(getScope(valueRef(name)).getDependencies(), is(dependencies.stream().map(Symbol::symbol).collect(toSet())));
     }
@@ -0,0 +1,151 @@
+package scotch.compiler.analyzer;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.util.TestUtil.valueRef;
+import static scotch.compiler.syntax.TypeError.typeError;
+import static scotch.compiler.text.SourceLocation.source;
+import static scotch.compiler.text.SourcePoint.point;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Unification.mismatch;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Test;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.Compiler;
+import scotch.compiler.CompilerTest;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+public class ParallelTypeCheckerIntegrationTest extends CompilerTest<ClassLoaderResolver> {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldCheckIndependentValues() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "one = 1",
+            "two = 2",
+            "tuple = (1, 2, 3)",
+            "hello = \"hello\"",
+            "increment :: Int -> Int",
+            "increment x = x + 1"
+        );
+        shouldNotHaveErrors();
+        shouldHaveValue("scotch.test.one", intType);
+        shouldHaveValue("scotch.test.two", intType);
+        shouldHaveValue("scotch.test.tuple", sum("scotch.data.tuple.(,,)", asList(intType, intType, intType)));
+        shouldHaveValue("scotch.test.hello", stringType);
+        shouldHaveValue("scotch.test.increment", fn(intType, intType));
+    }
+
+    @Test
+    public void shouldCheckValuesAfterTheirDependencies() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "three = onePlus two",
+            "onePlus x = one + x",
+            "two = one + one",
+            "one = 1"
+        );
+        shouldNotHaveErrors();
+        shouldHaveValue("scotch.test.one", intType);
+        shouldHaveValue("scotch.test.two", intType);
+        shouldHaveValue("scotch.test.onePlus", fn(intType, intType));
+        shouldHaveValue("scotch.test.three", intType);
+    }
+
+    @Test
+    public void shouldCheckTypesAsWhenCheckingSequentially() {
+        String[] lines = {
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "one = 1",
+            "two = 2",
+            "hello = \"hello\"",
+            "three = one + two",
+            "four = two + two",
+            "list = [one, two, hello]",
+            "seven = three + four",
+            "eight = four + four",
+        };
+        DefinitionGraph sequential = compilerFactory.apply(lines).checkTypes();
+        compile(lines);
+        graph.getValueLevels().forEach(level -> assertThat(level.size(), greaterThan(1)));
+        assertThat(graph.getErrors(), is(sequential.getErrors()));
+        asList("one", "two", "hello", "three", "four", "seven", "eight").forEach(name -> assertThat(
+            graph.getValue(valueRef("scotch.test." + name)),
+            is(sequential.getValue(valueRef("scotch.test." + name)))
+        ));
+    }
+
+    @Test
+    public void shouldBindConstrainedVariablesAsWhenCheckingSequentially() {
+        String[] lines = {
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.num",
+            "",
+            "double x = x + x",
+            "same x y = x == y",
+            "ten = double 5",
+            "half = double 2.5",
+            "yes = same ten 10",
+            "twenty = double ten",
+            "quarter = double half",
+            "no = same twenty (double 3)",
+        };
+        DefinitionGraph sequential = compilerFactory.apply(lines).checkTypes();
+        compile(lines);
+        assertThat(graph.getErrors(), is(sequential.getErrors()));
+        shouldNotHaveErrors();
+        asList("ten", "half", "yes", "twenty", "quarter", "no").forEach(name -> assertThat(
+            graph.getValue(valueRef("scotch.test." + name)),
+            is(sequential.getValue(valueRef("scotch.test." + name)))
+        ));
+        shouldHaveValue("scotch.test.ten", intType);
+        shouldHaveValue("scotch.test.half", doubleType);
+        shouldHaveValue("scotch.test.yes", boolType);
+        shouldHaveValue("scotch.test.quarter", doubleType);
+        shouldHaveValue("scotch.test.no", boolType);
+    }
+
+    @Test
+    public void shouldHaveError_whenListIsHeterogeneous() {
+        compile(
+            "module scotch.test",
+            "list = [1, 2, \"oops\"]",
+            "other = [1, 2, 3]"
+        );
+        shouldHaveErrors(typeError(
+            mismatch(intType, stringType),
+            source("test://shouldHaveError_whenListIsHeterogeneous", point(33, 2, 15), point(39, 2, 21))
+        ));
+    }
+
+    @Override
+    protected Function<Compiler, DefinitionGraph> compile() {
+        return compiler -> compiler.withPool(pool).checkTypes();
+    }
+
+    @Override
+    protected ClassLoaderResolver initResolver() {
+        return new ClassLoaderResolver(Optional.empty(), getClass().getClassLoader());
+    }
+}
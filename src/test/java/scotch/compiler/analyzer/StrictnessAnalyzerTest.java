@@ -0,0 +1,77 @@
+package scotch.compiler.analyzer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.Compiler.compiler;
+
+import java.net.URI;
+import java.util.Optional;
+import org.junit.Test;
+import scotch.compiler.ClassLoaderResolver;
+
+public class StrictnessAnalyzerTest {
+
+    @Test
+    public void shouldFindStrictArgumentsOfPrimitiveOperations() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "add :: Int -> Int -> Int",
+            "add x y = x + y"
+        ), is("scotch.test.add !#0 !#1"));
+    }
+
+    @Test
+    public void shouldOnlyFindArgumentsEvaluatedByBothBranchesOfConditional() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "choose :: Bool -> Int -> Int -> Int",
+            "choose c x y = if c then x + y else x"
+        ), is("scotch.test.choose !#0 !#1 #2"));
+    }
+
+    @Test
+    public void shouldFindStrictArgumentsOfSelfRecursiveFunction() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "sumTo :: Int -> Int -> Int",
+            "sumTo acc n = if n == 0 then acc else sumTo (acc + n) (n - 1)"
+        ), is("scotch.test.sumTo !#0 !#1"));
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteMatchWhenFindingStrictArguments() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "len :: Int -> [a] -> Int",
+            "len acc [] = acc",
+            "len acc (_:xs) = len (acc + 1) xs"
+        ), is("scotch.test.len !#0 #1"));
+    }
+
+    @Test
+    public void shouldFindStrictArgumentsThroughCalledFunction() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "first :: Int -> Int -> Int",
+            "first a b = a",
+            "useFirst :: Int -> Int -> Int",
+            "useFirst x y = first y x"
+        ), is("scotch.test.first !#0 #1\nscotch.test.useFirst #0 !#1"));
+    }
+
+    @Test
+    public void shouldNotFindStrictArgumentsOfPartialApplication() {
+        assertThat(reportStrictness(
+            "module scotch.test",
+            "first :: Int -> Int -> Int",
+            "first a b = a",
+            "partial :: Int -> (Int -> Int)",
+            "partial x = first x"
+        ), is("scotch.test.first !#0 #1\nscotch.test.partial #0"));
+    }
+
+    private String reportStrictness(String... lines) {
+        ClassLoaderResolver symbolResolver = new ClassLoaderResolver(Optional.empty(), StrictnessAnalyzerTest.class.getClassLoader());
+        return compiler(symbolResolver, URI.create("test://unnamed"), lines).reportStrictness();
+    }
+}
@@ -9,18 +9,22 @@ import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.intermediate.PrimitiveOperation.INT_ADD;
+import static scotch.compiler.intermediate.PrimitiveOperation.INT_GREATER_THAN_EQUAL;
 import static scotch.compiler.intermediate.Intermediates.access;
 import static scotch.compiler.intermediate.Intermediates.apply;
 import static scotch.compiler.intermediate.Intermediates.assign;
+import static scotch.compiler.intermediate.Intermediates.call;
 import static scotch.compiler.intermediate.Intermediates.conditional;
 import static scotch.compiler.intermediate.Intermediates.constantReference;
 import static scotch.compiler.intermediate.Intermediates.constructor;
 import static scotch.compiler.intermediate.Intermediates.data;
+import static scotch.compiler.intermediate.Intermediates.dispatch;
 import static scotch.compiler.intermediate.Intermediates.field;
 import static scotch.compiler.intermediate.Intermediates.function;
 import static scotch.compiler.intermediate.Intermediates.instanceOf;
-import static scotch.compiler.intermediate.Intermediates.instanceRef;
 import static scotch.compiler.intermediate.Intermediates.literal;
+import static scotch.compiler.intermediate.Intermediates.primitive;
 import static scotch.compiler.intermediate.Intermediates.raise;
 import static scotch.compiler.intermediate.Intermediates.valueRef;
 import static scotch.compiler.intermediate.Intermediates.variable;
@@ -54,22 +58,7 @@ public class IntermediateGeneratorTest {
             "",
             "run = 2 + 2"
         );
-        shouldHaveValue("scotch.test.run", apply(
-            emptyList(),
-            apply(
-                emptyList(),
-                apply(
-                    emptyList(),
-                    valueRef(
-                        "scotch.data.num.(+)",
-                        staticMethod("scotch/data/num/Num", "add", sig(Applicable.class))),
-                    instanceRef("scotch.data.num.Num", "scotch.data.num", "scotch.data.int.Int",
-                        staticMethod("scotch/data/num/NumInt", "instance", sig(Callable.class)))
-                ),
-                literal(2)
-            ),
-            literal(2)
-        ));
+        shouldHaveValue("scotch.test.run", primitive(emptyList(), INT_ADD, literal(2), literal(2)));
     }
 
     @Test
@@ -92,19 +81,7 @@ public class IntermediateGeneratorTest {
             "        else 1"
         );
         shouldHaveValue("scotch.test.max", conditional(
-            apply(emptyList(),
-                apply(emptyList(),
-                    apply(emptyList(),
-                        apply(emptyList(),
-                            valueRef(
-                                "scotch.data.ord.(>=)",
-                                staticMethod("scotch/data/ord/Ord", "greaterThanEquals", sig(Applicable.class))),
-                            instanceRef("scotch.data.eq.Eq", "scotch.data.eq", "scotch.data.int.Int",
-                                staticMethod("scotch/data/eq/EqInt", "instance", sig(Callable.class)))),
-                        instanceRef("scotch.data.ord.Ord", "scotch.data.ord", "scotch.data.int.Int",
-                            staticMethod("scotch/data/ord/OrdInt", "instance", sig(Callable.class)))),
-                    literal(2)),
-                literal(1)),
+            primitive(emptyList(), INT_GREATER_THAN_EQUAL, literal(2), literal(1)),
             literal(2),
             literal(1)
         ));
@@ -141,24 +118,63 @@ public class IntermediateGeneratorTest {
                                 ))))))));
     }
 
+    @Test
+    public void shouldApplyStrictArgumentEagerly() {
+        compile(
+            "module scotch.test",
+            "isFive :: Int -> Bool",
+            "isFive n = n == 5",
+            "run = isFive (2 + 3)"
+        );
+        shouldHaveValue("scotch.test.run", call(emptyList(),
+            staticMethod("scotch/test/$$Module", "isFive$direct", sig(Callable.class, Callable.class)),
+            asList(primitive(emptyList(), INT_ADD, literal(2), literal(3))),
+            asList(true)));
+    }
+
+    @Test
+    public void shouldApplyLazyArgumentLazily() {
+        compile(
+            "module scotch.test",
+            "first :: Int -> Int -> Int",
+            "first a b = a",
+            "run = first 1 (2 + 3)"
+        );
+        shouldHaveValue("scotch.test.run", call(emptyList(),
+            staticMethod("scotch/test/$$Module", "first$direct", sig(Callable.class, Callable.class, Callable.class)),
+            asList(literal(1), primitive(emptyList(), INT_ADD, literal(2), literal(3))),
+            asList(true, false)));
+    }
+
+    @Test
+    public void shouldApplyPartialApplicationOfKnownFunction() {
+        compile(
+            "module scotch.test",
+            "first :: Int -> Int -> Int",
+            "first a b = a",
+            "run = first 1"
+        );
+        shouldHaveValue("scotch.test.run", apply(emptyList(),
+            valueRef("scotch.test.first", staticMethod("scotch/test/$$Module", "first", sig(Callable.class))),
+            literal(1)));
+    }
+
     @Test
     public void shouldGenerateEmptyListEquals() {
         compile(
             "module scotch.test",
             "bothEqual? = [] == []"
         );
-        shouldHaveValue("scotch.test.(bothEqual?)", apply(emptyList(),
-            apply(emptyList(),
-                apply(emptyList(),
-                    valueRef(
-                        "scotch.data.eq.(==)",
-                        staticMethod("scotch/data/eq/Eq", "eq", sig(Applicable.class))),
-                    instanceRef("scotch.data.eq.Eq", "scotch.data.list", sum("scotch.data.list.[]", asList(sum("scotch.data.list.[]"))),
-                        staticMethod("scotch/data/list/EqList", "instance", sig(Callable.class)))),
+        shouldHaveValue("scotch.test.(bothEqual?)", dispatch(emptyList(),
+            staticMethod("scotch/data/eq/Eq", "eq", sig(Applicable.class)),
+            "==",
+            Optional.of(staticMethod("scotch/data/list/EqList", "instance", sig(Callable.class))),
+            asList(
+                valueRef("scotch.data.list.[]",
+                    staticMethod("scotch/data/list/ConsList", "empty", sig(Callable.class))),
                 valueRef("scotch.data.list.[]",
                     staticMethod("scotch/data/list/ConsList", "empty", sig(Callable.class)))),
-            valueRef("scotch.data.list.[]",
-                staticMethod("scotch/data/list/ConsList", "empty", sig(Callable.class)))));
+            asList(false, false)));
     }
 
     @Test
@@ -212,7 +228,7 @@ public class IntermediateGeneratorTest {
         );
         shouldHaveValue("scotch.test.second", function(emptyList(), "#0", conditional(
             instanceOf(variable("#0"), "scotch/data/tuple/Tuple2$Tuple2Data"),
-            assign("b", access(asList("#0"), variable("#0"), "_1", "get_1"), variable("b")),
+            assign("b", access(asList("#0"), variable("#0"), "_1", "get_1", "scotch/data/tuple/Tuple2$Tuple2Data"), variable("b")),
             raise("Incomplete match")
         )));
     }
@@ -229,8 +245,8 @@ public class IntermediateGeneratorTest {
                     valueRef("scotch.data.bool.(&&)",
                         staticMethod("scotch/data/bool/Bool", "and", sig(Applicable.class))),
                     instanceOf(variable("#0"), "scotch/data/tuple/Tuple2$Tuple2Data")),
-                instanceOf(access(asList("#0"), variable("#0"), "_1", "get_1"), "scotch/data/tuple/Tuple2$Tuple2Data")),
-            assign("c", access(asList("#0"), access(asList("#0"), variable("#0"), "_1", "get_1"), "_1", "get_1"), variable("c")),
+                instanceOf(access(asList("#0"), variable("#0"), "_1", "get_1", "scotch/data/tuple/Tuple2$Tuple2Data"), "scotch/data/tuple/Tuple2$Tuple2Data")),
+            assign("c", access(asList("#0"), access(asList("#0"), variable("#0"), "_1", "get_1", "scotch/data/tuple/Tuple2$Tuple2Data"), "_1", "get_1", "scotch/data/tuple/Tuple2$Tuple2Data"), variable("c")),
             raise("Incomplete match")
         )));
     }
@@ -0,0 +1,76 @@
+package scotch.compiler.parser;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.scanner.Token.TokenKind.DOT;
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+import static scotch.compiler.scanner.Token.TokenKind.ID;
+import static scotch.compiler.scanner.Token.TokenKind.INT;
+import static scotch.compiler.scanner.Token.TokenKind.SEMICOLON;
+
+import java.net.URI;
+import org.apache.commons.lang.StringUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import scotch.compiler.scanner.Scanner;
+
+public class LookAheadScannerTest {
+
+    @Rule public final TestName testName = new TestName();
+
+    @Test
+    public void shouldIdentifySpacedDotAsCompose() {
+        LookAheadScanner scanner = scan("f . g");
+        assertThat(scanner.peekAt(1).getKind(), is(ID));
+        assertThat(scanner.peekAt(1).getValue(), is("."));
+    }
+
+    @Test
+    public void shouldKeepDotBetweenQualifiedNames() {
+        LookAheadScanner scanner = scan("scotch.data");
+        scanner.nextToken();
+        assertThat(scanner.nextToken().getKind(), is(DOT));
+    }
+
+    @Test
+    public void shouldIdentifyComposeAfterItsOperandsAreConsumed() {
+        LookAheadScanner scanner = scan("f . g");
+        scanner.nextToken();
+        assertThat(scanner.nextToken().getKind(), is(ID));
+        assertThat(scanner.nextToken().getValue(), is("g"));
+    }
+
+    @Test
+    public void shouldPeekFarAhead() {
+        LookAheadScanner scanner = scan(StringUtils.repeat("1 ", 100));
+        assertThat(scanner.peekAt(99).getValue(), is(1));
+        assertThat(scanner.peekAt(100).getKind(), is(SEMICOLON));
+        for (int i = 0; i < 100; i++) {
+            assertThat(scanner.nextToken().getKind(), is(INT));
+        }
+        assertThat(scanner.nextToken().getKind(), is(SEMICOLON));
+    }
+
+    @Test
+    public void shouldStayAtEndOfFile() {
+        LookAheadScanner scanner = scan("x");
+        scanner.nextToken();
+        scanner.nextToken();
+        assertThat(scanner.nextToken().getKind(), is(EOF));
+        assertThat(scanner.nextToken().getKind(), is(EOF));
+        assertThat(scanner.peekAt(5).getKind(), is(EOF));
+    }
+
+    @Test
+    public void shouldTrackPreviousPosition() {
+        LookAheadScanner scanner = scan("abc def");
+        scanner.nextToken();
+        assertThat(scanner.getPreviousPosition().getColumn(), is(4));
+        assertThat(scanner.getPosition().getColumn(), is(5));
+    }
+
+    private LookAheadScanner scan(String... lines) {
+        return new LookAheadScanner(Scanner.forString(URI.create("test://" + testName.getMethodName()), lines));
+    }
+}
@@ -2,9 +2,11 @@ package scotch.compiler.scanner;
 
 import static java.lang.String.join;
 import static java.lang.System.lineSeparator;
+import static org.apache.commons.lang.StringUtils.repeat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static scotch.compiler.scanner.Token.TokenKind.ARROW;
 import static scotch.compiler.scanner.Token.TokenKind.BACKSLASH;
@@ -251,6 +253,27 @@ public class DefaultScannerTest {
         assertThat(firstFrom("\"octal: '\\100'\""), equalTo(token(STRING, "octal: '@'")));
     }
 
+    @Test
+    public void shouldScanStringWithMixedEscapes() {
+        assertThat(firstFrom("\"\\\\ \\uuu0041\\7\\477 \\'\""), equalTo(token(STRING, "\\ A\7'7 '")));
+    }
+
+    @Test
+    public void shouldScanLongStringAndIdentifier() {
+        String word = repeat("word", 50_000);
+        Scanner scanner = scan(word + " \"" + word + "\"");
+        assertThat(scanner.nextToken().getValue(), equalTo(word));
+        assertThat(scanner.nextToken(), equalTo(token(STRING, word)));
+    }
+
+    @Test
+    public void shouldShareTextOfRepeatedIdentifiers() {
+        Scanner scanner = scan("value + value");
+        Object first = scanner.nextToken().getValue();
+        scanner.nextToken();
+        assertThat(scanner.nextToken().getValue(), sameInstance(first));
+    }
+
     @Test
     public void shouldSkipLineComment() {
         Token token = firstFrom(
@@ -0,0 +1,73 @@
+package scotch.compiler.scanner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedInputTest {
+
+    @Rule public final TemporaryFolder   folder    = new TemporaryFolder();
+    @Rule public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldReadAsciiText() throws IOException {
+        assertThat(map("module scotch.test\n\nfn x = x + 1\n").toString(), is("module scotch.test\n\nfn x = x + 1\n"));
+    }
+
+    @Test
+    public void shouldAddMissingTrailingNewline() throws IOException {
+        MappedInput input = map("fn x = x");
+        assertThat(input.length(), is(9));
+        assertThat(input.charAt(8), is('\n'));
+    }
+
+    @Test
+    public void shouldReadEmptyFileAsNewline() throws IOException {
+        assertThat(map("").toString(), is("\n"));
+    }
+
+    @Test
+    public void shouldDecodeMultiByteCharactersAcrossBlocks() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < 300_000; i++) {
+            builder.append("x").append(i).append(" = \"é€😀\"\n");
+        }
+        String text = builder.toString();
+        MappedInput input = map(text);
+        assertThat(input.length(), is(text.length()));
+        assertThat(input.toString(), equalTo(text));
+        for (int i = text.length() - 1; i >= 0; i -= 997) {
+            assertThat(input.charAt(i), is(text.charAt(i)));
+        }
+    }
+
+    @Test
+    public void shouldGiveSubSequence() throws IOException {
+        assertThat(map("fn été = 2\n").subSequence(3, 6).toString(), is("été"));
+    }
+
+    @Test
+    public void shouldThrowWhenSourceIsMalformed() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[] { 'a', ' ', '=', ' ', (byte) 0xC3, '\n' });
+        exception.expect(ScanException.class);
+        exception.expectMessage(containsString("Malformed UTF-8 at byte 4"));
+        MappedInput.map(file).charAt(0);
+    }
+
+    private MappedInput map(String text) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, text.getBytes(UTF_8));
+        return MappedInput.map(file);
+    }
+}
@@ -0,0 +1,91 @@
+package scotch.compiler.syntax.scope;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static scotch.compiler.util.TestUtil.intType;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.type.Types.t;
+import static scotch.symbol.type.Types.var;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import scotch.symbol.SymbolResolver;
+import scotch.symbol.type.VariableType;
+import scotch.symbol.util.DefaultSymbolGenerator;
+
+public class DefaultTypeScopeTest {
+
+    private DefaultTypeScope scope;
+
+    @Before
+    public void setUp() {
+        scope = new DefaultTypeScope(new DefaultSymbolGenerator(), mock(SymbolResolver.class));
+    }
+
+    @Test
+    public void shouldFollowLongChainOfVariables() {
+        for (int i = 0; i < 10000; i++) {
+            scope.bind(t(i), t(i + 1));
+        }
+        scope.bind(t(10000), intType());
+        assertThat(scope.getTarget(t(0)), is(intType()));
+        assertThat(scope.getTarget(t(5000)), is(intType()));
+    }
+
+    @Test
+    public void shouldFollowChainAfterItsEndIsBound() {
+        scope.bind(t(0), t(1));
+        scope.bind(t(1), t(2));
+        assertThat(scope.getTarget(t(0)), is(t(2)));
+
+        scope.bind(t(2), intType());
+        assertThat(scope.getTarget(t(0)), is(intType()));
+        assertThat(scope.getTarget(t(1)), is(intType()));
+    }
+
+    @Test
+    public void shouldNotBindUnboundVariable() {
+        scope.bind(t(0), t(1));
+        assertThat(scope.isBound(t(0)), is(true));
+        assertThat(scope.isBound(t(1)), is(false));
+        assertThat(scope.getTarget(t(1)), is(t(1)));
+    }
+
+    @Test
+    public void shouldFindBindingOfVariableWithContext() {
+        VariableType a = var("a", asList("scotch.data.eq.Eq"));
+        scope.bind(a, t(1));
+        scope.bind(t(1), intType());
+        assertThat(scope.isBound(var("a")), is(true));
+        assertThat(scope.getTarget(a), is(intType()));
+        assertThat(scope.getTarget(var("a")), is(intType()));
+    }
+
+    @Test
+    public void shouldKeepContextOfVariableAtEndOfChain() {
+        scope.bind(t(0), t(1));
+        scope.bind(t(1), var("b", asList("scotch.data.eq.Eq")));
+        assertThat(scope.getTarget(t(0)), is(var("b", asList("scotch.data.eq.Eq"))));
+    }
+
+    @Test
+    public void shouldExtendContextOfVariableWhateverContextItCarries() {
+        scope.extendContext(var("a", asList("scotch.data.eq.Eq")), ImmutableSet.of(symbol("scotch.data.num.Num")));
+        assertThat(scope.getContext(var("a")), is(ImmutableSet.of(symbol("scotch.data.num.Num"))));
+        assertThat(scope.getContext(var("a", asList("scotch.data.eq.Eq"))), is(ImmutableSet.of(
+            symbol("scotch.data.num.Num"),
+            symbol("scotch.data.eq.Eq")
+        )));
+    }
+
+    @Test
+    public void shouldSpecializeVariableWhateverContextItCarries() {
+        scope.specialize(var("a", asList("scotch.data.eq.Eq")));
+        assertThat(scope.isGeneric(var("a")), is(false));
+        scope.generalize(var("a"));
+        assertThat(scope.isGeneric(var("a", asList("scotch.data.eq.Eq"))), is(true));
+    }
+}
@@ -14,9 +14,11 @@ import java.util.Optional;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.experimental.categories.Category;
 import org.junit.rules.TestName;
 import scotch.compiler.ClassLoaderResolver;
 import scotch.compiler.error.CompileException;
+import scotch.compiler.util.SlowTest;
 import scotch.compiler.util.TestUtil;
 import scotch.data.either.Either.Left;
 import scotch.data.list.ConsList;
@@ -497,6 +499,67 @@ public class BytecodeGeneratorTest {
         assertThat(fiveIsTrue, is(true));
     }
 
+    @Test
+    public void shouldEvaluateStrictArgumentsEagerly() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "sumTo :: Int -> Int -> Int",
+            "sumTo acc n = if n == 0 then acc else sumTo (acc + n) (n - 1)",
+            "run = sumTo 0 100"
+        );
+        assertThat(result, is(5050));
+    }
+
+    @Test
+    public void shouldNotEvaluateLazyArguments() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "first :: Int -> Int -> Int",
+            "first a b = a",
+            "run = first 1 (raise \"Oops!\")"
+        );
+        assertThat(result, is(1));
+    }
+
+    @Test
+    public void shouldCallSaturatedFunctionDirectly() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "add3 :: Int -> Int -> Int -> Int",
+            "add3 a b c = a + b + c",
+            "run = add3 1 2 3"
+        );
+        assertThat(result, is(6));
+    }
+
+    @Test
+    public void shouldApplyPartiallyAppliedFunctionThroughCurriedForm() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "add3 :: Int -> Int -> Int -> Int",
+            "add3 a b c = a + b + c",
+            "addTwo = add3 1 1",
+            "run = addTwo 3"
+        );
+        assertThat(result, is(5));
+    }
+
+    @Test
+    public void shouldApplyRemainingArgumentsToResultOfDirectCall() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "adder :: Int -> (Int -> Int)",
+            "adder a = \\b -> a + b",
+            "run = adder 2 3"
+        );
+        assertThat(result, is(5));
+    }
+
     @Test(expected = RaisedException.class)
     public void shouldRaiseError() {
         exec(
@@ -555,6 +618,24 @@ public class BytecodeGeneratorTest {
         assertThat(greaterThan, is(false));
     }
 
+    @Test
+    public void shouldEvaluateNestedIntArithmetic() {
+        boolean result = exec(
+            "module scotch.test",
+            "run = if 3 * 4 - 2 == 10 then 1 < 2 else False"
+        );
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void shouldEvaluateNestedDoubleArithmetic() {
+        boolean equal = exec(
+            "module scotch.test",
+            "run = 1.5 * 2.0 - 0.5 /= 2.5"
+        );
+        assertThat(equal, is(false));
+    }
+
     @Test
     public void shouldConcatenateStrings() {
         String result = exec(
@@ -576,6 +657,18 @@ public class BytecodeGeneratorTest {
         assertThat(result, is("value: 2.2"));
     }
 
+    @Test
+    public void shouldDispatchToInstancesPassedAsArguments() {
+        String result = exec(
+            "module scotch.test",
+            "import scotch.text.show",
+            "describe :: (Show a) => a -> String",
+            "describe x = \"<\" ++ show x ++ \">\"",
+            "run = describe 1 ++ describe 2.5 ++ describe 3"
+        );
+        assertThat(result, is("<1><2.5><3>"));
+    }
+
     @Test
     public void shouldShowInt() {
         String result = exec(
@@ -596,6 +689,91 @@ public class BytecodeGeneratorTest {
         assertThat(result, is("value: [1, 2, 3]"));
     }
 
+    @Test
+    public void shouldLoopOnSelfTailCall() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "countDown :: Int -> Int -> Int",
+            "countDown acc n = if n == 0",
+            "    then acc",
+            "    else countDown (acc + 1) (n - 1)",
+            "run = countDown 0 1000000"
+        );
+        assertThat(result, is(1000000));
+    }
+
+    @Test
+    public void shouldTakeLengthOfLongListInConstantStack() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "build :: Int -> [Int] -> [Int]",
+            "build n acc = if n == 0",
+            "    then acc",
+            "    else build (n - 1) (n : acc)",
+            "",
+            "len :: Int -> [a] -> Int",
+            "len acc [] = acc",
+            "len acc (_:xs) = len (acc + 1) xs",
+            "",
+            "run = len 0 (build 1000000 [])"
+        );
+        assertThat(result, is(1000000));
+    }
+
+    @Test
+    @Category(SlowTest.class)
+    public void shouldTakeLengthOfVeryLongListInConstantStack() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "build :: Int -> [Int] -> [Int]",
+            "build n acc = if n == 0",
+            "    then acc",
+            "    else build (n - 1) (n : acc)",
+            "",
+            "len :: Int -> [a] -> Int",
+            "len acc [] = acc",
+            "len acc (_:xs) = len (acc + 1) xs",
+            "",
+            "run = len 0 (build 50000000 [])"
+        );
+        assertThat(result, is(50000000));
+    }
+
+    @Test
+    public void shouldNotLoopOnSelfTailCallUntilItIsDemanded() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "spin :: Int -> Int",
+            "spin n = spin (n + 1)",
+            "",
+            "len :: Int -> [a] -> Int",
+            "len acc [] = acc",
+            "len acc (_:xs) = len (acc + 1) xs",
+            "",
+            "run = len 0 [1, spin 0, 3]"
+        );
+        assertThat(result, is(3));
+    }
+
+    @Test
+    public void shouldNotLoopOnSelfCallOutsideTailPosition() {
+        int result = exec(
+            "module scotch.test",
+            "",
+            "from :: Int -> [Int]",
+            "from n = n : from (n + 1)",
+            "",
+            "second (_:x:_) = x",
+            "",
+            "run = second (from 7)"
+        );
+        assertThat(result, is(8));
+    }
+
     @SuppressWarnings("unchecked")
     private <A> A exec(String... lines) {
         try {
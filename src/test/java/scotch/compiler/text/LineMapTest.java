@@ -0,0 +1,67 @@
+package scotch.compiler.text;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import org.junit.Test;
+
+public class LineMapTest {
+
+    private static final String text = "first\n\tsecond\n\nfourth";
+
+    @Test
+    public void shouldFindLineOfOffset() {
+        LineMap lines = map();
+        assertThat(lines.getLine(0), is(1));
+        assertThat(lines.getLine(5), is(1));
+        assertThat(lines.getLine(6), is(2));
+        assertThat(lines.getLine(14), is(3));
+        assertThat(lines.getLine(15), is(4));
+        assertThat(lines.getLine(21), is(4));
+    }
+
+    @Test
+    public void shouldCountTabAsEightColumns() {
+        LineMap lines = map();
+        assertThat(lines.getColumn(6), is(1));
+        assertThat(lines.getColumn(7), is(9));
+        assertThat(lines.getColumn(8), is(10));
+    }
+
+    @Test
+    public void shouldIgnoreLinesAddedTwice() {
+        LineMap lines = map();
+        lines.addLine(6);
+        assertThat(lines.getLine(15), is(4));
+    }
+
+    @Test
+    public void shouldBuildLocation() {
+        assertThat(map().getLocation(7, 13), is(SourceLocation.source("test://lines", SourcePoint.point(7, 2, 9), SourcePoint.point(13, 2, 15))));
+    }
+
+    @Test
+    public void shouldFindLineAndColumnOfPointWhenAsked() {
+        SourcePoint point = map().getPoint(8);
+        assertThat(point.getLine(), is(2));
+        assertThat(point.getColumn(), is(10));
+        assertThat(point, is(SourcePoint.point(8, 2, 10)));
+    }
+
+    @Test
+    public void shouldExtendLocationByOffset() {
+        LineMap lines = map();
+        assertThat(lines.getLocation(0, 5).extend(lines.getLocation(15, 21)), is(lines.getLocation(0, 21)));
+    }
+
+    private LineMap map() {
+        LineMap lines = new LineMap(URI.create("test://lines"), text);
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.addLine(i + 1);
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,8 @@
+package scotch.compiler.util;
+
+/**
+ * Marks tests which need more time or heap than the default suite allows. They are excluded from {@code test} and
+ * run by {@code slowTest}.
+ */
+public interface SlowTest {
+}
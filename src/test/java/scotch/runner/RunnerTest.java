@@ -0,0 +1,37 @@
+package scotch.runner;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.util.Optional;
+import org.junit.Test;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.Compiler;
+
+public class RunnerTest {
+
+    @Test
+    public void shouldRunMainAfterReportingStrictness() throws Exception {
+        assertThat(run("--module", "scotch.test", "--strictness"), is(5));
+    }
+
+    @Test
+    public void shouldRunMain() throws Exception {
+        assertThat(run("--module", "scotch.test"), is(5));
+    }
+
+    private Object run(String... args) throws Exception {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+        Object[] result = new Object[1];
+        new Runner(args).printHelpOr(runner -> result[0] = runner.run(resolver, URI.create("test://runner"),
+            "module scotch.test",
+            "",
+            "add :: Int -> Int -> Int",
+            "add x y = x + y",
+            "",
+            "main = add 2 3"
+        ));
+        return result[0];
+    }
+}
@@ -0,0 +1,70 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.AccessorSupport.access;
+import static scotch.runtime.RuntimeSupport.box;
+
+import org.junit.Test;
+
+public class AccessorSupportTest {
+
+    @Test
+    public void shouldGetField() {
+        assertThat(access(box(new Toast("Rye", 2)), "getKind").call(), is("Rye"));
+    }
+
+    @Test
+    public void shouldGetFieldsFromDifferentValuesOfSameClass() {
+        assertThat(access(box(new Toast("Rye", 2)), "getBurnLevel").call(), is(2));
+        assertThat(access(box(new Toast("Wheat", 4)), "getBurnLevel").call(), is(4));
+    }
+
+    @Test
+    public void shouldEvaluateTargetOnce() {
+        int[] evaluations = { 0 };
+        Callable<Toast> target = () -> {
+            evaluations[0]++;
+            return new Toast("Rye", 2);
+        };
+        access(target, "getKind").call();
+        assertThat(evaluations[0], is(1));
+    }
+
+    @Test(expected = RaisedException.class)
+    public void shouldNotWrapRaisedException_whenGetterRaises() {
+        access(box(new Toast("Rye", 2)), "getCrust").call();
+    }
+
+    @Test(expected = NoSuchFieldError.class)
+    public void shouldNotWrapError_whenGetterFails() {
+        access(box(new Toast("Rye", 2)), "getCrumbs").call();
+    }
+
+    public static class Toast {
+
+        private final Callable<String>  kind;
+        private final Callable<Integer> burnLevel;
+
+        public Toast(String kind, int burnLevel) {
+            this.kind = box(kind);
+            this.burnLevel = box(burnLevel);
+        }
+
+        public Callable getBurnLevel() {
+            return burnLevel;
+        }
+
+        public Callable getCrumbs() {
+            throw new NoSuchFieldError("crumbs");
+        }
+
+        public Callable getCrust() {
+            throw new RaisedException("No crust");
+        }
+
+        public Callable getKind() {
+            return kind;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.DispatchSupport.bootstrapDictionary;
+import static scotch.runtime.DispatchSupport.bootstrapInstance;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import scotch.symbol.Member;
+
+public class DispatchSupportTest {
+
+    private static final int DEPTH = 100_000;
+
+    @Test
+    public void shouldForceDeepChainThroughDictionaryDispatch() throws ReflectiveOperationException {
+        MethodHandle next = dictionarySite();
+        Callable<Counter> dictionary = callable(Increment::new);
+        Callable<Integer> chain = box(0);
+        for (int i = 0; i < DEPTH; i++) {
+            Callable<Integer> previous = chain;
+            chain = flatCallable(() -> next(next, dictionary, previous));
+        }
+        assertThat(chain.call(), is(DEPTH));
+    }
+
+    @Test
+    public void shouldForceDeepChainThroughInstanceDispatchLinkedWhileForcing() {
+        MethodHandle next = instanceSite();
+        Callable<Integer> chain = box(0);
+        for (int i = 0; i < DEPTH; i++) {
+            Callable<Integer> previous = chain;
+            chain = i < DEPTH / 2
+                ? flatCallable(() -> next(next, previous))
+                : callable(() -> previous.call() + 1);
+        }
+        assertThat(chain.call(), is(DEPTH));
+    }
+
+    @Test
+    public void shouldNotForceInstanceWhileBootstrapping() {
+        int before = Increment.created.get();
+        MethodHandle next = instanceSite();
+        assertThat(Increment.created.get(), is(before));
+        assertThat(next(next, box(1)).call(), is(2));
+        assertThat(Increment.created.get(), is(before + 1));
+    }
+
+    private MethodHandle dictionarySite() throws ReflectiveOperationException {
+        return bootstrapDictionary(
+            MethodHandles.lookup(), "next", methodType(Callable.class, Callable.class, Callable.class),
+            Counter.class, "next", "next", "()Lscotch/runtime/Applicable;"
+        ).dynamicInvoker();
+    }
+
+    private MethodHandle instanceSite() {
+        try {
+            return bootstrapInstance(
+                MethodHandles.lookup(), "next", methodType(Callable.class, Callable.class),
+                Counter.class, "next", "next", "()Lscotch/runtime/Applicable;",
+                Increment.class, "instance", "()Lscotch/runtime/Callable;"
+            ).dynamicInvoker();
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Callable<Integer> next(MethodHandle instanceSite, Callable<Integer> value) {
+        try {
+            return (Callable<Integer>) instanceSite.invokeExact((Callable) value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Callable<Integer> next(MethodHandle dictionarySite, Callable<Counter> dictionary, Callable<Integer> value) {
+        try {
+            return (Callable<Integer>) dictionarySite.invokeExact((Callable) dictionary, (Callable) value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    public interface Counter {
+
+        @Member("next")
+        Callable<Integer> next(Callable<Integer> value);
+    }
+
+    public static class Increment implements Counter {
+
+        private static final AtomicInteger created = new AtomicInteger();
+
+        public static Callable<Counter> instance() {
+            return callable(Increment::new);
+        }
+
+        public Increment() {
+            created.incrementAndGet();
+        }
+
+        @Override
+        public Callable<Integer> next(Callable<Integer> value) {
+            return box(value.call() + 1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.AccessorSupport.access;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.intCallable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class EvaluatorTest {
+
+    private static final int DEPTH = 1_000_000;
+
+    @Test
+    public void shouldForceDeepChainOfThunks() {
+        Callable<Integer> chain = box(0);
+        for (int i = 0; i < DEPTH; i++) {
+            Callable<Integer> previous = chain;
+            chain = callable(() -> previous.call() + 1);
+        }
+        assertThat(chain.call(), is(DEPTH));
+    }
+
+    @Test
+    public void shouldForceDeepChainOfIntThunks() {
+        Callable<Integer> chain = box(0);
+        for (int i = 0; i < DEPTH; i++) {
+            Callable<Integer> previous = chain;
+            chain = intCallable(() -> unboxInt(previous) + 1);
+        }
+        assertThat(unboxInt(chain), is(DEPTH));
+    }
+
+    @Test
+    public void shouldForceDeepChainOfThunksReturningThunks() {
+        Callable<Object> chain = box((Object) 0);
+        for (int i = 0; i < DEPTH; i++) {
+            Callable<Object> previous = chain;
+            chain = callable(() -> previous);
+        }
+        assertThat(chain.call(), is(0));
+    }
+
+    @Test
+    public void shouldEvaluateEachThunkOnceWhenNotInterrupted() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<Integer> shared = callable(() -> {
+            evaluations.incrementAndGet();
+            return 1;
+        });
+        Callable<Integer> sum = callable(() -> shared.call() + shared.call());
+        assertThat(sum.call(), is(2));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void shouldNotCatchStackOverflowFromCodeWhichDoesNotForceThunks() {
+        callable(() -> recurse(0)).call();
+    }
+
+    @Test
+    public void shouldForceAgainAfterStackOverflow() {
+        try {
+            callable(() -> recurse(0)).call();
+        } catch (StackOverflowError error) {
+            // expected
+        }
+        assertThat(callable(() -> 3).call(), is(3));
+    }
+
+    @Test
+    public void shouldForceDeepChainThroughAccessors() {
+        Callable<Integer> chain = box(0);
+        for (int i = 0; i < DEPTH; i++) {
+            chain = access(box(new Counter(chain)), "getNext");
+        }
+        assertThat(chain.call(), is(DEPTH));
+    }
+
+    private static int recurse(int depth) {
+        return recurse(depth + 1) + 1;
+    }
+
+    public static class Counter {
+
+        private final Callable<Integer> previous;
+
+        public Counter(Callable<Integer> previous) {
+            this.previous = previous;
+        }
+
+        public Callable getNext() {
+            return box(previous.call() + 1);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class LockFreeThunkTest {
+
+    @Test
+    public void shouldEvaluateOnce_whenForcedRepeatedly() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<Integer> thunk = new LockFreeThunk<Integer>() {
+            @Override
+            protected Integer evaluate() {
+                return evaluations.incrementAndGet();
+            }
+        };
+        thunk.call();
+        thunk.call();
+        assertThat(thunk.call(), is(1));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldNormalizeNestedCallables() {
+        Callable<Object> thunk = new LockFreeThunk<Object>() {
+            @Override
+            protected Object evaluate() {
+                return box(box("Bananas!"));
+            }
+        };
+        assertThat(thunk.call(), is("Bananas!"));
+    }
+
+    @Test(expected = RaisedException.class)
+    public void shouldRaise_whenThunkForcesItself() {
+        AtomicReference<Callable<Integer>> self = new AtomicReference<>();
+        self.set(new LockFreeThunk<Integer>() {
+            @Override
+            protected Integer evaluate() {
+                return self.get().call() + 1;
+            }
+        });
+        self.get().call();
+    }
+
+    @Test
+    public void shouldReevaluate_whenEvaluationFailed() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<Integer> thunk = new LockFreeThunk<Integer>() {
+            @Override
+            protected Integer evaluate() {
+                if (evaluations.incrementAndGet() == 1) {
+                    throw new RaisedException("Oops");
+                } else {
+                    return 2;
+                }
+            }
+        };
+        try {
+            thunk.call();
+        } catch (RaisedException exception) {
+            // expected
+        }
+        assertThat(thunk.call(), is(2));
+    }
+
+    @Test
+    public void shouldReadPublishedValue_whenSupplierWasReleasedDuringConcurrentEvaluation() throws InterruptedException {
+        AtomicInteger evaluations = new AtomicInteger();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch evaluatingConcurrently = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicReference<Thread> concurrentThread = new AtomicReference<>();
+        Callable<Object> thunk = new LockFreeSuppliedThunk<Object>(() -> {
+            evaluations.incrementAndGet();
+            claimed.countDown();
+            await(evaluatingConcurrently);
+            return new Object();
+        }) {
+            @Override
+            protected Object evaluate() {
+                if (Thread.currentThread() == concurrentThread.get()) {
+                    evaluatingConcurrently.countDown();
+                    await(released);
+                }
+                return super.evaluate();
+            }
+
+            @Override
+            protected void release() {
+                super.release();
+                released.countDown();
+            }
+        };
+        AtomicReference<Object> firstResult = new AtomicReference<>();
+        AtomicReference<Object> secondResult = new AtomicReference<>();
+        Thread first = new Thread(() -> firstResult.set(thunk.call()));
+        Thread second = new Thread(() -> secondResult.set(thunk.call()));
+        concurrentThread.set(second);
+        first.start();
+        await(claimed);
+        second.start();
+        first.join(TimeUnit.SECONDS.toMillis(10));
+        second.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(firstResult.get(), notNullValue());
+        assertThat(secondResult.get(), sameInstance(firstResult.get()));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldGiveSameValueToEveryThread_whenForcedConcurrently() throws InterruptedException {
+        int threadCount = 8;
+        List<Callable<Object>> thunks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            thunks.add(new LockFreeSuppliedThunk<>(Object::new));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<List<Object>> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            List<Object> values = new ArrayList<>();
+            results.add(values);
+            threads.add(new Thread(() -> {
+                await(start);
+                thunks.forEach(thunk -> values.add(thunk.call()));
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        for (int i = 0; i < thunks.size(); i++) {
+            for (List<Object> values : results) {
+                assertThat(values.get(i), sameInstance(thunks.get(i).call()));
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for another thread");
+            }
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package scotch.runtime;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import scotch.data.list.ConsList;
+
+public class SuppliedThunkTest {
+
+    private static final int LIST_SIZE    = 10_000;
+    private static final int CLOSURE_SIZE = 256;
+    private static final int GC_ATTEMPTS  = 10;
+
+    @Test
+    public void shouldReleaseSupplier_whenForced() {
+        Object captured = new Object();
+        WeakReference<Object> reference = new WeakReference<>(captured);
+        Callable<Integer> thunk = new SuppliedThunk<>(captured::hashCode);
+        thunk.call();
+        captured = null;
+        collectGarbage(asList(reference));
+        assertThat(reference.get() == null, is(true));
+    }
+
+    @Test
+    public void shouldEvaluateAgain_whenNormalizationFails() {
+        AtomicInteger attempts = new AtomicInteger();
+        Callable<Object> failing = () -> {
+            throw new IllegalStateException();
+        };
+        Callable<Object> thunk = new SuppliedThunk<>(() -> attempts.incrementAndGet() == 1 ? failing : 3);
+        try {
+            thunk.call();
+            fail("Expected normalization to fail");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        assertThat(thunk.call(), is(3));
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test
+    public void shouldNotRetainClosures_whenListIsForced() {
+        List<WeakReference<?>> closures = new ArrayList<>();
+        Callable<ConsList<Integer>> list = range(0, LIST_SIZE, closures);
+        assertThat(force(list), is(LIST_SIZE));
+        collectGarbage(closures);
+        assertThat(closures.stream().filter(closure -> closure.get() != null).count(), is(0L));
+        assertThat(force(list), is(LIST_SIZE));
+    }
+
+    private void collectGarbage(List<? extends WeakReference<?>> references) {
+        for (int i = 0; i < GC_ATTEMPTS && references.stream().anyMatch(reference -> reference.get() != null); i++) {
+            System.gc();
+        }
+    }
+
+    private int force(Callable<ConsList<Integer>> list) {
+        int length = 0;
+        ConsList<Integer> current = list.call();
+        while (current instanceof ConsList.ConsCell) {
+            ConsList.ConsCell<Integer> cell = (ConsList.ConsCell<Integer>) current;
+            cell.getHead().call();
+            current = cell.getTail().call();
+            length++;
+        }
+        return length;
+    }
+
+    private Callable<ConsList<Integer>> range(int from, int to, List<WeakReference<?>> closures) {
+        byte[] closureState = new byte[CLOSURE_SIZE];
+        closures.add(new WeakReference<>(closureState));
+        return callable(() -> {
+            int next = from + closureState[0];
+            if (next == to) {
+                return ConsList.<Integer>empty().call();
+            } else {
+                return ConsList.<Integer>cons().apply(box(next)).call().apply(range(next + 1, to, closures)).call();
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package scotch.symbol.type;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.text.SourceLocation.source;
+import static scotch.compiler.text.SourcePoint.point;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import org.junit.Test;
+import scotch.compiler.text.SourceLocation;
+
+public class TypeInternerTest {
+
+    @Test
+    public void shouldGiveSameInstanceOfTypesBuiltFromSameParts() {
+        assertThat(sum("scotch.data.maybe.Maybe", var("a")), sameInstance(sum("scotch.data.maybe.Maybe", var("a"))));
+        assertThat(fn(var("a"), sum("scotch.data.int.Int")), sameInstance(fn(var("a"), sum("scotch.data.int.Int"))));
+        assertThat(var("a", asList("scotch.data.eq.Eq")), sameInstance(var("a", asList("scotch.data.eq.Eq"))));
+    }
+
+    @Test
+    public void shouldGiveSameInstanceOfVariableWhateverOrderItsContextIsIn() {
+        assertThat(
+            var("a", asList("scotch.data.eq.Eq", "scotch.text.show.Show")),
+            sameInstance(var("a", asList("scotch.text.show.Show", "scotch.data.eq.Eq")))
+        );
+        assertThat(
+            var("a", asList("scotch.data.eq.Eq", "scotch.data.eq.Eq")),
+            sameInstance(var("a", asList("scotch.data.eq.Eq")))
+        );
+    }
+
+    @Test
+    public void shouldGiveSameInstanceWhenRebuildingType() {
+        SumType type = sum("scotch.data.maybe.Maybe", var("a"));
+        assertThat(type.withParameters(asList(var("a"))), sameInstance(type));
+    }
+
+    @Test
+    public void shouldKeepTypesWrittenInDifferentPlacesApart() {
+        SourceLocation location = source("test://interning", point(0, 1, 1), point(3, 1, 4));
+        SumType type = sum("scotch.data.int.Int");
+        SumType locatedType = type.withSourceLocation(location);
+        assertThat(locatedType, not(sameInstance(type)));
+        assertThat(locatedType.getSourceLocation(), is(location));
+        assertThat(locatedType, is(type));
+    }
+
+    @Test
+    public void shouldKeepVariablesWithDifferentContextsApart() {
+        assertThat(var("a", asList("scotch.data.eq.Eq")), not(sameInstance(var("a"))));
+        assertThat(var("a", asList("scotch.data.eq.Eq")), not(var("a")));
+    }
+}